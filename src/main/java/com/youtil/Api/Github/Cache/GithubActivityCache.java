@@ -0,0 +1,90 @@
+package com.youtil.Api.Github.Cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.youtil.Api.Github.Dto.CommitActivityResponseDTO;
+import com.youtil.Config.GithubApiProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * (사용자 ID, 날짜)별 전체 레포지토리 커밋 목록 캐시
+ * <p>
+ * 날짜는 UTC 기준이며, 이후 push로 커밋이 추가될 수 있는 오늘(UTC) 이후 날짜는 저장하지 않습니다. 어제처럼
+ * 최근 날짜도 늦게 push된 커밋이 추가될 수 있으므로 recentCacheTtl 동안만 보관합니다.
+ */
+@Component
+public class GithubActivityCache {
+
+    private final boolean enabled;
+    private final int recentDays;
+    private final Cache<String, List<CommitActivityResponseDTO.ActivityCommit>> activityCache;
+
+    // 최근 recentDays일의 커밋 목록 (짧게 보관)
+    private final Cache<String, List<CommitActivityResponseDTO.ActivityCommit>> recentActivityCache;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public GithubActivityCache(GithubApiProperties githubApiProperties,
+            MeterRegistry meterRegistry) {
+        GithubApiProperties.Activity properties = githubApiProperties.getActivity();
+        this.enabled = properties.isCacheEnabled();
+        this.recentDays = properties.getRecentDays();
+        this.activityCache = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getCacheTtl())
+                .maximumSize(properties.getCacheMaxSize())
+                .build();
+        this.recentActivityCache = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getRecentCacheTtl())
+                .maximumSize(properties.getCacheMaxSize())
+                .build();
+
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+    }
+
+    /**
+     * 캐시된 날짜의 커밋 목록을 반환합니다. 없으면 null을 반환합니다.
+     */
+    public List<CommitActivityResponseDTO.ActivityCommit> get(Long userId, LocalDate date) {
+        if (!enabled) {
+            return null;
+        }
+        List<CommitActivityResponseDTO.ActivityCommit> cached =
+                cacheFor(date).getIfPresent(keyOf(userId, date));
+        (cached != null ? hitCounter : missCounter).increment();
+        return cached;
+    }
+
+    /**
+     * 지난 날짜의 커밋 목록만 저장합니다.
+     */
+    public void put(Long userId, LocalDate date,
+            List<CommitActivityResponseDTO.ActivityCommit> commits) {
+        if (enabled && date.isBefore(LocalDate.now(ZoneOffset.UTC))) {
+            cacheFor(date).put(keyOf(userId, date), List.copyOf(commits));
+        }
+    }
+
+    private Cache<String, List<CommitActivityResponseDTO.ActivityCommit>> cacheFor(
+            LocalDate date) {
+        LocalDate recentFrom = LocalDate.now(ZoneOffset.UTC).minusDays(recentDays);
+        return date.isBefore(recentFrom) ? activityCache : recentActivityCache;
+    }
+
+    private static String keyOf(Long userId, LocalDate date) {
+        return userId + ":" + date;
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("github.activity.cache.requests")
+                .description("날짜별 전체 레포지토리 커밋 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,93 @@
+package com.youtil.Api.Github.Cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.youtil.Api.Github.Dto.GithubApiDTO;
+import com.youtil.Config.GithubApiProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Locale;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 커밋 메타데이터 캐시
+ * <p>
+ * 커밋은 변하지 않으므로 (repositoryId, sha)를 키로 파싱된 필드만 보관합니다. 존재하지 않는 커밋은
+ * 짧은 시간 동안 부정 캐시에 기록하여 재시도 시 같은 커밋을 다시 조회하지 않도록 합니다.
+ */
+@Component
+public class GithubCommitCache {
+
+    private final boolean enabled;
+    private final Cache<String, GithubApiDTO.CommitInfo> commitCache;
+    private final Cache<String, Boolean> missingCommitCache;
+
+    private final Counter hitCounter;
+    private final Counter negativeHitCounter;
+    private final Counter missCounter;
+
+    public GithubCommitCache(GithubApiProperties githubApiProperties,
+            MeterRegistry meterRegistry) {
+        GithubApiProperties.CommitCache properties = githubApiProperties.getCommitCache();
+        this.enabled = properties.isEnabled();
+        this.commitCache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxWeight())
+                .weigher((String key, GithubApiDTO.CommitInfo commit) -> weightOf(commit))
+                .build();
+        this.missingCommitCache = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getNegativeTtl())
+                .maximumSize(properties.getNegativeMaxSize())
+                .build();
+
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.negativeHitCounter = requestCounter(meterRegistry, "negative_hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+    }
+
+    /**
+     * 캐시된 커밋 정보를 반환하고, 없으면 loader로 조회합니다.
+     * loader가 빈 결과를 반환하면 존재하지 않는 커밋으로 기록하고, 오류는 캐시하지 않습니다.
+     */
+    public Mono<GithubApiDTO.CommitInfo> getOrLoad(Long repositoryId, String sha,
+            Supplier<Mono<GithubApiDTO.CommitInfo>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        String key = repositoryId + ":" + sha.toLowerCase(Locale.ROOT);
+        GithubApiDTO.CommitInfo cached = commitCache.getIfPresent(key);
+        if (cached != null) {
+            hitCounter.increment();
+            return Mono.just(cached);
+        }
+        if (missingCommitCache.getIfPresent(key) != null) {
+            negativeHitCounter.increment();
+            return Mono.empty();
+        }
+
+        missCounter.increment();
+        return loader.get()
+                .doOnNext(commit -> commitCache.put(key, commit))
+                .switchIfEmpty(Mono.fromRunnable(() -> missingCommitCache.put(key, Boolean.TRUE)));
+    }
+
+    private static int weightOf(GithubApiDTO.CommitInfo commit) {
+        int weight = 64;
+        if (commit.getFiles() != null) {
+            for (GithubApiDTO.CommitFile file : commit.getFiles()) {
+                weight += file.getFilename().length();
+                weight += file.getPatch() != null ? file.getPatch().length() : 0;
+            }
+        }
+        return weight;
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("github.commit.cache.requests")
+                .description("GitHub 커밋 메타데이터 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,76 @@
+package com.youtil.Api.Github.Cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.youtil.Api.Github.Dto.CommitSummaryResponseDTO;
+import com.youtil.Config.GithubApiProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import org.springframework.stereotype.Component;
+
+/**
+ * (레포지토리 ID, 브랜치, 작성자, 날짜)별 커밋 요약 캐시
+ * <p>
+ * 기간 커밋 요약 조회에서 이미 지난 날짜의 결과를 보관하여, 조회 기간을 늘려도 새로 포함된 날짜만 GitHub에서
+ * 조회하도록 합니다. 날짜는 UTC 기준이며 오늘(UTC) 이후 날짜는 저장하지 않습니다.
+ */
+@Component
+public class GithubCommitSummaryCache {
+
+    private final boolean enabled;
+    private final Cache<String, CommitSummaryResponseDTO.CommitSummaryResponse> summaryCache;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public GithubCommitSummaryCache(GithubApiProperties githubApiProperties,
+            MeterRegistry meterRegistry) {
+        GithubApiProperties.CommitSummary properties = githubApiProperties.getCommitSummary();
+        this.enabled = properties.isCacheEnabled();
+        this.summaryCache = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getCacheTtl())
+                .maximumSize(properties.getCacheMaxSize())
+                .build();
+
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+    }
+
+    /**
+     * 캐시된 날짜의 커밋 요약을 반환합니다. 없으면 null을 반환합니다.
+     */
+    public CommitSummaryResponseDTO.CommitSummaryResponse get(Long repositoryId, String branch,
+            String authorLogin, LocalDate date) {
+        if (!enabled) {
+            return null;
+        }
+        CommitSummaryResponseDTO.CommitSummaryResponse cached =
+                summaryCache.getIfPresent(keyOf(repositoryId, branch, authorLogin, date));
+        (cached != null ? hitCounter : missCounter).increment();
+        return cached;
+    }
+
+    /**
+     * 지난 날짜의 커밋 요약만 저장합니다.
+     */
+    public void put(Long repositoryId, String branch, String authorLogin, LocalDate date,
+            CommitSummaryResponseDTO.CommitSummaryResponse summary) {
+        if (enabled && date.isBefore(LocalDate.now(ZoneOffset.UTC))) {
+            summaryCache.put(keyOf(repositoryId, branch, authorLogin, date), summary);
+        }
+    }
+
+    private static String keyOf(Long repositoryId, String branch, String authorLogin,
+            LocalDate date) {
+        return repositoryId + ":" + authorLogin + ":" + date + ":" + branch;
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("github.commit.summary.cache.requests")
+                .description("날짜별 커밋 요약 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,268 @@
+package com.youtil.Api.Github.Cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.youtil.Config.GithubApiProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 커밋 시점 파일 내용 캐시
+ * <p>
+ * 커밋 SHA로 조회한 파일 내용은 변하지 않으므로 (repositoryId, sha, path)를 키로 힙 메모리와 디스크에
+ * 2단계로 보관합니다. 두 저장소 모두 크기 기준으로 오래 사용하지 않은 항목부터 제거합니다.
+ */
+@Component
+@Slf4j
+public class GithubContentCache {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final boolean enabled;
+    private final Cache<String, String> memoryCache;
+    private final Path diskDirectory;
+    private final long diskMaxBytes;
+
+    // 디스크 파일명 -> 크기 (접근 순서 유지, 가장 오래된 항목부터 제거)
+    private final LinkedHashMap<String, Long> diskIndex = new LinkedHashMap<>(16, 0.75f, true);
+    private long diskUsedBytes;
+
+    private final Counter memoryHitCounter;
+    private final Counter diskHitCounter;
+    private final Counter missCounter;
+
+    public GithubContentCache(GithubApiProperties githubApiProperties,
+            MeterRegistry meterRegistry) {
+        GithubApiProperties.ContentCache properties = githubApiProperties.getContentCache();
+        this.enabled = properties.isEnabled();
+        this.memoryCache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMemoryMaxBytes())
+                .weigher((String key, String value) -> key.length() + value.length())
+                .build();
+        this.diskDirectory = Paths.get(properties.getDiskDirectory());
+        this.diskMaxBytes = properties.getDiskMaxBytes();
+
+        this.memoryHitCounter = requestCounter(meterRegistry, "hit", "memory");
+        this.diskHitCounter = requestCounter(meterRegistry, "hit", "disk");
+        this.missCounter = requestCounter(meterRegistry, "miss", "none");
+        Gauge.builder("github.content.cache.memory.size", memoryCache, Cache::estimatedSize)
+                .description("힙 메모리에 보관 중인 파일 내용 수")
+                .register(meterRegistry);
+        Gauge.builder("github.content.cache.disk.bytes", this, GithubContentCache::getDiskUsedBytes)
+                .description("디스크에 보관 중인 파일 내용 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        if (enabled) {
+            loadDiskIndex();
+        }
+    }
+
+    /**
+     * 캐시된 파일 내용을 반환하고, 없으면 loader로 조회한 결과를 캐시에 저장합니다.
+     * loader가 오류나 빈 결과를 반환하면 캐시에 저장하지 않습니다.
+     */
+    public Mono<String> getOrLoad(Long repositoryId, String sha, String path,
+            Supplier<Mono<String>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        return get(repositoryId, sha, path)
+                .switchIfEmpty(Mono.defer(() -> loader.get()
+                        .doOnNext(content -> put(repositoryId, sha, path, content))));
+    }
+
+    /**
+     * 캐시된 파일 내용을 반환합니다. 메모리와 디스크 모두에 없으면 빈 결과를 반환합니다.
+     */
+    public Mono<String> get(Long repositoryId, String sha, String path) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+
+        String key = keyOf(repositoryId, sha, path);
+        String cached = memoryCache.getIfPresent(key);
+        if (cached != null) {
+            memoryHitCounter.increment();
+            return Mono.just(cached);
+        }
+
+        return Mono.fromCallable(() -> readFromDisk(key))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(content -> {
+                    diskHitCounter.increment();
+                    memoryCache.put(key, content);
+                })
+                .switchIfEmpty(Mono.fromRunnable(missCounter::increment));
+    }
+
+    /**
+     * 조회한 파일 내용을 캐시에 저장합니다. 디스크 저장은 별도 스레드에서 진행합니다.
+     */
+    public void put(Long repositoryId, String sha, String path, String content) {
+        if (enabled) {
+            store(keyOf(repositoryId, sha, path), content);
+        }
+    }
+
+    private static String keyOf(Long repositoryId, String sha, String path) {
+        return repositoryId + ":" + sha + ":" + path;
+    }
+
+    private void store(String key, String content) {
+        memoryCache.put(key, content);
+        Mono.fromRunnable(() -> writeToDisk(key, content))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(null, e -> log.warn("파일 내용 디스크 캐시 저장 실패: {}", e.getMessage()));
+    }
+
+    private String readFromDisk(String key) throws IOException {
+        String fileName = fileNameOf(key);
+        synchronized (diskIndex) {
+            if (diskIndex.get(fileName) == null) {
+                return null;
+            }
+        }
+
+        Path file = diskDirectory.resolve(fileName);
+        try {
+            return Files.readString(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            // 외부에서 파일이 삭제된 경우 인덱스에서도 제거
+            synchronized (diskIndex) {
+                Long size = diskIndex.remove(fileName);
+                if (size != null) {
+                    diskUsedBytes -= size;
+                }
+            }
+            return null;
+        }
+    }
+
+    private void writeToDisk(String key, String content) {
+        String fileName = fileNameOf(key);
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > diskMaxBytes) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(diskDirectory);
+            Path temp = diskDirectory.resolve(fileName + TEMP_SUFFIX);
+            Files.write(temp, bytes);
+            Files.move(temp, diskDirectory.resolve(fileName), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("파일 내용 디스크 캐시 저장 실패: {}", e.getMessage());
+            return;
+        }
+
+        synchronized (diskIndex) {
+            Long previous = diskIndex.put(fileName, (long) bytes.length);
+            diskUsedBytes += bytes.length - (previous != null ? previous : 0L);
+            evictDiskOverflow();
+        }
+    }
+
+    private void evictDiskOverflow() {
+        Iterator<Map.Entry<String, Long>> iterator = diskIndex.entrySet().iterator();
+        while (diskUsedBytes > diskMaxBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            iterator.remove();
+            diskUsedBytes -= eldest.getValue();
+            try {
+                Files.deleteIfExists(diskDirectory.resolve(eldest.getKey()));
+            } catch (IOException e) {
+                log.warn("디스크 캐시 항목 삭제 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 재시작 시 기존 디스크 캐시를 수정 시각 순으로 인덱스에 다시 등록합니다.
+     */
+    private void loadDiskIndex() {
+        if (!Files.isDirectory(diskDirectory)) {
+            return;
+        }
+
+        try (Stream<Path> files = Files.list(diskDirectory)) {
+            files.filter(Files::isRegularFile)
+                    .filter(file -> !file.getFileName().toString().endsWith(TEMP_SUFFIX))
+                    .sorted(Comparator.comparingLong(this::lastModifiedOf))
+                    .forEach(file -> {
+                        long size = sizeOf(file);
+                        diskIndex.put(file.getFileName().toString(), size);
+                        diskUsedBytes += size;
+                    });
+            synchronized (diskIndex) {
+                evictDiskOverflow();
+            }
+            log.info("GitHub 파일 내용 디스크 캐시 로드 완료: {}개, {} bytes", diskIndex.size(),
+                    diskUsedBytes);
+        } catch (IOException e) {
+            log.warn("GitHub 파일 내용 디스크 캐시 로드 실패: {}", e.getMessage());
+        }
+    }
+
+    private long getDiskUsedBytes() {
+        synchronized (diskIndex) {
+            return diskUsedBytes;
+        }
+    }
+
+    private long lastModifiedOf(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static String fileNameOf(String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result,
+            String tier) {
+        return Counter.builder("github.content.cache.requests")
+                .description("GitHub 파일 내용 캐시 조회 결과")
+                .tag("result", result)
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,109 @@
+package com.youtil.Api.Github.Cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.youtil.Api.Github.Client.GithubApiClient;
+import com.youtil.Api.Github.Client.GithubTokenKeys;
+import com.youtil.Api.Github.Dto.GithubApiDTO;
+import com.youtil.Config.GithubApiProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 토큰 소유자(GitHub 로그인, 사용자 ID) 캐시
+ * <p>
+ * 토큰 해시를 키로 /user 조회 결과를 일정 시간 보관하여 커밋 요약/상세 요청마다 반복되는 /user 호출을
+ * 없앱니다. 다시 로그인하면 이전 토큰의 항목은 제거하고 새 토큰의 항목을 로그인 시 받은 정보로 채웁니다.
+ */
+@Component
+public class GithubIdentityCache {
+
+    private static final String UNKNOWN_LOGIN = "unknown";
+
+    private final GithubApiClient githubApiClient;
+    private final boolean enabled;
+    private final Cache<String, GithubApiDTO.Identity> identityCache;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public GithubIdentityCache(GithubApiClient githubApiClient,
+            GithubApiProperties githubApiProperties, MeterRegistry meterRegistry) {
+        GithubApiProperties.IdentityCache properties = githubApiProperties.getIdentityCache();
+        this.githubApiClient = githubApiClient;
+        this.enabled = properties.isEnabled();
+        this.identityCache = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getTtl())
+                .maximumSize(properties.getMaxSize())
+                .build();
+
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+    }
+
+    /**
+     * 토큰 소유자의 GitHub 로그인명을 반환합니다. 조회 결과가 없으면 "unknown"을 반환합니다.
+     */
+    public Mono<String> getLogin(String token) {
+        return getIdentity(token)
+                .map(GithubApiDTO.Identity::getLogin)
+                .defaultIfEmpty(UNKNOWN_LOGIN);
+    }
+
+    /**
+     * 캐시된 토큰 소유자 정보를 반환하고, 없으면 /user를 조회하여 저장합니다.
+     */
+    public Mono<GithubApiDTO.Identity> getIdentity(String token) {
+        if (!enabled) {
+            return fetchIdentity(token);
+        }
+
+        String key = GithubTokenKeys.of(token);
+        GithubApiDTO.Identity cached = identityCache.getIfPresent(key);
+        if (cached != null) {
+            hitCounter.increment();
+            return Mono.just(cached);
+        }
+
+        missCounter.increment();
+        return fetchIdentity(token)
+                .doOnNext(identity -> identityCache.put(key, identity));
+    }
+
+    /**
+     * 로그인 시 받은 사용자 정보로 새 토큰의 항목을 채웁니다.
+     */
+    public void put(String token, String login, Long userId) {
+        if (enabled && login != null) {
+            identityCache.put(GithubTokenKeys.of(token), new GithubApiDTO.Identity(login, userId));
+        }
+    }
+
+    /**
+     * 더 이상 사용하지 않는 토큰(재로그인 전 토큰 등)의 항목을 제거합니다.
+     */
+    public void invalidate(String token) {
+        identityCache.invalidate(GithubTokenKeys.of(token));
+    }
+
+    private Mono<GithubApiDTO.Identity> fetchIdentity(String token) {
+        return githubApiClient.getAuthenticatedUser(token)
+                .filter(userInfo -> userInfo.get("login") != null)
+                .map(GithubIdentityCache::toIdentity);
+    }
+
+    private static GithubApiDTO.Identity toIdentity(Map<String, Object> userInfo) {
+        Long userId = userInfo.get("id") instanceof Number id ? id.longValue() : null;
+        return new GithubApiDTO.Identity(userInfo.get("login").toString(), userId);
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("github.identity.cache.requests")
+                .description("토큰 소유자 정보 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,107 @@
+package com.youtil.Api.Github.Cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.youtil.Api.Github.Client.GithubRequestPriority;
+import com.youtil.Config.GithubApiProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 사용자별 조직 접근 가능 레포지토리 캐시
+ * <p>
+ * 직접 콜라보레이터 레포와 팀 레포를 병합한 결과를 (사용자 ID, 조직 ID)를 키로 짧은 시간 보관합니다.
+ * 권한 변경이 늦게 반영되지 않도록 TTL은 짧게 유지합니다. 백그라운드 미리 조회로 채운 항목이 실제 사용자
+ * 요청에서 사용되었는지를 github.prefetch.entries 지표로 기록합니다.
+ */
+@Component
+public class GithubOrgRepositoryCache {
+
+    private final boolean enabled;
+    private final Cache<String, Set<Map<String, Object>>> repositoryCache;
+
+    // 백그라운드 미리 조회로 채운 뒤 아직 사용자 요청에서 사용하지 않은 키
+    private final Cache<String, Boolean> prefetchedKeys;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter prefetchUsedCounter;
+
+    public GithubOrgRepositoryCache(GithubApiProperties githubApiProperties,
+            MeterRegistry meterRegistry) {
+        GithubApiProperties.OrgRepositories properties = githubApiProperties.getOrgRepositories();
+        this.enabled = properties.isCacheEnabled();
+        this.repositoryCache = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getCacheTtl())
+                .maximumSize(properties.getCacheMaxSize())
+                .build();
+
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+
+        // 미리 조회한 항목이 사용자 요청에서 사용되었는지 기록 (적중률 = used / (used + unused))
+        this.prefetchUsedCounter = prefetchCounter(meterRegistry, "used");
+        Counter prefetchUnusedCounter = prefetchCounter(meterRegistry, "unused");
+        this.prefetchedKeys = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getCacheTtl())
+                .maximumSize(properties.getCacheMaxSize())
+                .removalListener((String key, Boolean value, RemovalCause cause) -> {
+                    if (cause.wasEvicted()) {
+                        prefetchUnusedCounter.increment();
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 캐시된 레포지토리 목록을 반환하고, 없으면 loader로 조회한 결과를 저장합니다. 오류는 캐시하지 않습니다.
+     */
+    public Mono<Set<Map<String, Object>>> getOrLoad(Long userId, Long organizationId,
+            Supplier<Mono<Set<Map<String, Object>>>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        String key = userId + ":" + organizationId;
+        return Mono.deferContextual(context -> {
+            boolean prefetch = GithubRequestPriority.isBackground(context);
+            Set<Map<String, Object>> cached = repositoryCache.getIfPresent(key);
+            if (cached != null) {
+                hitCounter.increment();
+                if (!prefetch && prefetchedKeys.asMap().remove(key) != null) {
+                    prefetchUsedCounter.increment();
+                }
+                return Mono.just(cached);
+            }
+
+            missCounter.increment();
+            return loader.get()
+                    .doOnNext(repositories -> {
+                        repositoryCache.put(key, repositories);
+                        if (prefetch) {
+                            prefetchedKeys.put(key, Boolean.TRUE);
+                        }
+                    });
+        });
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("github.org.repository.cache.requests")
+                .description("조직 접근 가능 레포지토리 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter prefetchCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("github.prefetch.entries")
+                .description("로그인 직후 미리 조회한 조직 레포 목록의 사용 여부")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
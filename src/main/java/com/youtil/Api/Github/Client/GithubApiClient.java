@@ -0,0 +1,157 @@
+package com.youtil.Api.Github.Client;
+
+import com.youtil.Common.Enums.TilMessageCode;
+import com.youtil.Config.GithubApiProperties;
+import com.youtil.Config.UpstreamResilience;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * GitHub REST API 논블로킹 클라이언트
+ * <p>
+ * 모든 호출은 Mono/Flux를 반환하며 block 하지 않습니다. GitHub 오류 응답은 서비스 전반에서 사용하는
+ * TilMessageCode 메시지의 RuntimeException으로 변환합니다.
+ */
+@Component
+@Slf4j
+public class GithubApiClient {
+
+    public static final ParameterizedTypeReference<Map<String, Object>> JSON_OBJECT =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private static final MediaType GITHUB_RAW_CONTENT =
+            MediaType.parseMediaType("application/vnd.github.raw+json");
+
+    private final WebClient webClient;
+    private final String baseUrl;
+
+    public GithubApiClient(WebClient webClient, GithubApiProperties githubApiProperties) {
+        this.webClient = webClient;
+        this.baseUrl = githubApiProperties.getBaseUrl();
+    }
+
+    /**
+     * GitHub API 주소를 붙인 전체 URL을 반환합니다.
+     */
+    public String url(String path) {
+        return baseUrl + path;
+    }
+
+    /**
+     * 단일 JSON 객체를 반환하는 GET 요청
+     *
+     * @param uriTemplate GitHub API 주소 이후의 경로 (URI 템플릿 변수 사용 가능)
+     */
+    public Mono<Map<String, Object>> getObject(String token, String apiName, String uriTemplate,
+            Object... uriVariables) {
+        return get(token, uriTemplate, uriVariables)
+                .bodyToMono(JSON_OBJECT)
+                .onErrorMap(e -> translate(e, apiName));
+    }
+
+    /**
+     * JSON 배열을 반환하는 GET 요청. 배열 원소를 하나씩 내보냅니다.
+     *
+     * @param uriTemplate GitHub API 주소 이후의 경로 (URI 템플릿 변수 사용 가능)
+     */
+    public Flux<Map<String, Object>> getList(String token, String apiName, String uriTemplate,
+            Object... uriVariables) {
+        return get(token, uriTemplate, uriVariables)
+                .bodyToFlux(JSON_OBJECT)
+                .onErrorMap(e -> translate(e, apiName));
+    }
+
+    /**
+     * 토큰 소유자의 GitHub 사용자 정보를 조회합니다.
+     */
+    public Mono<Map<String, Object>> getAuthenticatedUser(String token) {
+        return getObject(token, "사용자 정보 조회", "/user");
+    }
+
+    /**
+     * 레포지토리 ID로 레포지토리 메타데이터를 조회합니다.
+     */
+    public Mono<Map<String, Object>> getRepository(Long repositoryId, String token) {
+        return getObject(token, "레포지토리 메타데이터 조회", "/repositories/{id}", repositoryId);
+    }
+
+    /**
+     * 특정 파일의 커밋 시점 내용을 contents API로 조회합니다.
+     */
+    public Mono<String> getFileContent(String owner, String repo, String path, String ref,
+            String token) {
+        String url = url(String.format("/repos/%s/%s/contents/%s?ref=%s", owner, repo, path, ref));
+        log.debug("GitHub API 호출: 커밋 시점 파일 내용 조회 - {}", url);
+
+        // raw 미디어 타입으로 요청하면 Base64 JSON 대신 파일 내용 자체를 받음
+        return webClient.get()
+                .uri(url)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .accept(GITHUB_RAW_CONTENT)
+                .retrieve()
+                .bodyToMono(String.class);
+    }
+
+    private WebClient.ResponseSpec get(String token, String uriTemplate, Object... uriVariables) {
+        return webClient.get()
+                .uri(baseUrl + uriTemplate, uriVariables)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .retrieve();
+    }
+
+    /**
+     * WebClient 오류를 서비스 공통 메시지의 예외로 변환합니다. 이미 변환된 예외는 그대로 둡니다.
+     */
+    public static Throwable translate(Throwable e, String apiName) {
+        if (e instanceof WebClientResponseException responseException) {
+            log.error("GitHub API 호출 실패 ({}): {} - {}", apiName,
+                    responseException.getStatusCode(), responseException.getMessage());
+            return toApiException(responseException);
+        }
+        if (e instanceof WebClientRequestException) {
+            log.error("GitHub API 연결 실패 ({}): {}", apiName, e.getMessage());
+            return new RuntimeException(
+                    TilMessageCode.GITHUB_API_ERROR.getMessage() + ": " + e.getMessage());
+        }
+        if (UpstreamResilience.isRejected(e)) {
+            log.warn("GitHub API 호출 차단 ({}): {}", apiName, e.getMessage());
+            return new RuntimeException(TilMessageCode.GITHUB_API_UNAVAILABLE.getMessage());
+        }
+        return e;
+    }
+
+    /**
+     * GitHub 오류 응답 상태 코드를 TilMessageCode 메시지의 예외로 변환합니다.
+     */
+    public static RuntimeException toApiException(WebClientResponseException e) {
+        if (e.getStatusCode().is4xxClientError()) {
+            if (GithubRateLimitScheduler.isRateLimited(e)) {
+                return new RuntimeException(TilMessageCode.GITHUB_RATE_LIMIT_EXCEEDED.getMessage());
+            } else if (e.getStatusCode().value() == 401) {
+                return new RuntimeException(TilMessageCode.GITHUB_TOKEN_INVALID.getMessage());
+            } else if (e.getStatusCode().value() == 403) {
+                return new RuntimeException(TilMessageCode.GITHUB_API_PERMISSION_DENIED.getMessage());
+            } else if (e.getStatusCode().value() == 404) {
+                return new RuntimeException(TilMessageCode.GITHUB_RESOURCE_NOT_FOUND.getMessage());
+            } else if (e.getStatusCode().value() == 409) {
+                // 커밋 목록 등을 조회할 때 빈 레포지토리는 409를 반환함
+                return new RuntimeException(TilMessageCode.GITHUB_REPOSITORY_EMPTY.getMessage());
+            } else {
+                return new RuntimeException(TilMessageCode.GITHUB_INVALID_REQUEST.getMessage() + ": "
+                        + e.getStatusCode().value());
+            }
+        }
+        return new RuntimeException(TilMessageCode.GITHUB_SERVER_ERROR.getMessage() + ": "
+                + e.getStatusCode().value());
+    }
+}
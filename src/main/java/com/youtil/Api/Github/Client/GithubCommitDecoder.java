@@ -0,0 +1,205 @@
+package com.youtil.Api.Github.Client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.youtil.Api.Github.Dto.GithubApiDTO;
+import com.youtil.Config.GithubApiProperties;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * GitHub 단일 커밋 조회 응답(/repos/{owner}/{repo}/commits/{sha})을 스트리밍으로 해석하는 디코더
+ * <p>
+ * 응답 본문을 Map으로 만들지 않고 도착하는 버퍼를 Jackson 논블로킹 파서에 바로 넣어 서비스에서 사용하는
+ * 필드(sha, author.login, commit.committer.date, files[].filename/status/patch)만 남깁니다. 응답 전체를
+ * 메모리에 올리지 않으므로 코덱 최대 크기(maxInMemorySize) 제한을 받지 않으며, 파일별 패치는
+ * 설정한 길이까지만 보관합니다.
+ */
+@Component
+@Slf4j
+public class GithubCommitDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String TRUNCATED_SUFFIX = "\n... (패치가 너무 길어 이후 내용은 생략됨)";
+
+    private final int maxPatchLength;
+
+    public GithubCommitDecoder(GithubApiProperties githubApiProperties) {
+        this.maxPatchLength = githubApiProperties.getCommitDetail().getMaxPatchLength();
+    }
+
+    /**
+     * 응답 본문 버퍼를 순서대로 해석하여 CommitInfo를 만듭니다. 받은 버퍼는 해석 즉시 반환합니다.
+     */
+    public Mono<GithubApiDTO.CommitInfo> decode(Flux<DataBuffer> body) {
+        return Mono.defer(() -> {
+            CommitReader reader = new CommitReader();
+            return body
+                    .doOnNext(buffer -> {
+                        try {
+                            reader.feed(buffer);
+                        } finally {
+                            DataBufferUtils.release(buffer);
+                        }
+                    })
+                    .then(Mono.fromCallable(reader::finish))
+                    .doFinally(signal -> reader.close());
+        });
+    }
+
+    private String truncatePatch(String patch) {
+        if (maxPatchLength <= 0 || patch.length() <= maxPatchLength) {
+            return patch;
+        }
+        log.info("패치 길이 제한 초과로 일부만 사용: {}자 -> {}자", patch.length(), maxPatchLength);
+        return patch.substring(0, maxPatchLength) + TRUNCATED_SUFFIX;
+    }
+
+    /**
+     * 한 응답에 대한 파서 상태
+     * <p>
+     * 현재 위치를 루트 객체부터의 필드명 경로로 추적합니다. 배열 원소 객체는 경로에 null로 기록됩니다.
+     */
+    private class CommitReader {
+
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+
+        private final List<String> path = new ArrayList<>();
+        private String fieldName;
+
+        private String sha;
+        private String authorLogin;
+        private String committedAt;
+        private final List<GithubApiDTO.CommitFile> files = new ArrayList<>();
+
+        private String filename;
+        private String status;
+        private String patch;
+
+        private CommitReader() {
+            try {
+                this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        private void feed(DataBuffer buffer) {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            try {
+                feeder.feedInput(bytes, 0, bytes.length);
+                drain();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private GithubApiDTO.CommitInfo finish() throws IOException {
+            feeder.endOfInput();
+            drain();
+
+            return GithubApiDTO.CommitInfo.builder()
+                    .sha(sha)
+                    .authorLogin(authorLogin)
+                    .committedAt(committedAt)
+                    .files(files)
+                    .build();
+        }
+
+        private void close() {
+            try {
+                parser.close();
+            } catch (IOException e) {
+                log.debug("커밋 응답 파서 종료 실패: {}", e.getMessage());
+            }
+        }
+
+        /**
+         * 지금까지 받은 바이트로 만들 수 있는 토큰을 모두 처리합니다.
+         */
+        private void drain() throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                switch (token) {
+                    case FIELD_NAME -> fieldName = parser.currentName();
+                    case START_OBJECT, START_ARRAY -> {
+                        path.add(fieldName);
+                        fieldName = null;
+                        if (token == JsonToken.START_OBJECT && isFileEntry()) {
+                            filename = null;
+                            status = null;
+                            patch = null;
+                        }
+                    }
+                    case END_OBJECT, END_ARRAY -> {
+                        if (token == JsonToken.END_OBJECT && isFileEntry() && filename != null) {
+                            files.add(GithubApiDTO.CommitFile.builder()
+                                    .filename(filename)
+                                    .status(status)
+                                    .patch(patch != null ? patch : "")
+                                    .build());
+                        }
+                        path.remove(path.size() - 1);
+                        fieldName = null;
+                    }
+                    case VALUE_STRING -> readString();
+                    default -> fieldName = null;
+                }
+            }
+        }
+
+        private void readString() throws IOException {
+            if (fieldName == null) {
+                return;
+            }
+            if (isFileEntry()) {
+                if ("filename".equals(fieldName)) {
+                    filename = parser.getText();
+                } else if ("status".equals(fieldName)) {
+                    status = parser.getText();
+                } else if ("patch".equals(fieldName)) {
+                    patch = truncatePatch(parser.getText());
+                }
+            } else if (isAt("sha")) {
+                sha = parser.getText();
+            } else if (isAt("login", "author")) {
+                authorLogin = parser.getText();
+            } else if (isAt("date", "commit", "committer")) {
+                committedAt = parser.getText();
+            }
+            fieldName = null;
+        }
+
+        // 루트 객체의 files 배열 원소 객체 안인지 여부
+        private boolean isFileEntry() {
+            return path.size() == 3 && "files".equals(path.get(1)) && path.get(2) == null;
+        }
+
+        // 루트 객체에서 parents 경로를 따라 내려간 위치의 name 필드인지 여부
+        private boolean isAt(String name, String... parents) {
+            if (!name.equals(fieldName) || path.size() != parents.length + 1) {
+                return false;
+            }
+            for (int i = 0; i < parents.length; i++) {
+                if (!parents[i].equals(path.get(i + 1))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.youtil.Api.Github.Client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.youtil.Config.GithubApiProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * GitHub GET 요청에 대한 조건부 요청(ETag / Last-Modified) 처리 필터
+ * <p>
+ * 토큰별로 응답의 검증자와 본문을 보관하고, 이후 같은 요청에 If-None-Match / If-Modified-Since 헤더를
+ * 추가합니다. GitHub가 304로 응답하면 보관된 본문을 200 응답으로 돌려줍니다. 304 응답은 GitHub
+ * 호출 횟수 제한에 포함되지 않습니다.
+ */
+@Component
+@Slf4j
+public class GithubConditionalRequestFilter implements ExchangeFilterFunction {
+
+    // 파일 내용과 단일 커밋 조회는 SHA 기준으로 별도 캐시하므로 제외
+    private static final Pattern EXCLUDED_PATH = Pattern.compile(
+            "^/repos/[^/]+/[^/]+/(contents/.*|commits/[^/]+)$");
+
+    private static final List<String> NON_CACHEABLE_HEADERS = List.of(
+            HttpHeaders.CONTENT_LENGTH,
+            HttpHeaders.TRANSFER_ENCODING
+    );
+
+    private final boolean enabled;
+    private final String githubApiHost;
+    private final Cache<String, CachedResponse> responseCache;
+
+    private final Counter notModifiedCounter;
+    private final Counter modifiedCounter;
+
+    public GithubConditionalRequestFilter(GithubApiProperties githubApiProperties,
+            MeterRegistry meterRegistry) {
+        GithubApiProperties.ConditionalRequest properties =
+                githubApiProperties.getConditionalRequest();
+        this.enabled = properties.isEnabled();
+        this.githubApiHost = URI.create(githubApiProperties.getBaseUrl()).getHost();
+        this.responseCache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxBytes())
+                .weigher((String key, CachedResponse cached) -> key.length()
+                        + cached.getBody().length())
+                .expireAfterAccess(properties.getExpireAfterAccess())
+                .build();
+
+        this.notModifiedCounter = requestCounter(meterRegistry, "not_modified");
+        this.modifiedCounter = requestCounter(meterRegistry, "modified");
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!isCacheable(request)) {
+            return next.exchange(request);
+        }
+
+        String cacheKey = GithubTokenKeys.fromAuthorizationHeader(
+                request.headers().getFirst(HttpHeaders.AUTHORIZATION)) + " " + request.url();
+        CachedResponse cached = responseCache.getIfPresent(cacheKey);
+
+        ClientRequest conditionalRequest = cached == null ? request : ClientRequest.from(request)
+                .headers(headers -> {
+                    if (cached.getEtag() != null) {
+                        headers.set(HttpHeaders.IF_NONE_MATCH, cached.getEtag());
+                    } else {
+                        headers.set(HttpHeaders.IF_MODIFIED_SINCE, cached.getLastModified());
+                    }
+                })
+                .build();
+
+        return next.exchange(conditionalRequest)
+                .flatMap(response -> {
+                    if (cached != null
+                            && response.statusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                        notModifiedCounter.increment();
+                        log.debug("GitHub 응답 변경 없음(304), 캐시된 본문 사용: {}", request.url());
+                        return response.releaseBody()
+                                .then(Mono.fromSupplier(() -> fromCache(response, cached)));
+                    }
+
+                    if (cached != null) {
+                        modifiedCounter.increment();
+                    }
+                    return storeIfValidated(cacheKey, response);
+                });
+    }
+
+    private boolean isCacheable(ClientRequest request) {
+        return enabled
+                && HttpMethod.GET.equals(request.method())
+                && githubApiHost.equals(request.url().getHost())
+                && request.headers().containsKey(HttpHeaders.AUTHORIZATION)
+                && !EXCLUDED_PATH.matcher(request.url().getPath()).matches();
+    }
+
+    /**
+     * 검증자(ETag / Last-Modified)가 있는 정상 응답이면 본문을 읽어 보관한 뒤 같은 본문으로 응답을 다시 구성합니다.
+     */
+    private Mono<ClientResponse> storeIfValidated(String cacheKey, ClientResponse response) {
+        HttpHeaders responseHeaders = response.headers().asHttpHeaders();
+        String etag = responseHeaders.getETag();
+        String lastModified = responseHeaders.getFirst(HttpHeaders.LAST_MODIFIED);
+
+        if (!response.statusCode().is2xxSuccessful() || (etag == null && lastModified == null)) {
+            return Mono.just(response);
+        }
+
+        return response.bodyToMono(String.class)
+                .defaultIfEmpty("")
+                .map(body -> {
+                    HttpHeaders headers = new HttpHeaders();
+                    responseHeaders.forEach((name, values) -> {
+                        if (!isTransientHeader(name)) {
+                            headers.put(name, values);
+                        }
+                    });
+                    responseCache.put(cacheKey, new CachedResponse(etag, lastModified, headers,
+                            body));
+                    return response.mutate()
+                            .body(body)
+                            .build();
+                });
+    }
+
+    /**
+     * 304 응답의 최신 헤더(호출 제한 정보 등)를 보관된 헤더 위에 덮어쓰고, 보관된 본문으로 200 응답을 만듭니다.
+     */
+    private ClientResponse fromCache(ClientResponse notModified, CachedResponse cached) {
+        return notModified.mutate()
+                .statusCode(HttpStatus.OK)
+                .headers(headers -> {
+                    HttpHeaders fresh = new HttpHeaders();
+                    fresh.putAll(headers);
+                    headers.clear();
+                    headers.putAll(cached.getHeaders());
+                    for (Map.Entry<String, List<String>> entry : fresh.entrySet()) {
+                        if (!isTransientHeader(entry.getKey())
+                                && !HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(entry.getKey())) {
+                            headers.put(entry.getKey(), entry.getValue());
+                        }
+                    }
+                    headers.remove(HttpHeaders.CONTENT_LENGTH);
+                })
+                .body(cached.getBody())
+                .build();
+    }
+
+    private static boolean isTransientHeader(String name) {
+        return NON_CACHEABLE_HEADERS.stream().anyMatch(name::equalsIgnoreCase);
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("github.conditional.requests")
+                .description("ETag/Last-Modified 조건부 요청 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class CachedResponse {
+
+        private final String etag;
+        private final String lastModified;
+        private final HttpHeaders headers;
+        private final String body;
+    }
+}
@@ -0,0 +1,23 @@
+package com.youtil.Api.Github.Client;
+
+import java.util.Map;
+import reactor.core.publisher.Mono;
+
+/**
+ * 커밋 시점 파일 내용 조회 방식
+ * <p>
+ * github.api.graphql.enabled 설정에 따라 파일마다 REST 요청을 보내는 방식과 GraphQL로 여러 파일을 한 번에
+ * 조회하는 방식 중 하나가 등록됩니다.
+ */
+public interface GithubFileContentFetcher {
+
+    /**
+     * 파일 경로별 조회 기준 커밋 SHA를 받아 해당 커밋 시점의 파일 내용을 조회합니다.
+     * 조회에 실패한 파일은 빈 문자열로 채웁니다.
+     *
+     * @param contentRefs 파일 경로 -> 커밋 SHA
+     * @return 파일 경로 -> 파일 내용
+     */
+    Mono<Map<String, String>> fetchContents(Long repositoryId, String owner, String repo,
+            Map<String, String> contentRefs, String token);
+}
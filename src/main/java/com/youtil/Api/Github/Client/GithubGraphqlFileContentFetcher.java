@@ -0,0 +1,187 @@
+package com.youtil.Api.Github.Client;
+
+import com.youtil.Api.Github.Cache.GithubContentCache;
+import com.youtil.Config.GithubApiProperties;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * GitHub GraphQL API로 여러 파일의 커밋 시점 내용을 한 번에 조회합니다.
+ * <p>
+ * 파일마다 repository.object(expression: "{sha}:{path}") 별칭을 만들어 batchSize개씩 하나의 쿼리로
+ * 묶습니다. 캐시에 있는 파일은 쿼리에서 제외하고, 조회한 내용은 REST 방식과 같은 캐시에 저장합니다.
+ * GraphQL은 큰 파일의 text를 잘라서 반환(isTruncated)하므로, 잘린 파일은 캐시에 넣지 않고 REST로 다시
+ * 조회합니다.
+ * GraphQL은 커밋별 변경 파일 목록과 패치를 제공하지 않으므로 커밋 정보 조회는 REST를 그대로 사용합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "github.api.graphql", name = "enabled", havingValue = "true")
+@Slf4j
+public class GithubGraphqlFileContentFetcher implements GithubFileContentFetcher {
+
+    private final WebClient webClient;
+    private final GithubApiClient githubApiClient;
+    private final GithubContentCache githubContentCache;
+    private final String graphqlUrl;
+    private final int batchSize;
+    private final int concurrency;
+
+    public GithubGraphqlFileContentFetcher(WebClient webClient, GithubApiClient githubApiClient,
+            GithubContentCache githubContentCache, GithubApiProperties githubApiProperties) {
+        GithubApiProperties.Graphql properties = githubApiProperties.getGraphql();
+        this.webClient = webClient;
+        this.githubApiClient = githubApiClient;
+        this.githubContentCache = githubContentCache;
+        this.graphqlUrl = properties.getUrl() != null
+                ? properties.getUrl()
+                : githubApiProperties.getBaseUrl() + "/graphql";
+        this.batchSize = Math.max(1, properties.getBatchSize());
+        this.concurrency = Math.max(1, properties.getConcurrency());
+    }
+
+    @Override
+    public Mono<Map<String, String>> fetchContents(Long repositoryId, String owner, String repo,
+            Map<String, String> contentRefs, String token) {
+        Map<String, String> contents = new ConcurrentHashMap<>();
+
+        // 1. 캐시에 있는 파일은 바로 채우고, 없는 파일만 모아서 batchSize개씩 조회
+        return Flux.fromIterable(contentRefs.entrySet())
+                .flatMap(ref -> githubContentCache.get(repositoryId, ref.getValue(), ref.getKey())
+                        .doOnNext(content -> contents.put(ref.getKey(), content))
+                        .hasElement()
+                        .filter(hit -> !hit)
+                        .map(miss -> ref))
+                .buffer(batchSize)
+                .flatMap(batch -> queryBatch(owner, repo, batch, token)
+                        .flatMapIterable(fetched -> {
+                            batch.forEach(ref -> {
+                                String content = fetched.contents.get(ref.getKey());
+                                if (content != null) {
+                                    contents.put(ref.getKey(), content);
+                                    githubContentCache.put(repositoryId, ref.getValue(),
+                                            ref.getKey(), content);
+                                }
+                            });
+                            return fetched.truncated;
+                        }), concurrency)
+                // 2. 내용이 잘린 파일은 REST로 전체 내용을 조회
+                .flatMap(ref -> fetchTruncated(repositoryId, owner, repo, ref, token)
+                        .doOnNext(content -> contents.put(ref.getKey(), content)), concurrency)
+                .then(Mono.fromSupplier(() -> {
+                    // 3. 조회하지 못한 파일은 REST 방식과 같이 빈 문자열로 채움
+                    contentRefs.keySet().forEach(path -> contents.putIfAbsent(path, ""));
+                    return contents;
+                }));
+    }
+
+    /**
+     * GraphQL 응답에서 내용이 잘린 파일을 REST contents API로 조회합니다. 조회한 전체 내용만 캐시에
+     * 저장하며, 실패하면 빈 결과를 반환합니다.
+     */
+    private Mono<String> fetchTruncated(Long repositoryId, String owner, String repo,
+            Map.Entry<String, String> ref, String token) {
+        String path = ref.getKey();
+        String sha = ref.getValue();
+        log.info("GraphQL 응답의 파일 내용이 잘려 REST로 다시 조회: {}", path);
+        return githubContentCache.getOrLoad(repositoryId, sha, path,
+                        () -> githubApiClient.getFileContent(owner, repo, path, sha, token))
+                .onErrorResume(e -> {
+                    log.warn("커밋 시점 파일 내용 조회 실패: {}, 오류: {}", path, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 파일 목록을 하나의 GraphQL 쿼리로 조회합니다. 실패하면 빈 결과를 반환합니다.
+     */
+    private Mono<BatchContents> queryBatch(String owner, String repo,
+            List<Map.Entry<String, String>> batch, String token) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("owner", owner);
+        variables.put("name", repo);
+
+        StringBuilder declarations = new StringBuilder("$owner: String!, $name: String!");
+        StringBuilder selections = new StringBuilder();
+        for (int i = 0; i < batch.size(); i++) {
+            Map.Entry<String, String> ref = batch.get(i);
+            variables.put("e" + i, ref.getValue() + ":" + ref.getKey());
+            declarations.append(", $e").append(i).append(": String!");
+            selections.append(" f").append(i).append(": object(expression: $e").append(i)
+                    .append(") { ... on Blob { text isBinary isTruncated } }");
+        }
+        String query = "query(" + declarations + ") { repository(owner: $owner, name: $name) {"
+                + selections + " } }";
+
+        log.info("GitHub GraphQL 호출: 파일 내용 {}개 일괄 조회 - {}/{}", batch.size(), owner, repo);
+        return webClient.post()
+                .uri(graphqlUrl)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("query", query, "variables", variables))
+                .retrieve()
+                .bodyToMono(GithubApiClient.JSON_OBJECT)
+                .map(response -> toContents(response, batch))
+                .onErrorResume(e -> {
+                    log.warn("GitHub GraphQL 파일 내용 조회 실패: {}개 파일, 오류: {}", batch.size(),
+                            GithubApiClient.translate(e, "GraphQL 파일 내용 조회").getMessage());
+                    return Mono.just(new BatchContents(Map.of(), List.of()));
+                });
+    }
+
+    private BatchContents toContents(Map<String, Object> response,
+            List<Map.Entry<String, String>> batch) {
+        if (response.get("errors") != null) {
+            // 일부 파일만 조회하지 못한 경우에도 errors가 함께 오므로 data는 계속 사용
+            log.warn("GitHub GraphQL 응답 오류: {}", response.get("errors"));
+        }
+
+        Map<String, String> contents = new LinkedHashMap<>();
+        List<Map.Entry<String, String>> truncated = new ArrayList<>();
+        Map<String, Object> data = (Map<String, Object>) response.get("data");
+        Map<String, Object> repository = data != null
+                ? (Map<String, Object>) data.get("repository")
+                : null;
+        if (repository == null) {
+            return new BatchContents(contents, truncated);
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            Map<String, Object> blob = (Map<String, Object>) repository.get("f" + i);
+            if (blob == null || Boolean.TRUE.equals(blob.get("isBinary"))) {
+                continue;
+            }
+            if (Boolean.TRUE.equals(blob.get("isTruncated"))) {
+                truncated.add(batch.get(i));
+            } else if (blob.get("text") != null) {
+                contents.put(batch.get(i).getKey(), blob.get("text").toString());
+            }
+        }
+        return new BatchContents(contents, truncated);
+    }
+
+    /**
+     * 쿼리 하나의 조회 결과
+     */
+    @AllArgsConstructor
+    private static class BatchContents {
+
+        // 파일 경로 -> 파일 내용 (바이너리이거나 존재하지 않거나 잘린 파일은 제외)
+        private final Map<String, String> contents;
+
+        // 내용이 잘려 다시 조회해야 하는 파일 (파일 경로 -> 커밋 SHA)
+        private final List<Map.Entry<String, String>> truncated;
+    }
+}
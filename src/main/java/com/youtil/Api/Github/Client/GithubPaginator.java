@@ -0,0 +1,177 @@
+package com.youtil.Api.Github.Client;
+
+import com.youtil.Config.GithubApiProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * GitHub 목록 API의 모든 페이지를 순서대로 내보내는 페이지네이터
+ * <p>
+ * per_page=100으로 첫 페이지를 조회한 뒤 Link 헤더를 확인합니다. rel="last"로 마지막 페이지 번호를 알 수
+ * 있으면 나머지 페이지를 동시에 조회하고(결과 순서는 유지), 커서 방식처럼 rel="next"만 있으면 다음 링크를
+ * 차례로 따라갑니다. 구독자가 filter().next() 등으로 취소하면 이후 페이지는 조회하지 않습니다.
+ * <p>
+ * 한 목록에서 maxPages까지만 조회하며, 그보다 페이지가 더 있으면 경고 로그를 남기고
+ * github.pagination.truncated{api} 지표를 올립니다.
+ */
+@Component
+@Slf4j
+public class GithubPaginator {
+
+    private static final int PER_PAGE = 100;
+
+    private static final ParameterizedTypeReference<List<Map<String, Object>>> JSON_ARRAY =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private static final Pattern LINK_PATTERN = Pattern.compile("<([^>]+)>;\\s*rel=\"([^\"]+)\"");
+
+    private final WebClient webClient;
+    private final GithubApiClient githubApiClient;
+    private final int concurrency;
+    private final int maxPages;
+    private final MeterRegistry meterRegistry;
+
+    public GithubPaginator(WebClient webClient, GithubApiClient githubApiClient,
+            GithubApiProperties githubApiProperties, MeterRegistry meterRegistry) {
+        this.webClient = webClient;
+        this.githubApiClient = githubApiClient;
+        this.concurrency = Math.max(1, githubApiProperties.getPagination().getConcurrency());
+        this.maxPages = Math.max(1, githubApiProperties.getPagination().getMaxPages());
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 목록 API의 모든 페이지 원소를 하나씩 내보냅니다.
+     *
+     * @param uriTemplate GitHub API 주소 이후의 경로 (URI 템플릿 변수 사용 가능, per_page는 100으로 대체)
+     */
+    public Flux<Map<String, Object>> getAll(String token, String apiName, String uriTemplate,
+            Object... uriVariables) {
+        URI firstPageUri = UriComponentsBuilder.fromUriString(githubApiClient.url(uriTemplate))
+                .replaceQueryParam("per_page", PER_PAGE)
+                .encode()
+                .buildAndExpand(uriVariables)
+                .toUri();
+
+        return fetchPage(firstPageUri, token)
+                .flatMapMany(firstPage -> {
+                    if (firstPage.lastPage != null && firstPage.lastPage > 1) {
+                        int lastPage = Math.min(firstPage.lastPage, maxPages);
+                        if (firstPage.lastPage > maxPages) {
+                            recordTruncated(apiName, firstPage.lastPage + "페이지");
+                        }
+                        log.debug("GitHub 목록 페이지 동시 조회 ({}): {}페이지", apiName, lastPage);
+                        return Flux.fromIterable(firstPage.items)
+                                .concatWith(Flux.range(2, lastPage - 1)
+                                        .flatMapSequential(page -> fetchPage(
+                                                        pageUri(firstPageUri, page), token)
+                                                .flatMapIterable(result -> result.items),
+                                                concurrency));
+                    }
+
+                    // 마지막 페이지를 알 수 없으면 next 링크를 차례로 따라감
+                    return Mono.just(firstPage)
+                            .expand(page -> page.next != null
+                                    ? fetchPage(URI.create(page.next), token)
+                                    : Mono.empty())
+                            .take(maxPages)
+                            .index()
+                            .doOnNext(indexed -> {
+                                if (indexed.getT1() == maxPages - 1
+                                        && indexed.getT2().next != null) {
+                                    recordTruncated(apiName, "다음 페이지 있음");
+                                }
+                            })
+                            .concatMapIterable(indexed -> indexed.getT2().items);
+                })
+                .onErrorMap(e -> GithubApiClient.translate(e, apiName));
+    }
+
+    /**
+     * 최대 페이지 수를 넘는 목록을 잘라 조회했음을 기록합니다.
+     */
+    private void recordTruncated(String apiName, String total) {
+        log.warn("GitHub 목록이 최대 페이지 수를 넘어 일부만 조회 ({}): 최대 {}페이지, 전체 {}", apiName,
+                maxPages, total);
+        Counter.builder("github.pagination.truncated")
+                .description("최대 페이지 수를 넘어 일부만 조회한 GitHub 목록 수")
+                .tag("api", apiName)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Mono<Page> fetchPage(URI uri, String token) {
+        return webClient.get()
+                .uri(uri)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .retrieve()
+                .toEntity(JSON_ARRAY)
+                .map(GithubPaginator::toPage);
+    }
+
+    private static Page toPage(ResponseEntity<List<Map<String, Object>>> entity) {
+        Map<String, String> links = parseLinks(entity.getHeaders().getFirst(HttpHeaders.LINK));
+        String last = links.get("last");
+        Integer lastPage = null;
+        if (last != null) {
+            String page = UriComponentsBuilder.fromUriString(last).build().getQueryParams()
+                    .getFirst("page");
+            if (page != null && page.chars().allMatch(Character::isDigit)) {
+                lastPage = Integer.parseInt(page);
+            }
+        }
+        List<Map<String, Object>> items = entity.getBody() != null ? entity.getBody() : List.of();
+        return new Page(items, links.get("next"), lastPage);
+    }
+
+    /**
+     * Link 헤더를 rel -> URL 형태로 변환합니다.
+     */
+    private static Map<String, String> parseLinks(String linkHeader) {
+        Map<String, String> links = new HashMap<>();
+        if (linkHeader == null) {
+            return links;
+        }
+        Matcher matcher = LINK_PATTERN.matcher(linkHeader);
+        while (matcher.find()) {
+            links.put(matcher.group(2), matcher.group(1));
+        }
+        return links;
+    }
+
+    private static URI pageUri(URI firstPageUri, int page) {
+        return UriComponentsBuilder.fromUri(firstPageUri)
+                .replaceQueryParam("page", page)
+                .build(true)
+                .toUri();
+    }
+
+    @AllArgsConstructor
+    private static class Page {
+
+        private final List<Map<String, Object>> items;
+
+        // 다음 페이지 URL (마지막 페이지면 null)
+        private final String next;
+
+        // 마지막 페이지 번호 (Link 헤더에 rel="last"가 없으면 null)
+        private final Integer lastPage;
+    }
+}
@@ -0,0 +1,348 @@
+package com.youtil.Api.Github.Client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.youtil.Common.Enums.TilMessageCode;
+import com.youtil.Config.GithubApiProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * GitHub 호출 한도 기반 요청 스케줄러
+ * <p>
+ * 응답의 X-RateLimit-* / Retry-After 헤더로 (토큰, 리소스)별 남은 호출 수를 추적합니다. 리소스는
+ * X-RateLimit-Resource 헤더 값(core, graphql, search 등)으로, GitHub는 리소스마다 한도를 따로 둡니다.
+ * <ul>
+ *     <li>남은 호출 수가 적어지면 초기화 시각까지 요청 간격을 벌립니다. 요청마다 다음 전송 시각을 원자적으로
+ *     예약하므로 동시에 들어온 요청도 한꺼번에 나가지 않고 간격을 두고 전송됩니다.</li>
+ *     <li>백그라운드 요청은 같은 토큰의 사용자 요청이 끝날 때까지 기다리고, 여유 호출 수가 부족하면 실행하지 않습니다.</li>
+ *     <li>토큰/리소스별 남은 호출 수를 github.ratelimit.remaining 게이지로 노출합니다.</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class GithubRateLimitScheduler implements ExchangeFilterFunction {
+
+    private static final String HEADER_LIMIT = "X-RateLimit-Limit";
+    private static final String HEADER_REMAINING = "X-RateLimit-Remaining";
+    private static final String HEADER_RESET = "X-RateLimit-Reset";
+    private static final String HEADER_RESOURCE = "X-RateLimit-Resource";
+    private static final String RESOURCE_CORE = "core";
+    private static final Duration BACKGROUND_POLL_INTERVAL = Duration.ofMillis(200);
+
+    private final GithubApiProperties.RateLimit properties;
+    private final String githubApiHost;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, TokenBudget> budgets;
+
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+    private final Counter backgroundSkippedCounter;
+
+    public GithubRateLimitScheduler(GithubApiProperties githubApiProperties,
+            MeterRegistry meterRegistry) {
+        this.properties = githubApiProperties.getRateLimit();
+        this.githubApiHost = URI.create(githubApiProperties.getBaseUrl()).getHost();
+        this.meterRegistry = meterRegistry;
+        this.budgets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofHours(2))
+                .removalListener((String budgetKey, TokenBudget budget, RemovalCause cause) -> {
+                    if (budget != null) {
+                        budget.meters.forEach(meterRegistry::remove);
+                    }
+                })
+                .build();
+
+        this.waitTimer = Timer.builder("github.ratelimit.wait")
+                .description("호출 한도 때문에 GitHub 요청을 지연시킨 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("github.ratelimit.rejected")
+                .description("호출 한도 소진으로 즉시 실패 처리한 GitHub 요청 수")
+                .register(meterRegistry);
+        this.backgroundSkippedCounter = Counter.builder("github.ratelimit.background.skipped")
+                .description("여유 호출 수 부족으로 실행하지 않은 백그라운드 요청 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!properties.isEnabled() || !githubApiHost.equals(request.url().getHost())) {
+            return next.exchange(request);
+        }
+
+        String tokenKey = GithubTokenKeys.fromAuthorizationHeader(
+                request.headers().getFirst(HttpHeaders.AUTHORIZATION));
+        TokenBudget budget = budgetFor(tokenKey, resourceOf(request));
+
+        return Mono.deferContextual(context -> {
+            boolean background = GithubRequestPriority.isBackground(request, context);
+
+            Mono<ClientResponse> exchange = Mono.defer(() -> {
+                if (!background) {
+                    budget.interactiveInFlight.incrementAndGet();
+                }
+                return next.exchange(request)
+                        .doOnNext(response -> {
+                            HttpHeaders headers = response.headers().asHttpHeaders();
+                            // 요청 경로로 추정한 리소스와 응답의 리소스가 다르면 응답 기준으로 기록
+                            String resource = headers.getFirst(HEADER_RESOURCE);
+                            TokenBudget target = resource == null
+                                    || resource.equals(budget.resource)
+                                    ? budget : budgetFor(tokenKey, resource);
+                            target.update(headers, response.statusCode().value());
+                        })
+                        .doFinally(signal -> {
+                            if (!background) {
+                                budget.interactiveInFlight.decrementAndGet();
+                            }
+                        });
+            });
+
+            if (background) {
+                return admitBackground(budget, tokenKey).then(delayFor(budget, tokenKey, true))
+                        .then(exchange);
+            }
+            return delayFor(budget, tokenKey, false).then(exchange);
+        });
+    }
+
+    /**
+     * 요청의 토큰과 리소스의 남은 호출 수가 전체 한도의 reserveRatio 이상인지 확인합니다. 아직 한도 정보를
+     * 모르면 true를 반환합니다. 추가 요청(헤징 등)을 보내도 되는지 판단할 때 사용합니다.
+     */
+    public boolean hasHeadroom(ClientRequest request, double reserveRatio) {
+        TokenBudget budget = budgets.getIfPresent(budgetKey(
+                GithubTokenKeys.fromAuthorizationHeader(
+                        request.headers().getFirst(HttpHeaders.AUTHORIZATION)),
+                resourceOf(request)));
+        return budget == null || !budget.isKnown()
+                || budget.remaining >= budget.limit * reserveRatio;
+    }
+
+    /**
+     * 추가 요청(헤징 등)이 원 요청과 같은 예약 규칙을 따르도록 지금 바로 보낼 수 있는 전송 시각을 예약합니다.
+     * 남은 호출 수가 전체 한도의 reserveRatio 미만이거나, 한도에 근접해 기다려야 하면 예약하지 않고 false를
+     * 반환합니다.
+     */
+    public boolean tryReserveNow(ClientRequest request, double reserveRatio) {
+        if (!properties.isEnabled() || !githubApiHost.equals(request.url().getHost())) {
+            return true;
+        }
+        if (!hasHeadroom(request, reserveRatio)) {
+            return false;
+        }
+        TokenBudget budget = budgetFor(GithubTokenKeys.fromAuthorizationHeader(
+                request.headers().getFirst(HttpHeaders.AUTHORIZATION)), resourceOf(request));
+        return budget.reserve(System.currentTimeMillis(), properties.getSlowdownRatio(), 0) >= 0;
+    }
+
+    /**
+     * 응답이 호출 한도 초과로 인한 실패인지 확인합니다.
+     */
+    public static boolean isRateLimited(WebClientResponseException e) {
+        int status = e.getStatusCode().value();
+        if (status == 429) {
+            return true;
+        }
+        return status == 403 && ("0".equals(e.getHeaders().getFirst(HEADER_REMAINING))
+                || e.getHeaders().containsKey(HttpHeaders.RETRY_AFTER));
+    }
+
+    /**
+     * 백그라운드 요청은 여유 호출 수가 남아 있을 때만 실행하고, 진행 중인 사용자 요청이 끝날 때까지 기다립니다.
+     */
+    private Mono<Void> admitBackground(TokenBudget budget, String tokenKey) {
+        return Mono.defer(() -> {
+            if (budget.isKnown()
+                    && budget.remaining < budget.limit * properties.getBackgroundReserveRatio()) {
+                backgroundSkippedCounter.increment();
+                log.info("GitHub 여유 호출 수 부족으로 백그라운드 요청 생략: token={}, 남은 호출 수={}",
+                        tokenKey, budget.remaining);
+                return Mono.error(new RuntimeException(
+                        TilMessageCode.GITHUB_RATE_LIMIT_EXCEEDED.getMessage()));
+            }
+
+            long maxPolls = properties.getMaxBackgroundWait().toMillis()
+                    / BACKGROUND_POLL_INTERVAL.toMillis();
+            return Mono.defer(() -> budget.interactiveInFlight.get() == 0
+                            ? Mono.just(Boolean.TRUE) : Mono.<Boolean>empty())
+                    .repeatWhenEmpty(attempts -> attempts
+                            .take(maxPolls)
+                            .delayElements(BACKGROUND_POLL_INTERVAL))
+                    .then();
+        });
+    }
+
+    /**
+     * 남은 호출 수와 초기화 시각을 기준으로 전송 시각을 예약하고 그때까지 기다립니다.
+     */
+    private Mono<Void> delayFor(TokenBudget budget, String tokenKey, boolean background) {
+        return Mono.defer(() -> {
+            Duration maxWait = background ? properties.getMaxBackgroundWait()
+                    : properties.getMaxInteractiveWait();
+            long delayMillis = budget.reserve(System.currentTimeMillis(),
+                    properties.getSlowdownRatio(), maxWait.toMillis());
+            if (delayMillis < 0) {
+                rejectedCounter.increment();
+                log.warn("GitHub 호출 한도 소진: token={}, resource={}, 남은 호출 수={}",
+                        tokenKey, budget.resource, budget.remaining);
+                return Mono.error(new RuntimeException(
+                        TilMessageCode.GITHUB_RATE_LIMIT_EXCEEDED.getMessage()));
+            }
+            if (delayMillis == 0) {
+                return Mono.empty();
+            }
+
+            waitTimer.record(Duration.ofMillis(delayMillis));
+            log.debug("GitHub 호출 한도 근접으로 요청 지연: token={}, resource={}, {}ms", tokenKey,
+                    budget.resource, delayMillis);
+            return Mono.delay(Duration.ofMillis(delayMillis)).then();
+        });
+    }
+
+    private TokenBudget budgetFor(String tokenKey, String resource) {
+        return budgets.get(budgetKey(tokenKey, resource), key -> newBudget(tokenKey, resource));
+    }
+
+    private static String budgetKey(String tokenKey, String resource) {
+        return tokenKey + " " + resource;
+    }
+
+    /**
+     * 요청 경로로 GitHub 호출 한도 리소스를 추정합니다. 응답의 X-RateLimit-Resource 헤더와 같은 이름을 사용합니다.
+     */
+    static String resourceOf(ClientRequest request) {
+        String path = request.url().getPath();
+        if (path.startsWith("/graphql")) {
+            return "graphql";
+        }
+        if (path.startsWith("/search/code")) {
+            return "code_search";
+        }
+        if (path.startsWith("/search/")) {
+            return "search";
+        }
+        return RESOURCE_CORE;
+    }
+
+    private TokenBudget newBudget(String tokenKey, String resource) {
+        TokenBudget budget = new TokenBudget(resource);
+        budget.meters = List.of(
+                Gauge.builder("github.ratelimit.remaining", budget, b -> b.remaining)
+                        .description("토큰/리소스별 GitHub 남은 호출 수")
+                        .tag("token", tokenKey)
+                        .tag("resource", resource)
+                        .register(meterRegistry),
+                Gauge.builder("github.ratelimit.limit", budget, b -> b.limit)
+                        .description("토큰/리소스별 GitHub 호출 한도")
+                        .tag("token", tokenKey)
+                        .tag("resource", resource)
+                        .register(meterRegistry)
+        );
+        return budget;
+    }
+
+    /**
+     * 토큰 하나의 리소스별 호출 한도 상태
+     */
+    static class TokenBudget {
+
+        private final String resource;
+        private volatile long limit = 5000;
+        private volatile long remaining = -1;
+        private volatile long resetAtMillis;
+        private volatile long retryAfterUntilMillis;
+        private final AtomicInteger interactiveInFlight = new AtomicInteger();
+
+        // 다음 요청을 보낼 수 있는 가장 이른 시각 (요청마다 예약하며 앞으로 이동)
+        private final AtomicLong nextSendAtMillis = new AtomicLong();
+        private List<Meter> meters = List.of();
+
+        TokenBudget(String resource) {
+            this.resource = resource;
+        }
+
+        private boolean isKnown() {
+            return remaining >= 0 && resetAtMillis > System.currentTimeMillis();
+        }
+
+        void update(HttpHeaders headers, int status) {
+            Long headerLimit = parseLong(headers.getFirst(HEADER_LIMIT));
+            Long headerRemaining = parseLong(headers.getFirst(HEADER_REMAINING));
+            Long headerReset = parseLong(headers.getFirst(HEADER_RESET));
+            Long retryAfter = parseLong(headers.getFirst(HttpHeaders.RETRY_AFTER));
+
+            if (headerLimit != null) {
+                limit = headerLimit;
+            }
+            if (headerRemaining != null) {
+                remaining = headerRemaining;
+            }
+            if (headerReset != null) {
+                resetAtMillis = headerReset * 1000;
+            }
+            if (retryAfter != null && (status == 403 || status == 429)) {
+                retryAfterUntilMillis = System.currentTimeMillis() + retryAfter * 1000;
+            }
+        }
+
+        /**
+         * 전송 시각을 예약하고 그때까지의 대기 시간을 반환합니다. 대기 시간이 maxWaitMillis를 넘으면 예약하지
+         * 않고 -1을 반환합니다.
+         */
+        long reserve(long now, double slowdownRatio, long maxWaitMillis) {
+            while (true) {
+                long earliest = Math.max(now, retryAfterUntilMillis);
+                long interval = 0;
+                if (isKnown()) {
+                    long untilReset = resetAtMillis - now;
+                    if (remaining <= 0) {
+                        // 초기화 시각 직후 요청하도록 1초 여유를 둠
+                        earliest = Math.max(earliest, now + untilReset + 1000);
+                    } else if (remaining < limit * slowdownRatio) {
+                        // 남은 호출 수를 초기화 시각까지 고르게 분배
+                        interval = untilReset / remaining;
+                    }
+                }
+
+                long reserved = nextSendAtMillis.get();
+                long sendAt = Math.max(earliest, reserved);
+                if (sendAt - now > maxWaitMillis) {
+                    return -1;
+                }
+                if (nextSendAtMillis.compareAndSet(reserved, sendAt + interval)) {
+                    return sendAt - now;
+                }
+            }
+        }
+
+        private static Long parseLong(String value) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
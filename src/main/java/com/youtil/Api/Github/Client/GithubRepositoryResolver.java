@@ -0,0 +1,109 @@
+package com.youtil.Api.Github.Client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.youtil.Api.Github.Dto.GithubApiDTO;
+import com.youtil.Common.Enums.TilMessageCode;
+import com.youtil.Config.GithubApiProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 레포지토리 ID -> (소유자, 이름) 변환
+ * <p>
+ * 레포지토리 목록 조회 결과를 토큰별로 기억해 두고, 최근에 목록에서 본 레포지토리는 GitHub 호출 없이
+ * 변환합니다. 캐시에 없으면 /repositories/{id}를 한 번 조회한 뒤 기억합니다. 접근 권한은 토큰마다 다르므로
+ * 다른 사용자가 조회한 결과는 사용하지 않습니다.
+ */
+@Component
+@Slf4j
+public class GithubRepositoryResolver {
+
+    private final GithubApiClient githubApiClient;
+
+    // "토큰 키:레포지토리 ID" -> 레포지토리 좌표
+    private final Cache<String, GithubApiDTO.RepositoryRef> repositoryIndex;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public GithubRepositoryResolver(GithubApiClient githubApiClient,
+            GithubApiProperties githubApiProperties, MeterRegistry meterRegistry) {
+        GithubApiProperties.RepositoryIndex properties = githubApiProperties.getRepositoryIndex();
+        this.githubApiClient = githubApiClient;
+        this.repositoryIndex = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                // 레포지토리 이름/소유자 변경을 반영하기 위해 일정 시간 후 다시 조회
+                .expireAfterWrite(properties.getTtl())
+                .build();
+
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+    }
+
+    /**
+     * 레포지토리 ID를 소유자와 이름으로 변환합니다.
+     *
+     * @throws RuntimeException 레포지토리를 찾을 수 없거나 접근 권한이 없는 경우 (Mono 오류)
+     */
+    public Mono<GithubApiDTO.RepositoryRef> resolve(Long repositoryId, String token) {
+        String key = keyOf(token, repositoryId);
+        GithubApiDTO.RepositoryRef cached = repositoryIndex.getIfPresent(key);
+        if (cached != null) {
+            hitCounter.increment();
+            return Mono.just(cached);
+        }
+
+        missCounter.increment();
+        return githubApiClient.getRepository(repositoryId, token)
+                .map(repository -> {
+                    GithubApiDTO.RepositoryRef ref = toRepositoryRef(repository);
+                    if (ref == null) {
+                        throw new RuntimeException(TilMessageCode.GITHUB_REPO_NOT_FOUND.getMessage());
+                    }
+                    repositoryIndex.put(key, ref);
+                    return ref;
+                })
+                .switchIfEmpty(Mono.error(() -> new RuntimeException(
+                        TilMessageCode.GITHUB_REPO_NOT_FOUND.getMessage())));
+    }
+
+    /**
+     * 목록 조회 등으로 받은 레포지토리 응답을 기억합니다. 레포지토리 형태가 아니면 무시합니다.
+     */
+    public void remember(String token, Map<String, Object> repository) {
+        GithubApiDTO.RepositoryRef ref = toRepositoryRef(repository);
+        if (ref != null) {
+            repositoryIndex.put(keyOf(token, ref.getId()), ref);
+        }
+    }
+
+    private static GithubApiDTO.RepositoryRef toRepositoryRef(Map<String, Object> repository) {
+        if (!(repository.get("id") instanceof Number id)
+                || repository.get("name") == null
+                || !(repository.get("owner") instanceof Map<?, ?> owner)
+                || owner.get("login") == null) {
+            return null;
+        }
+        return GithubApiDTO.RepositoryRef.builder()
+                .id(id.longValue())
+                .owner(owner.get("login").toString())
+                .name(repository.get("name").toString())
+                .build();
+    }
+
+    private static String keyOf(String token, Long repositoryId) {
+        return GithubTokenKeys.of(token) + ":" + repositoryId;
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("github.repository.index.requests")
+                .description("레포지토리 ID 변환 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,145 @@
+package com.youtil.Api.Github.Client;
+
+import com.youtil.Config.GithubApiProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 동일한 GitHub GET 요청을 하나로 합치는 필터
+ * <p>
+ * (토큰 해시, 메서드, URL, Accept)가 같은 요청이 진행 중이면 새로 보내지 않고 진행 중인 요청의 응답을
+ * 함께 사용합니다. 응답 본문은 바이트로 한 번만 읽어 두고 요청마다 새 응답 객체로 돌려줍니다. 호출 한도
+ * 대기 전에 합치도록 GitHub WebClient의 가장 바깥 필터로 등록합니다. 백그라운드 요청은 대기 시간이 길 수
+ * 있으므로 합치지 않습니다. 파일 내용과 단일 커밋 조회는 본문이 클 수 있고 스트리밍으로 해석하므로
+ * (GithubCommitDecoder) 본문을 메모리에 모아 두지 않도록 합치지 않습니다.
+ */
+@Component
+@Slf4j
+public class GithubRequestCoalescer implements ExchangeFilterFunction {
+
+    // 본문이 클 수 있는 파일 내용과 단일 커밋 조회는 제외
+    private static final Pattern EXCLUDED_PATH = Pattern.compile(
+            "^/repos/[^/]+/[^/]+/(contents/.*|commits/[^/]+)$");
+
+    private final boolean enabled;
+    private final String githubApiHost;
+
+    // 요청 키 -> 진행 중인 요청의 응답
+    private final Map<String, Mono<ResponseSnapshot>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter coalescedCounter;
+
+    public GithubRequestCoalescer(GithubApiProperties githubApiProperties,
+            MeterRegistry meterRegistry) {
+        this.enabled = githubApiProperties.getCoalescing().isEnabled();
+        this.githubApiHost = URI.create(githubApiProperties.getBaseUrl()).getHost();
+
+        this.coalescedCounter = Counter.builder("github.requests.coalesced")
+                .description("진행 중인 동일 요청의 응답을 함께 사용한 GitHub 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("github.requests.inflight", inFlight, Map::size)
+                .description("합치기 대상으로 진행 중인 GitHub 요청 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!isCoalescable(request)) {
+            return next.exchange(request);
+        }
+
+        String key = keyOf(request);
+        return Mono.deferContextual(context -> {
+            if (GithubRequestPriority.isBackground(request, context)) {
+                return next.exchange(request);
+            }
+
+            AtomicReference<Mono<ResponseSnapshot>> created = new AtomicReference<>();
+            Mono<ResponseSnapshot> shared = inFlight.computeIfAbsent(key, k -> {
+                created.set(exchangeOnce(k, request, next));
+                return created.get();
+            });
+
+            if (created.get() == null) {
+                coalescedCounter.increment();
+                log.debug("진행 중인 동일 GitHub 요청과 합침: {}", request.url());
+            }
+            return shared.map(ResponseSnapshot::toResponse);
+        });
+    }
+
+    private boolean isCoalescable(ClientRequest request) {
+        return enabled
+                && HttpMethod.GET.equals(request.method())
+                && githubApiHost.equals(request.url().getHost())
+                && request.headers().containsKey(HttpHeaders.AUTHORIZATION)
+                && !EXCLUDED_PATH.matcher(request.url().getPath()).matches();
+    }
+
+    private static String keyOf(ClientRequest request) {
+        return GithubTokenKeys.fromAuthorizationHeader(
+                request.headers().getFirst(HttpHeaders.AUTHORIZATION))
+                + " " + request.method()
+                + " " + request.url()
+                + " " + request.headers().getFirst(HttpHeaders.ACCEPT);
+    }
+
+    /**
+     * 실제 요청을 한 번 보내고 본문까지 읽은 결과를 공유합니다. 완료되면 진행 중 목록에서 제거합니다.
+     */
+    private Mono<ResponseSnapshot> exchangeOnce(String key, ClientRequest request,
+            ExchangeFunction next) {
+        AtomicReference<Mono<ResponseSnapshot>> self = new AtomicReference<>();
+        Mono<ResponseSnapshot> shared = next.exchange(request)
+                .flatMap(response -> DataBufferUtils.join(
+                                response.body(BodyExtractors.toDataBuffers()))
+                        .map(buffer -> {
+                            byte[] body = new byte[buffer.readableByteCount()];
+                            buffer.read(body);
+                            DataBufferUtils.release(buffer);
+                            return body;
+                        })
+                        .defaultIfEmpty(new byte[0])
+                        .map(body -> new ResponseSnapshot(response, body)))
+                .doFinally(signal -> inFlight.remove(key, self.get()))
+                .cache();
+        self.set(shared);
+        return shared;
+    }
+
+    @AllArgsConstructor
+    private static class ResponseSnapshot {
+
+        // 본문을 읽은 원본 응답 (상태 코드, 헤더, 코덱 설정 재사용)
+        private final ClientResponse response;
+        private final byte[] body;
+
+        private ClientResponse toResponse() {
+            return response.mutate()
+                    .body(Flux.defer(() -> Flux.just(
+                            (DataBuffer) DefaultDataBufferFactory.sharedInstance.wrap(body))))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.youtil.Api.Github.Client;
+
+import com.youtil.Config.GithubApiProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+/**
+ * 응답이 늦은 GitHub GET 요청을 한 번 더 보내 먼저 도착한 응답을 사용하는 필터 (요청 헤징)
+ * <p>
+ * 최근 응답 시간의 분위수(기본 p95)까지 응답이 없으면 같은 요청을 한 번 더 보내고, 먼저 온 응답을 사용한 뒤
+ * 나머지 요청은 취소합니다. 추가 요청 예산은 0에서 시작해 원 요청마다 budgetRatio씩 쌓이므로, 기동 직후나
+ * 한동안 요청이 없던 뒤에도 추가 요청이 원 요청 수의 budgetRatio를 넘지 않습니다. 이 필터는 호출 한도 스케줄러
+ * 뒤에 있으므로 추가 요청마다 스케줄러에서 바로 보낼 수 있는 전송 시각을 따로 예약하며, 토큰의 남은 호출 수가
+ * 부족하거나 한도에 근접해 기다려야 하면 보내지 않습니다. 백그라운드 요청은 응답 시간이 중요하지 않으므로
+ * 헤징하지 않습니다.
+ * github.hedge.requests(헤징 대상 요청), github.hedge.sent(추가 요청), github.hedge.wins(추가 요청의 응답을
+ * 사용한 횟수) 지표로 헤징 비율과 효과를 확인할 수 있습니다.
+ */
+@Component
+@Slf4j
+public class GithubRequestHedger implements ExchangeFilterFunction {
+
+    // 추가 요청 예산을 쌓아 둘 수 있는 원 요청 수 (예산 상한 = budgetRatio x 이 값, 최소 1회)
+    private static final int BUDGET_WINDOW = 20;
+
+    private final GithubApiProperties.Hedging properties;
+    private final String githubApiHost;
+    private final GithubRateLimitScheduler githubRateLimitScheduler;
+
+    // 최근 응답 시간 (밀리초, 원형 버퍼)
+    private final long[] samples;
+    private long sampleCount;
+    private int sampleIndex;
+    private final int recomputeInterval;
+    private volatile long hedgeDelayMillis;
+
+    // 추가 요청 예산 (원 요청마다 budgetRatio씩 쌓임)
+    private final double maxBudget;
+    private double budget;
+
+    private final Counter requestCounter;
+    private final Counter sentCounter;
+    private final Counter winCounter;
+    private final Counter skippedCounter;
+
+    public GithubRequestHedger(GithubApiProperties githubApiProperties,
+            GithubRateLimitScheduler githubRateLimitScheduler, MeterRegistry meterRegistry) {
+        this.properties = githubApiProperties.getHedging();
+        this.githubApiHost = URI.create(githubApiProperties.getBaseUrl()).getHost();
+        this.githubRateLimitScheduler = githubRateLimitScheduler;
+        this.samples = new long[Math.max(1, properties.getSampleSize())];
+        this.recomputeInterval = Math.max(1, samples.length / 10);
+        this.hedgeDelayMillis = properties.getInitialDelay().toMillis();
+        this.maxBudget = Math.max(1, properties.getBudgetRatio() * BUDGET_WINDOW);
+
+        this.requestCounter = Counter.builder("github.hedge.requests")
+                .description("헤징 대상 GitHub GET 요청 수")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("github.hedge.sent")
+                .description("응답 지연으로 추가로 보낸 GitHub 요청 수")
+                .register(meterRegistry);
+        this.winCounter = Counter.builder("github.hedge.wins")
+                .description("추가 요청의 응답이 먼저 도착하여 사용한 횟수")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("github.hedge.skipped")
+                .description("예산 또는 남은 호출 수 부족으로 보내지 않은 추가 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("github.hedge.delay", this, hedger -> hedger.hedgeDelayMillis)
+                .description("추가 요청을 보내기까지의 대기 시간 (밀리초)")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!isHedgeable(request)) {
+            return next.exchange(request);
+        }
+
+        return Mono.deferContextual(context -> {
+            if (GithubRequestPriority.isBackground(request, context)) {
+                return next.exchange(request);
+            }
+
+            requestCounter.increment();
+            earnBudget();
+
+            long start = System.nanoTime();
+            Duration delay = Duration.ofMillis(hedgeDelayMillis);
+            AtomicBoolean answered = new AtomicBoolean();
+
+            Mono<Tuple2<ClientResponse, Boolean>> primary = next.exchange(request)
+                    .flatMap(response -> claim(answered, response, false));
+
+            // 추가 요청의 오류는 무시하고 원 요청의 결과를 기다림
+            Mono<Tuple2<ClientResponse, Boolean>> hedge = Mono.delay(delay)
+                    .flatMap(tick -> {
+                        if (!tryHedge(request)) {
+                            return Mono.<ClientResponse>never();
+                        }
+                        sentCounter.increment();
+                        log.debug("GitHub 응답 지연으로 추가 요청 전송 ({}ms 경과): {}",
+                                delay.toMillis(), request.url());
+                        return next.exchange(request);
+                    })
+                    .flatMap(response -> claim(answered, response, true))
+                    .onErrorResume(e -> Mono.never());
+
+            return Mono.firstWithSignal(primary, hedge)
+                    .map(result -> {
+                        if (result.getT2()) {
+                            winCounter.increment();
+                        }
+                        recordLatency((System.nanoTime() - start) / 1_000_000);
+                        return result.getT1();
+                    });
+        });
+    }
+
+    private boolean isHedgeable(ClientRequest request) {
+        return properties.isEnabled()
+                && HttpMethod.GET.equals(request.method())
+                && githubApiHost.equals(request.url().getHost())
+                && request.headers().containsKey(HttpHeaders.AUTHORIZATION);
+    }
+
+    /**
+     * 먼저 도착한 응답만 사용하고, 늦게 도착한 응답은 본문을 버려 커넥션을 반환합니다.
+     */
+    private static Mono<Tuple2<ClientResponse, Boolean>> claim(AtomicBoolean answered,
+            ClientResponse response, boolean hedged) {
+        if (answered.compareAndSet(false, true)) {
+            return Mono.just(Tuples.of(response, hedged));
+        }
+        return response.releaseBody().then(Mono.never());
+    }
+
+    private boolean tryHedge(ClientRequest request) {
+        boolean allowed = spendBudget();
+        if (allowed && !githubRateLimitScheduler.tryReserveNow(request,
+                properties.getMinRemainingRatio())) {
+            refundBudget();
+            allowed = false;
+        }
+        if (!allowed) {
+            skippedCounter.increment();
+        }
+        return allowed;
+    }
+
+    private synchronized void earnBudget() {
+        budget = Math.min(maxBudget, budget + properties.getBudgetRatio());
+    }
+
+    private synchronized boolean spendBudget() {
+        if (budget < 1) {
+            return false;
+        }
+        budget -= 1;
+        return true;
+    }
+
+    private synchronized void refundBudget() {
+        budget = Math.min(maxBudget, budget + 1);
+    }
+
+    /**
+     * 응답 시간을 기록하고, 일정 개수마다 추가 요청 대기 시간을 최근 응답 시간의 분위수로 갱신합니다.
+     */
+    private synchronized void recordLatency(long millis) {
+        samples[sampleIndex] = millis;
+        sampleIndex = (sampleIndex + 1) % samples.length;
+        sampleCount++;
+
+        if (sampleCount < properties.getMinSamples() || sampleCount % recomputeInterval != 0) {
+            return;
+        }
+        long[] sorted = Arrays.copyOf(samples, (int) Math.min(sampleCount, samples.length));
+        Arrays.sort(sorted);
+        int index = (int) Math.min(sorted.length - 1,
+                Math.ceil(sorted.length * properties.getPercentile()) - 1);
+        hedgeDelayMillis = Math.max(properties.getMinDelay().toMillis(),
+                sorted[Math.max(0, index)]);
+    }
+}
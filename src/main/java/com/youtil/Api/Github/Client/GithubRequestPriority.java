@@ -0,0 +1,41 @@
+package com.youtil.Api.Github.Client;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * GitHub 요청 우선순위
+ * <p>
+ * WebClient 요청 속성({@link #ATTRIBUTE})이나 Reactor Context({@link #backgroundContext()})로 지정하며,
+ * 지정하지 않으면 사용자 요청(INTERACTIVE)으로 처리합니다. Context로 지정하면 하나의 작업 안에서 이어지는 모든
+ * GitHub 요청에 같은 우선순위가 적용됩니다.
+ */
+public enum GithubRequestPriority {
+    INTERACTIVE,
+    BACKGROUND;
+
+    public static final String ATTRIBUTE = GithubRequestPriority.class.getName();
+
+    /**
+     * contextWrite로 지정하면 해당 작업의 GitHub 요청을 모두 백그라운드 우선순위로 처리합니다.
+     */
+    public static Context backgroundContext() {
+        return Context.of(ATTRIBUTE, BACKGROUND);
+    }
+
+    /**
+     * 요청 속성 또는 구독 Context에 백그라운드 우선순위가 지정되어 있는지 확인합니다.
+     */
+    public static boolean isBackground(ClientRequest request, ContextView context) {
+        return request.attribute(ATTRIBUTE).map(BACKGROUND::equals).orElse(false)
+                || BACKGROUND.equals(context.getOrDefault(ATTRIBUTE, INTERACTIVE));
+    }
+
+    /**
+     * 구독 Context에 백그라운드 우선순위가 지정되어 있는지 확인합니다.
+     */
+    public static boolean isBackground(ContextView context) {
+        return BACKGROUND.equals(context.getOrDefault(ATTRIBUTE, INTERACTIVE));
+    }
+}
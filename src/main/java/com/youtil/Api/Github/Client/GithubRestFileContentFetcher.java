@@ -0,0 +1,53 @@
+package com.youtil.Api.Github.Client;
+
+import com.youtil.Api.Github.Cache.GithubContentCache;
+import com.youtil.Config.GithubApiProperties;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 파일마다 REST contents API를 호출하여 커밋 시점 파일 내용을 조회합니다. (기본 방식)
+ */
+@Component
+@ConditionalOnProperty(prefix = "github.api.graphql", name = "enabled", havingValue = "false",
+        matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class GithubRestFileContentFetcher implements GithubFileContentFetcher {
+
+    private final GithubApiClient githubApiClient;
+    private final GithubContentCache githubContentCache;
+    private final GithubApiProperties githubApiProperties;
+
+    @Override
+    public Mono<Map<String, String>> fetchContents(Long repositoryId, String owner, String repo,
+            Map<String, String> contentRefs, String token) {
+        int concurrency = Math.max(1, githubApiProperties.getCommitDetail().getConcurrency());
+
+        return Flux.fromIterable(contentRefs.entrySet())
+                .flatMap(ref -> fetchFileContent(repositoryId, owner, repo, ref.getKey(),
+                        ref.getValue(), token)
+                        .map(content -> Map.entry(ref.getKey(), content)), concurrency)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    /**
+     * 특정 파일의 커밋 시점 내용을 가져옵니다. 조회에 실패하면 빈 문자열을 반환합니다.
+     * 커밋 SHA 기준 내용은 변하지 않으므로 캐시에 있으면 GitHub를 호출하지 않습니다.
+     */
+    private Mono<String> fetchFileContent(Long repositoryId, String owner, String repo,
+            String path, String ref, String token) {
+        return githubContentCache.getOrLoad(repositoryId, ref, path,
+                        () -> githubApiClient.getFileContent(owner, repo, path, ref, token))
+                .defaultIfEmpty("")
+                .onErrorResume(e -> {
+                    log.warn("커밋 시점 파일 내용 조회 실패: {}, 오류: {}", path, e.getMessage());
+                    return Mono.just("");
+                });
+    }
+}
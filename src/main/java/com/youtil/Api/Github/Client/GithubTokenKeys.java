@@ -0,0 +1,44 @@
+package com.youtil.Api.Github.Client;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 복호화된 GitHub 토큰을 캐시 키나 메트릭 태그로 사용할 수 있도록 해시값으로 변환합니다.
+ * 토큰 원문은 메모리 캐시 키에도 남기지 않습니다.
+ */
+public final class GithubTokenKeys {
+
+    private static final String ANONYMOUS = "anonymous";
+    private static final int KEY_LENGTH = 16;
+
+    private GithubTokenKeys() {
+    }
+
+    public static String of(String token) {
+        if (token == null || token.isEmpty()) {
+            return ANONYMOUS;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String hex = HexFormat.of()
+                    .formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+            return hex.substring(0, KEY_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Authorization 헤더 값("Bearer xxx" 또는 "token xxx")에서 토큰 키를 만듭니다.
+     */
+    public static String fromAuthorizationHeader(String authorization) {
+        if (authorization == null) {
+            return ANONYMOUS;
+        }
+        int separator = authorization.indexOf(' ');
+        return of(separator >= 0 ? authorization.substring(separator + 1).trim() : authorization);
+    }
+}
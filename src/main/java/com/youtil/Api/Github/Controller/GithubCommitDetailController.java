@@ -18,6 +18,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api/v1/github")
@@ -56,7 +57,7 @@ public class GithubCommitDetailController {
             produces = MediaType.APPLICATION_JSON_VALUE,
             consumes = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<ApiResponse<CommitDetailResponseDTO.CommitDetailResponse>> getCommitDetails(
+    public Mono<ResponseEntity<ApiResponse<CommitDetailResponseDTO.CommitDetailResponse>>> getCommitDetails(
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "조회할 커밋 정보",
                     required = true,
@@ -68,41 +69,45 @@ public class GithubCommitDetailController {
                 request.getOrganizationId(), request.getRepositoryId(), request.getBranch(),
                 request.getCommits() != null ? request.getCommits().size() : 0);
 
-        try {
-            // 요청 검증
-            if (request.getRepositoryId() == null) {
-                throw new IllegalArgumentException(TilMessageCode.TIL_REPOSITORY_ID_REQUIRED.getMessage());
-            }
-            if (request.getBranch() == null || request.getBranch().isEmpty()) {
-                throw new IllegalArgumentException(TilMessageCode.TIL_BRANCH_REQUIRED.getMessage());
-            }
-            if (request.getCommits() == null || request.getCommits().isEmpty()) {
-                throw new IllegalArgumentException(TilMessageCode.TIL_COMMITS_REQUIRED.getMessage());
-            }
+        // 요청 검증
+        if (request.getRepositoryId() == null) {
+            throw badRequest(TilMessageCode.TIL_REPOSITORY_ID_REQUIRED.getMessage());
+        }
+        if (request.getBranch() == null || request.getBranch().isEmpty()) {
+            throw badRequest(TilMessageCode.TIL_BRANCH_REQUIRED.getMessage());
+        }
+        if (request.getCommits() == null || request.getCommits().isEmpty()) {
+            throw badRequest(TilMessageCode.TIL_COMMITS_REQUIRED.getMessage());
+        }
 
-            // 인증된 사용자 ID 가져오기
-            Long userId = JwtUtil.getAuthenticatedUserId();
+        // 인증된 사용자 ID 가져오기 (요청 스레드에서 미리 꺼내둠)
+        Long userId = JwtUtil.getAuthenticatedUserId();
 
-            // 서비스 호출
-            CommitDetailResponseDTO.CommitDetailResponse response =
-                    githubCommitDetailService.getCommitDetails(request, userId);
+        // 서비스 호출
+        return githubCommitDetailService.getCommitDetails(request, userId)
+                .map(response -> {
+                    log.info("커밋 상세 정보 조회 성공: {}개 파일 정보 반환",
+                            response.getFiles() != null ? response.getFiles().size() : 0);
 
-            log.info("커밋 상세 정보 조회 성공: {}개 파일 정보 반환",
-                    response.getFiles() != null ? response.getFiles().size() : 0);
+                    return ResponseEntity.ok(
+                            new ApiResponse<>(
+                                    TilMessageCode.GITHUB_COMMIT_DETAIL_FETCHED.getMessage(),
+                                    TilMessageCode.GITHUB_COMMIT_DETAIL_FETCHED.getCode(),
+                                    response)
+                    );
+                })
+                .onErrorMap(e -> !(e instanceof ResponseStatusException), e -> {
+                    if (e instanceof IllegalArgumentException) {
+                        return badRequest(e.getMessage());
+                    }
+                    log.error("커밋 상세 정보 조회 오류: {}", e.getMessage());
+                    return new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
+                            TilMessageCode.GITHUB_API_ERROR.getMessage() + ": " + e.getMessage());
+                });
+    }
 
-            return ResponseEntity.ok(
-                    new ApiResponse<>(
-                            TilMessageCode.GITHUB_COMMIT_DETAIL_FETCHED.getMessage(),
-                            TilMessageCode.GITHUB_COMMIT_DETAIL_FETCHED.getCode(),
-                            response)
-            );
-        } catch (IllegalArgumentException e) {
-            log.warn("잘못된 요청: {}", e.getMessage());
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
-        } catch (RuntimeException e) {
-            log.error("커밋 상세 정보 조회 오류: {}", e.getMessage());
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
-                    TilMessageCode.GITHUB_API_ERROR.getMessage() + ": " + e.getMessage());
-        }
+    private ResponseStatusException badRequest(String message) {
+        log.warn("잘못된 요청: {}", message);
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, message);
     }
-}
\ No newline at end of file
+}
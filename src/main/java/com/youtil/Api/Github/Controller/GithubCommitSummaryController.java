@@ -1,6 +1,8 @@
 package com.youtil.Api.Github.Controller;
 
+import com.youtil.Api.Github.Dto.CommitActivityResponseDTO;
 import com.youtil.Api.Github.Dto.CommitSummaryResponseDTO;
+import com.youtil.Api.Github.Service.GithubActivityService;
 import com.youtil.Api.Github.Service.GithubCommitSummaryService;
 import com.youtil.Common.ApiResponse;
 import com.youtil.Common.Enums.TilMessageCode;
@@ -13,8 +15,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.format.DateTimeParseException;
 
@@ -26,6 +31,7 @@ import java.time.format.DateTimeParseException;
 public class GithubCommitSummaryController {
 
     private final GithubCommitSummaryService githubCommitSummaryService;
+    private final GithubActivityService githubActivityService;
 
     @GetMapping("/commits")
     @Operation(
@@ -51,7 +57,7 @@ public class GithubCommitSummaryController {
                     description = "커밋 데이터 없음"
             )
     })
-    public ApiResponse<CommitSummaryResponseDTO.CommitSummaryResponse> getCommitSummary(
+    public Mono<ApiResponse<CommitSummaryResponseDTO.CommitSummaryResponse>> getCommitSummary(
             @RequestParam(required = false) Long organizationId,
             @RequestParam Long repositoryId,
             @RequestParam String branchId,
@@ -60,30 +66,121 @@ public class GithubCommitSummaryController {
         log.info("GitHub 커밋 조회 요청: 조직={}, 레포={}, 브랜치={}, 날짜={}",
                 organizationId, repositoryId, branchId, date);
 
+        // 인증 정보는 요청 스레드에서 미리 꺼내둠
         Long userId = JwtUtil.getAuthenticatedUserId();
 
-        try {
-            CommitSummaryResponseDTO.CommitSummaryResponse result = githubCommitSummaryService.getCommitSummary(
-                    userId, organizationId, repositoryId, branchId, date);
+        return githubCommitSummaryService.getCommitSummary(
+                        userId, organizationId, repositoryId, branchId, date)
+                .map(result -> {
+                    log.info("GitHub 커밋 조회 성공: {} 개 커밋 정보 반환",
+                            result.getCommits() != null ? result.getCommits().size() : 0);
 
-            log.info("GitHub 커밋 조회 성공: {} 개 커밋 정보 반환",
-                    result.getCommits() != null ? result.getCommits().size() : 0);
+                    return new ApiResponse<>(
+                            TilMessageCode.GITHUB_COMMITS_FETCHED.getMessage(),
+                            TilMessageCode.GITHUB_COMMITS_FETCHED.getCode(),
+                            result);
+                })
+                .onErrorMap(this::toResponseStatusException);
+    }
+
+    @GetMapping(value = "/commits/range",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    @Operation(
+            summary = "깃허브 기간 커밋 조회",
+            description = "기간(from ~ to)의 커밋 기본 정보(SHA, 메시지)를 날짜별로 조회되는 대로 NDJSON 또는 SSE로 전송합니다. "
+                    + "같은 날짜가 여러 번 전송될 수 있으며, 커밋이 없는 날짜는 전송하지 않습니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "커밋 정보 조회 성공",
+                    content = @Content(schema = @Schema(implementation = CommitSummaryResponseDTO.CommitSummaryResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "유효하지 않은 날짜 또는 조회 기간"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "401",
+                    description = "인증 오류"
+            )
+    })
+    public Flux<CommitSummaryResponseDTO.CommitSummaryResponse> streamCommitSummaries(
+            @RequestParam(required = false) Long organizationId,
+            @RequestParam Long repositoryId,
+            @RequestParam String branchId,
+            @RequestParam String from,
+            @RequestParam String to) {
+
+        log.info("GitHub 기간 커밋 조회 요청: 조직={}, 레포={}, 브랜치={}, 기간={} ~ {}",
+                organizationId, repositoryId, branchId, from, to);
+
+        // 인증 정보는 요청 스레드에서 미리 꺼내둠
+        Long userId = JwtUtil.getAuthenticatedUserId();
+
+        return githubCommitSummaryService.streamCommitSummaries(
+                        userId, organizationId, repositoryId, branchId, from, to)
+                .onErrorMap(this::toResponseStatusException);
+    }
+
+    @GetMapping("/commits/activity")
+    @Operation(
+            summary = "깃허브 전체 레포지토리 커밋 조회",
+            description = "소유하거나 콜라보레이터로 참여한 모든 레포지토리에서 날짜(기간)별 본인 커밋을 최신 순으로 조회합니다. "
+                    + "레포지토리별 기본 브랜치의 커밋만 조회하며, 기본 브랜치에 병합되지 않은 다른 브랜치의 커밋은 포함되지 않습니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "커밋 정보 조회 성공",
+                    content = @Content(schema = @Schema(implementation = CommitActivityResponseDTO.CommitActivityResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "유효하지 않은 날짜 또는 조회 기간"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "401",
+                    description = "인증 오류"
+            )
+    })
+    public Mono<ApiResponse<CommitActivityResponseDTO.CommitActivityResponse>> getCommitActivity(
+            @RequestParam String from,
+            @RequestParam(required = false) String to) {
+
+        log.info("GitHub 전체 레포 커밋 조회 요청: {} ~ {}", from, to);
+
+        // 인증 정보는 요청 스레드에서 미리 꺼내둠
+        Long userId = JwtUtil.getAuthenticatedUserId();
+
+        return githubActivityService.getCommitActivity(userId, from, to)
+                .map(result -> {
+                    log.info("GitHub 전체 레포 커밋 조회 성공: {} 개 커밋 정보 반환",
+                            result.getCommits().size());
+
+                    return new ApiResponse<>(
+                            TilMessageCode.GITHUB_ACTIVITY_FETCHED.getMessage(),
+                            TilMessageCode.GITHUB_ACTIVITY_FETCHED.getCode(),
+                            result);
+                })
+                .onErrorMap(this::toResponseStatusException);
+    }
 
-            return new ApiResponse<>(
-                    TilMessageCode.GITHUB_COMMITS_FETCHED.getMessage(),
-                    TilMessageCode.GITHUB_COMMITS_FETCHED.getCode(),
-                    result);
-        } catch (IllegalArgumentException e) {
+    private Throwable toResponseStatusException(Throwable e) {
+        if (e instanceof ResponseStatusException) {
+            return e;
+        } else if (e instanceof IllegalArgumentException) {
             log.warn("잘못된 요청 파라미터: {}", e.getMessage());
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
-        } catch (DateTimeParseException e) {
+            return new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } else if (e instanceof DateTimeParseException) {
             log.warn("날짜 파싱 오류: {}", e.getMessage());
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+            return new ResponseStatusException(HttpStatus.BAD_REQUEST,
                     TilMessageCode.GITHUB_INVALID_DATE_FORMAT.getMessage());
-        } catch (RuntimeException e) {
+        } else if (e instanceof RuntimeException) {
             log.error("커밋 조회 오류: {}", e.getMessage());
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
+            return new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
                     TilMessageCode.GITHUB_API_ERROR.getMessage() + ": " + e.getMessage());
         }
+        return e;
     }
-}
\ No newline at end of file
+}
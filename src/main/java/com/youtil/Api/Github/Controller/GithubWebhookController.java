@@ -0,0 +1,58 @@
+package com.youtil.Api.Github.Controller;
+
+import com.youtil.Api.Github.Service.GithubCommitIndexService;
+import com.youtil.Common.ApiResponse;
+import com.youtil.Common.Enums.TilMessageCode;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/api/v1/github")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "github", description = "깃허브 관련 API")
+public class GithubWebhookController {
+
+    private final GithubCommitIndexService githubCommitIndexService;
+
+    @PostMapping("/webhook")
+    @Operation(
+            summary = "깃허브 웹훅 수신",
+            description = "레포지토리 push 웹훅을 받아 커밋 인덱스에 반영합니다. X-Hub-Signature-256 서명을 검증합니다."
+    )
+    public ApiResponse<Void> receiveWebhook(
+            @RequestHeader("X-GitHub-Event") String event,
+            @RequestHeader(value = "X-GitHub-Delivery", required = false) String deliveryId,
+            @RequestHeader(value = "X-Hub-Signature-256", required = false) String signature,
+            @RequestBody byte[] payload) {
+
+        // 서명은 수신한 원본 바이트 그대로 검증해야 하므로 본문을 byte[]로 받음
+        if (!githubCommitIndexService.verifySignature(payload, signature)) {
+            log.warn("GitHub 웹훅 서명 검증 실패: event={}, delivery={}", event, deliveryId);
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED,
+                    TilMessageCode.GITHUB_WEBHOOK_SIGNATURE_INVALID.getMessage());
+        }
+
+        log.info("GitHub 웹훅 수신: event={}, delivery={}", event, deliveryId);
+        if ("push".equals(event)) {
+            try {
+                githubCommitIndexService.indexPush(payload);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+            }
+        }
+
+        return new ApiResponse<>(
+                TilMessageCode.GITHUB_WEBHOOK_PROCESSED.getMessage(),
+                TilMessageCode.GITHUB_WEBHOOK_PROCESSED.getCode());
+    }
+}
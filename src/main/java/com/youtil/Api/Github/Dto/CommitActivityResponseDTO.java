@@ -0,0 +1,54 @@
+package com.youtil.Api.Github.Dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+public class CommitActivityResponseDTO {
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @Schema(description = "전체 레포지토리 커밋 활동 응답 DTO")
+    public static class CommitActivityResponse {
+        @Schema(description = "사용자 이름", example = "ConconDev")
+        private String username;
+
+        @Schema(description = "조회 시작 날짜", example = "2024-08-20")
+        private String from;
+
+        @Schema(description = "조회 종료 날짜", example = "2024-08-22")
+        private String to;
+
+        @Schema(description = "커밋 목록 (최신 커밋 순)")
+        private List<ActivityCommit> commits;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @Schema(description = "레포지토리 정보를 포함한 커밋 요약 정보")
+    public static class ActivityCommit {
+        @Schema(description = "레포지토리 ID", example = "123456789")
+        private Long repositoryId;
+
+        @Schema(description = "레포지토리 이름", example = "backend")
+        private String repo;
+
+        @Schema(description = "레포지토리 소유자", example = "youtil-org")
+        private String owner;
+
+        @Schema(description = "커밋 SHA", example = "3a7bd3e5a0a9d7a1f98b2c3d4e5f6g7h8i9j0k1l2")
+        private String sha;
+
+        @Schema(description = "커밋 메시지", example = "fix: 로그인 에러 수정")
+        @JsonProperty("commit_message")
+        private String commitMessage;
+
+        @Schema(description = "커밋 시각 (UTC)", example = "2024-08-20T09:30:00Z")
+        private String committedAt;
+    }
+}
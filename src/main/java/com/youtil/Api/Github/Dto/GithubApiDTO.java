@@ -0,0 +1,62 @@
+package com.youtil.Api.Github.Dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * GitHub API 응답 중 서비스에서 사용하는 필드만 담는 내부 모델
+ */
+public class GithubApiDTO {
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class CommitInfo {
+
+        private String sha;
+
+        // 커밋 작성자의 GitHub 로그인 (GitHub 계정과 연결되지 않은 커밋이면 null)
+        private String authorLogin;
+
+        // 커미터 날짜 (ISO 8601)
+        private String committedAt;
+
+        private List<CommitFile> files;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class CommitFile {
+
+        private String filename;
+        private String status;
+        private String patch;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class RepositoryRef {
+
+        private Long id;
+
+        // 소유자(사용자 또는 조직) 로그인
+        private String owner;
+
+        private String name;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Identity {
+
+        // 토큰 소유자의 GitHub 로그인
+        private String login;
+
+        // 토큰 소유자의 GitHub 사용자 ID
+        private Long id;
+    }
+}
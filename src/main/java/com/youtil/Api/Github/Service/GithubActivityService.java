@@ -0,0 +1,262 @@
+package com.youtil.Api.Github.Service;
+
+import com.youtil.Api.Github.Cache.GithubActivityCache;
+import com.youtil.Api.Github.Cache.GithubIdentityCache;
+import com.youtil.Api.Github.Client.GithubPaginator;
+import com.youtil.Api.Github.Client.GithubRepositoryResolver;
+import com.youtil.Api.Github.Dto.CommitActivityResponseDTO;
+import com.youtil.Common.Enums.TilMessageCode;
+import com.youtil.Config.GithubApiProperties;
+import com.youtil.Model.User;
+import com.youtil.Security.Encryption.TokenEncryptor;
+import com.youtil.Util.EntityValidator;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 사용자가 소유하거나 콜라보레이터로 참여한 모든 레포지토리에서 특정 날짜(기간)의 본인 커밋을 조회합니다.
+ * <p>
+ * 최근 push 순으로 레포 목록을 받아 조회 기간 이후 push된 레포만 골라 동시에 커밋을 조회한 뒤, 커밋 시각
+ * 순으로 합칩니다. 날짜는 단일 레포 커밋 조회와 같이 UTC 기준이며, 지난 날짜의 결과는 날짜별로 캐시합니다.
+ * <p>
+ * 커밋 목록 API(author 필터)는 브랜치를 지정하지 않으면 기본 브랜치만 조회하므로, 기본 브랜치에 병합되지
+ * 않은 다른 브랜치의 커밋은 결과에 포함되지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GithubActivityService {
+
+    private static final Comparator<CommitActivityResponseDTO.ActivityCommit> LATEST_FIRST =
+            Comparator.comparing(
+                    (CommitActivityResponseDTO.ActivityCommit commit) -> OffsetDateTime.parse(
+                            commit.getCommittedAt())).reversed();
+
+    private final GithubActivityCache githubActivityCache;
+    private final GithubIdentityCache githubIdentityCache;
+    private final GithubPaginator githubPaginator;
+    private final GithubRepositoryResolver githubRepositoryResolver;
+    private final GithubApiProperties githubApiProperties;
+    private final TokenEncryptor tokenEncryptor;
+    private final EntityValidator entityValidator;
+
+    /**
+     * 기간 내 전체 레포지토리의 본인 커밋을 최신 순으로 조회합니다.
+     *
+     * @param from 조회 시작 날짜 (YYYY-MM-DD)
+     * @param to   조회 종료 날짜 (YYYY-MM-DD, 없으면 시작 날짜와 같음)
+     */
+    public Mono<CommitActivityResponseDTO.CommitActivityResponse> getCommitActivity(Long userId,
+            String from, String to) {
+
+        LocalDate fromDate;
+        LocalDate toDate;
+        try {
+            fromDate = LocalDate.parse(from);
+            toDate = to != null && !to.isBlank() ? LocalDate.parse(to) : fromDate;
+        } catch (DateTimeException e) {
+            log.error("날짜 파싱 오류: {}", e.getMessage());
+            return Mono.error(new IllegalArgumentException(
+                    TilMessageCode.GITHUB_INVALID_DATE_FORMAT.getMessage()));
+        }
+
+        long days = ChronoUnit.DAYS.between(fromDate, toDate) + 1;
+        if (days < 1 || days > githubApiProperties.getActivity().getMaxDays()) {
+            return Mono.error(new IllegalArgumentException(
+                    TilMessageCode.GITHUB_DATE_RANGE_INVALID.getMessage()));
+        }
+
+        return loadAccessToken(userId).flatMap(token -> githubIdentityCache.getLogin(token)
+                .flatMap(login -> {
+                    // 1. 캐시에 있는 날짜는 그대로 사용하고, 없는 날짜를 포함하는 구간만 조회
+                    Map<LocalDate, List<CommitActivityResponseDTO.ActivityCommit>> commitsByDate =
+                            new HashMap<>();
+                    LocalDate missingFrom = null;
+                    LocalDate missingTo = null;
+                    for (LocalDate date = fromDate; !date.isAfter(toDate); date = date.plusDays(1)) {
+                        List<CommitActivityResponseDTO.ActivityCommit> cached =
+                                githubActivityCache.get(userId, date);
+                        if (cached != null) {
+                            commitsByDate.put(date, cached);
+                        } else {
+                            missingFrom = missingFrom == null ? date : missingFrom;
+                            missingTo = date;
+                        }
+                    }
+
+                    Mono<Map<LocalDate, List<CommitActivityResponseDTO.ActivityCommit>>> result;
+                    if (missingFrom == null) {
+                        log.info("전체 레포 커밋 캐시 사용: userId={}, {} ~ {}", userId, fromDate,
+                                toDate);
+                        result = Mono.just(commitsByDate);
+                    } else {
+                        LocalDate fetchFrom = missingFrom;
+                        LocalDate fetchTo = missingTo;
+                        result = fetchActivity(userId, token, login, fetchFrom, fetchTo)
+                                .map(fetched -> {
+                                    for (LocalDate date = fetchFrom; !date.isAfter(fetchTo);
+                                            date = date.plusDays(1)) {
+                                        commitsByDate.putIfAbsent(date,
+                                                fetched.getOrDefault(date, List.of()));
+                                    }
+                                    return commitsByDate;
+                                });
+                    }
+
+                    // 2. 날짜별 결과를 합쳐 최신 커밋 순으로 정렬
+                    return result.map(merged -> CommitActivityResponseDTO.CommitActivityResponse
+                            .builder()
+                            .username(login)
+                            .from(fromDate.toString())
+                            .to(toDate.toString())
+                            .commits(merged.values().stream()
+                                    .flatMap(List::stream)
+                                    .sorted(LATEST_FIRST)
+                                    .toList())
+                            .build());
+                }));
+    }
+
+    /**
+     * 기간 내 push된 레포지토리의 커밋을 동시에 조회하여 날짜별로 묶습니다. 조회 대상 레포가 최대 레포 수를
+     * 넘지 않고 모든 레포를 조회한 경우에만 날짜별 결과를 캐시에 저장합니다.
+     */
+    private Mono<Map<LocalDate, List<CommitActivityResponseDTO.ActivityCommit>>> fetchActivity(
+            Long userId, String token, String login, LocalDate fromDate, LocalDate toDate) {
+        GithubApiProperties.Activity properties = githubApiProperties.getActivity();
+        OffsetDateTime since = fromDate.atStartOfDay().atOffset(ZoneOffset.UTC);
+        OffsetDateTime until = toDate.plusDays(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+        String sinceIso = since.format(DateTimeFormatter.ISO_INSTANT);
+        String untilIso = until.format(DateTimeFormatter.ISO_INSTANT);
+        int maxRepositories = Math.max(1, properties.getMaxRepositories());
+        AtomicInteger selected = new AtomicInteger();
+        AtomicBoolean complete = new AtomicBoolean(true);
+
+        log.info("전체 레포 커밋 조회: userId={}, {} ~ {}", userId, sinceIso, untilIso);
+        return githubPaginator.getAll(token, "사용자 레포지토리 목록 조회",
+                        "/user/repos?affiliation=owner,collaborator&sort=pushed&direction=desc")
+                .doOnNext(repo -> githubRepositoryResolver.remember(token, repo))
+                // 최근 push 순이므로 조회 시작 시각 이전에 마지막으로 push된 레포부터는 더 볼 필요 없음
+                .takeWhile(repo -> isPushedSince(repo, since))
+                // 한 번도 push되지 않은 레포는 커밋이 없으므로 제외
+                .filter(repo -> repo.get("pushed_at") != null)
+                // 최대 레포 수를 넘는 레포가 있는지 확인하기 위해 하나 더 받아 두고 결과가 잘렸음을 기록
+                .take(maxRepositories + 1L)
+                .filter(repo -> {
+                    if (selected.incrementAndGet() <= maxRepositories) {
+                        return true;
+                    }
+                    complete.set(false);
+                    log.info("조회 기간에 push된 레포가 최대 {}개를 넘어 일부만 조회: userId={}",
+                            maxRepositories, userId);
+                    return false;
+                })
+                .flatMap(repo -> fetchRepositoryCommits(repo, token, login, sinceIso, untilIso)
+                                .onErrorResume(e -> {
+                                    if (TilMessageCode.GITHUB_REPOSITORY_EMPTY.getMessage()
+                                            .equals(e.getMessage())) {
+                                        // 커밋이 없는 빈 레포는 결과가 없는 것으로 처리
+                                        return Flux.empty();
+                                    }
+                                    complete.set(false);
+                                    log.warn("레포 커밋 조회 실패, 제외하고 진행: {}, 오류: {}",
+                                            repo.get("full_name"), e.getMessage());
+                                    return Flux.empty();
+                                }),
+                        Math.max(1, properties.getConcurrency()))
+                .collect(Collectors.groupingBy(commit -> OffsetDateTime.parse(
+                                commit.getCommittedAt())
+                        .withOffsetSameInstant(ZoneOffset.UTC)
+                        .toLocalDate()))
+                .doOnNext(commitsByDate -> {
+                    if (!complete.get()) {
+                        return;
+                    }
+                    for (LocalDate date = fromDate; !date.isAfter(toDate); date = date.plusDays(1)) {
+                        githubActivityCache.put(userId, date,
+                                commitsByDate.getOrDefault(date, List.of()));
+                    }
+                });
+    }
+
+    private Flux<CommitActivityResponseDTO.ActivityCommit> fetchRepositoryCommits(
+            Map<String, Object> repo, String token, String login, String sinceIso,
+            String untilIso) {
+        Long repositoryId = Long.valueOf(repo.get("id").toString());
+        String name = repo.get("name").toString();
+        String owner = ((Map<String, Object>) repo.get("owner")).get("login").toString();
+
+        return githubPaginator.getAll(token, "커밋 목록 조회",
+                        "/repos/{owner}/{repo}/commits?since={since}&until={until}&author={author}",
+                        owner, name, sinceIso, untilIso, login)
+                // 작성자 필터링 이중 확인
+                .filter(commit -> {
+                    Map<String, Object> author = (Map<String, Object>) commit.get("author");
+                    return author == null || login.equals(author.get("login"));
+                })
+                .map(commit -> {
+                    Map<String, Object> commitData = (Map<String, Object>) commit.get("commit");
+                    Map<String, Object> committer =
+                            (Map<String, Object>) commitData.get("committer");
+                    return CommitActivityResponseDTO.ActivityCommit.builder()
+                            .repositoryId(repositoryId)
+                            .repo(name)
+                            .owner(owner)
+                            .sha(commit.get("sha").toString())
+                            .commitMessage(commitData.get("message").toString())
+                            .committedAt(committer.get("date").toString())
+                            .build();
+                });
+    }
+
+    private static boolean isPushedSince(Map<String, Object> repo, OffsetDateTime since) {
+        Object pushedAt = repo.get("pushed_at");
+        if (pushedAt == null) {
+            // 한 번도 push되지 않은 레포는 건너뛰지 않고 이후 레포를 계속 확인
+            return true;
+        }
+        try {
+            return !OffsetDateTime.parse(pushedAt.toString()).isBefore(since);
+        } catch (DateTimeException e) {
+            return true;
+        }
+    }
+
+    private void validateToken(User user) {
+        if (user.getGithubToken() == null || user.getGithubToken().isEmpty()) {
+            throw new RuntimeException(TilMessageCode.GITHUB_TOKEN_MISSING.getMessage());
+        }
+    }
+
+    /**
+     * 사용자 조회와 토큰 복호화를 진행합니다. DB 조회가 포함되므로 별도 스레드에서 실행합니다.
+     */
+    private Mono<String> loadAccessToken(Long userId) {
+        return Mono.fromCallable(() -> {
+            User user = entityValidator.getValidUserOrThrow(userId);
+            validateToken(user);
+            try {
+                return tokenEncryptor.decrypt(user.getGithubToken());
+            } catch (Exception e) {
+                throw new RuntimeException(TilMessageCode.GITHUB_TOKEN_DECRYPT_ERROR.getMessage());
+            }
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -1,26 +1,43 @@
 package com.youtil.Api.Github.Service;
 
+import com.youtil.Api.Github.Cache.GithubCommitCache;
+import com.youtil.Api.Github.Cache.GithubIdentityCache;
+import com.youtil.Api.Github.Client.GithubApiClient;
+import com.youtil.Api.Github.Client.GithubCommitDecoder;
+import com.youtil.Api.Github.Client.GithubFileContentFetcher;
+import com.youtil.Api.Github.Client.GithubRepositoryResolver;
 import com.youtil.Api.Github.Converter.GitHubDtoConverter;
 import com.youtil.Api.Github.Dto.CommitDetailRequestDTO;
 import com.youtil.Api.Github.Dto.CommitDetailResponseDTO;
+import com.youtil.Api.Github.Dto.GithubApiDTO;
 import com.youtil.Common.Enums.TilMessageCode;
+import com.youtil.Config.GithubApiProperties;
+import com.youtil.Config.UpstreamResilience;
 import com.youtil.Model.User;
 import com.youtil.Security.Encryption.TokenEncryptor;
 import com.youtil.Util.EntityValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Base64;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 @Service
 @RequiredArgsConstructor
@@ -28,13 +45,21 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 public class GithubCommitDetailService {
 
     private final WebClient webClient;
+    private final GithubApiClient githubApiClient;
+    private final GithubIdentityCache githubIdentityCache;
+    private final GithubCommitDecoder githubCommitDecoder;
+    private final GithubFileContentFetcher githubFileContentFetcher;
+    private final GithubRepositoryResolver githubRepositoryResolver;
     private final TokenEncryptor tokenEncryptor;
     private final EntityValidator entityValidator;
+    private final GithubApiProperties githubApiProperties;
+    private final GithubCommitCache githubCommitCache;
+    private final MeterRegistry meterRegistry;
 
     /**
      * 선택된 커밋의 상세 정보를 GitHub API를 통해 조회합니다.
      */
-    public CommitDetailResponseDTO.CommitDetailResponse getCommitDetails(
+    public Mono<CommitDetailResponseDTO.CommitDetailResponse> getCommitDetails(
             CommitDetailRequestDTO.CommitDetailRequest request, Long userId) {
 
         // 시작 시간 기록
@@ -42,71 +67,99 @@ public class GithubCommitDetailService {
         log.info("선택된 커밋 상세 조회 시작: {}개 커밋, 레포지토리ID={}, 브랜치={}",
                 request.getCommits().size(), request.getRepositoryId(), request.getBranch());
 
-        // 사용자 조회 및 토큰 유효성 검사
-        User user = entityValidator.getValidUserOrThrow(userId);
-        validateToken(user);
-        String token = decryptToken(user.getGithubToken());
-
-        // 사용자의 GitHub 사용자명 가져오기
-        String username = getUsernameFromToken(token);
+        // 사용자 조회 및 토큰 유효성 검사 후, 사용자명과 레포지토리 정보를 동시에 조회
+        return loadAccessToken(userId)
+                .flatMap(token -> Mono.zip(
+                                githubIdentityCache.getLogin(token),
+                                getRepositoryById(request.getRepositoryId(), token))
+                        .flatMap(tuple -> {
+                            String owner = tuple.getT2().getOwner();
+                            String repoName = tuple.getT2().getName();
+                            log.info("레포지토리 정보 조회 완료: 소유자={}, 레포={}", owner, repoName);
+
+                            return fetchCommitDetails(request, token, tuple.getT1(), owner,
+                                    repoName);
+                        }))
+                .doOnNext(response -> {
+                    // 종료 시간 기록 및 소요 시간 계산
+                    long duration = System.currentTimeMillis() - startTime;
+                    Timer.builder("github.commit.detail.duration")
+                            .description("선택된 커밋 상세 조회 전체 소요 시간")
+                            .register(meterRegistry)
+                            .record(duration, TimeUnit.MILLISECONDS);
+                    log.info("선택된 커밋 상세 조회 완료: {}개 커밋, {}개 파일, 소요 시간: {}ms",
+                            request.getCommits().size(), response.getFiles().size(), duration);
+                });
+    }
 
-        // 현재 날짜 포맷 (기본값으로 사용)
-        String currentDate = LocalDate.now().format(DateTimeFormatter.ISO_LOCAL_DATE);
-        // 실제 커밋 날짜를 저장할 변수 (기본값은 현재 날짜)
-        String commitDate = currentDate;
+    private Mono<CommitDetailResponseDTO.CommitDetailResponse> fetchCommitDetails(
+            CommitDetailRequestDTO.CommitDetailRequest request, String token, String username,
+            String owner, String repoName) {
 
-        // 레포지토리 정보 조회
-        String owner;
-        String repoName;
+        int concurrency = Math.max(1, githubApiProperties.getCommitDetail().getConcurrency());
 
-        try {
-            Map<String, Object> repoMeta = getRepositoryById(request.getRepositoryId(), token);
-            owner = ((Map<String, Object>) repoMeta.get("owner")).get("login").toString();
-            repoName = (String) repoMeta.get("name");
-            log.info("레포지토리 정보 조회 완료: 소유자={}, 레포={}", owner, repoName);
-        } catch (Exception e) {
-            log.error("레포지토리 메타데이터 조회 실패: {}", e.getMessage());
-            throw new RuntimeException(TilMessageCode.GITHUB_REPO_NOT_FOUND.getMessage() + ": " + e.getMessage());
-        }
-
-        // 파일별로 패치 정보 그룹화 준비
-        Map<String, List<CommitDetailResponseDTO.PatchDetail>> filePatches = new HashMap<>();
-        Map<String, String> fileContents = new HashMap<>();
-
-        // 커밋 처리
-        for (CommitDetailRequestDTO.CommitSummary commitSummary : request.getCommits()) {
-            try {
-                // 커밋 기본 정보 가져오기
-                Map<String, Object> commitInfo = fetchCommitBasicInfo(
+        // 1. 커밋 기본 정보 병렬 조회 (요청한 커밋 순서 유지)
+        long commitPhaseStart = System.nanoTime();
+        return Flux.fromIterable(request.getCommits())
+                .flatMapSequential(commitSummary -> fetchCommitBasicInfo(
+                        request.getRepositoryId(),
                         owner,
                         repoName,
                         commitSummary.getSha(),
                         token
-                );
+                )
+                        .map(commitInfo -> Tuples.of(commitSummary, commitInfo))
+                        .switchIfEmpty(Mono.fromRunnable(() -> log.warn(
+                                "커밋을 찾을 수 없음: sha={}", commitSummary.getSha())))
+                        .onErrorResume(e -> {
+                            // GitHub 서킷이 열려 있으면 나머지 커밋도 실패하므로 바로 중단
+                            if (UpstreamResilience.isRejected(e)) {
+                                return Mono.error(
+                                        GithubApiClient.translate(e, "커밋 기본 정보 조회"));
+                            }
+                            logCommitFetchError(commitSummary.getSha(), e);
+                            // 오류가 발생하더라도 다음 커밋 처리를 위해 계속 진행
+                            return Mono.empty();
+                        }), concurrency)
+                .collectList()
+                .doOnNext(commitInfos -> recordPhase("commits", commitPhaseStart))
+                .flatMap(commitInfos -> {
+                    CommitGroups groups = groupByFile(commitInfos, username);
+
+                    // 2. 파일 내용 조회 (커밋 시점의 코드, 설정에 따라 REST 병렬 조회 또는 GraphQL 일괄 조회)
+                    long contentPhaseStart = System.nanoTime();
+                    return githubFileContentFetcher.fetchContents(request.getRepositoryId(),
+                                    owner, repoName, groups.contentRefs, token)
+                            .doOnNext(fileContents -> recordPhase("contents", contentPhaseStart))
+                            .map(fileContents -> toCommitDetailResponse(groups, fileContents,
+                                    username, repoName));
+                });
+    }
 
-                // commitInfo가 null이면 다음 커밋으로 계속 진행
-                if (commitInfo == null) {
-                    log.warn("커밋을 찾을 수 없음: sha={}", commitSummary.getSha());
-                    continue;
-                }
+    /**
+     * 조회한 커밋 정보를 파일별 패치 목록과 파일 내용 조회 기준 커밋으로 정리합니다.
+     */
+    private CommitGroups groupByFile(
+            List<Tuple2<CommitDetailRequestDTO.CommitSummary, GithubApiDTO.CommitInfo>> commitInfos,
+            String username) {
 
+        // 현재 날짜 포맷 (기본값으로 사용)
+        String currentDate = LocalDate.now().format(DateTimeFormatter.ISO_LOCAL_DATE);
+        CommitGroups groups = new CommitGroups(currentDate);
+
+        for (Tuple2<CommitDetailRequestDTO.CommitSummary, GithubApiDTO.CommitInfo> tuple : commitInfos) {
+            CommitDetailRequestDTO.CommitSummary commitSummary = tuple.getT1();
+            GithubApiDTO.CommitInfo commitInfo = tuple.getT2();
+
+            try {
                 // 커밋 날짜 추출 (첫 번째 유효한 커밋에서 추출)
-                if (commitDate.equals(currentDate)) {
+                if (groups.commitDate.equals(currentDate) && commitInfo.getCommittedAt() != null) {
                     try {
-                        Map<String, Object> commit = (Map<String, Object>) commitInfo.get("commit");
-                        if (commit != null && commit.containsKey("committer")) {
-                            Map<String, Object> committer = (Map<String, Object>) commit.get(
-                                    "committer");
-                            if (committer != null && committer.containsKey("date")) {
-                                String dateStr = committer.get("date").toString();
-
-                                // GitHub API의 날짜 형식은 ISO 8601 (예: 2024-05-06T10:30:00Z)
-                                // 이를 YYYY-MM-DD 형식으로 변환
-                                OffsetDateTime dateTime = OffsetDateTime.parse(dateStr);
-                                commitDate = dateTime.toLocalDate().toString();
-                                log.info("커밋 날짜 추출: {}", commitDate);
-                            }
-                        }
+                        // GitHub API의 날짜 형식은 ISO 8601 (예: 2024-05-06T10:30:00Z)
+                        // 이를 YYYY-MM-DD 형식으로 변환
+                        OffsetDateTime dateTime = OffsetDateTime.parse(commitInfo.getCommittedAt());
+                        groups.commitDate = dateTime.toLocalDate().toString();
+                        log.info("커밋 날짜 추출: {}", groups.commitDate);
                     } catch (Exception e) {
                         log.warn("커밋 날짜 추출 오류: {}", e.getMessage());
                         // 날짜 파싱 실패시 현재 날짜를 사용
@@ -114,231 +167,114 @@ public class GithubCommitDetailService {
                 }
 
                 // 자신이 작성한 커밋인지 확인
-                Map<String, Object> apiAuthor = (Map<String, Object>) commitInfo.get("author");
-                if (apiAuthor != null && !username.equals(apiAuthor.get("login"))) {
+                if (commitInfo.getAuthorLogin() != null
+                        && !username.equals(commitInfo.getAuthorLogin())) {
                     log.info("본인이 작성한 커밋이 아님: sha={}, author={}", commitSummary.getSha(),
-                            apiAuthor.get("login"));
+                            commitInfo.getAuthorLogin());
                     continue;
                 }
 
                 // 파일 변경 정보 처리
-                List<Map<String, Object>> files = (List<Map<String, Object>>) commitInfo.get(
-                        "files");
-                if (files != null && !files.isEmpty()) {
-                    for (Map<String, Object> file : files) {
-                        String filepath = file.get("filename").toString();
-                        String patch =
-                                file.containsKey("patch") ? file.get("patch").toString() : "";
-                        String status = file.get("status").toString();
-
-                        // 파일 내용 조회 (커밋 시점의 코드)
-                        if (!fileContents.containsKey(filepath) && !"removed".equals(status)) {
-                            try {
-                                // 브랜치 대신 커밋 SHA를 사용하여 해당 커밋 시점의 파일 내용 조회
-                                String latestCode = fetchFileContent(owner, repoName, filepath,
-                                        commitSummary.getSha(), token);
-                                fileContents.put(filepath, latestCode);
-                            } catch (Exception e) {
-                                log.warn("커밋 시점 파일 내용 조회 실패: {}, 오류: {}", filepath, e.getMessage());
-                                fileContents.put(filepath, "");
-                            }
-                        }
-
-                        // 패치 정보 생성
-                        CommitDetailResponseDTO.PatchDetail patchDetail = CommitDetailResponseDTO.PatchDetail.builder()
-                                .commit_message(commitSummary.getMessage())
-                                .patch(patch)
-                                .build();
-
-                        // 파일별 패치 정보 그룹화
-                        if (!filePatches.containsKey(filepath)) {
-                            filePatches.put(filepath, new ArrayList<>());
-                        }
-                        filePatches.get(filepath).add(patchDetail);
+                for (GithubApiDTO.CommitFile file : commitInfo.getFiles()) {
+                    String filepath = file.getFilename();
+
+                    // 브랜치 대신 커밋 SHA를 사용하여 해당 커밋 시점의 파일 내용을 조회하도록 기록
+                    if (!"removed".equals(file.getStatus())) {
+                        groups.contentRefs.putIfAbsent(filepath, commitSummary.getSha());
                     }
+
+                    // 패치 정보 생성
+                    CommitDetailResponseDTO.PatchDetail patchDetail = CommitDetailResponseDTO.PatchDetail.builder()
+                            .commit_message(commitSummary.getMessage())
+                            .patch(file.getPatch())
+                            .build();
+
+                    // 파일별 패치 정보 그룹화
+                    groups.filePatches.computeIfAbsent(filepath, key -> new ArrayList<>())
+                            .add(patchDetail);
                 }
 
                 log.info("커밋 정보 처리 완료: sha={}, 메시지={}", commitSummary.getSha(),
                         commitSummary.getMessage());
-            } catch (WebClientResponseException e) {
-                log.error("GitHub API 호출 실패: {} - {}, SHA: {}",
-                        e.getStatusCode(), e.getMessage(), commitSummary.getSha());
-                // 오류가 발생하더라도 다음 커밋 처리를 위해 계속 진행
             } catch (Exception e) {
-                log.error("커밋 상세 정보 조회 실패 (sha={}): {}", commitSummary.getSha(), e.getMessage());
+                log.error("커밋 상세 정보 처리 실패 (sha={}): {}", commitSummary.getSha(), e.getMessage());
                 // 오류가 발생하더라도 다음 커밋 처리를 위해 계속 진행
             }
         }
+        return groups;
+    }
+
+    private CommitDetailResponseDTO.CommitDetailResponse toCommitDetailResponse(
+            CommitGroups groups, Map<String, String> fileContents, String username,
+            String repoName) {
 
         // 파일 상세 정보 리스트 생성
         List<CommitDetailResponseDTO.FileDetail> fileDetails = new ArrayList<>();
-        for (String filepath : filePatches.keySet()) {
+        for (String filepath : groups.filePatches.keySet()) {
             CommitDetailResponseDTO.FileDetail fileDetail = CommitDetailResponseDTO.FileDetail.builder()
                     .filepath(filepath)
                     .latest_code(fileContents.getOrDefault(filepath, ""))
-                    .patches(filePatches.get(filepath))
+                    .patches(groups.filePatches.get(filepath))
                     .build();
             fileDetails.add(fileDetail);
         }
 
-        // 종료 시간 기록 및 소요 시간 계산
-        long endTime = System.currentTimeMillis();
-        long duration = endTime - startTime;
-        log.info("선택된 커밋 상세 조회 완료: {}개 파일, 소요 시간: {}ms", fileDetails.size(), duration);
-
         // 최종 응답 생성 - GitHubDtoConverter 활용
-        return GitHubDtoConverter.toCommitDetailResponse(fileDetails, username, commitDate,
+        return GitHubDtoConverter.toCommitDetailResponse(fileDetails, username, groups.commitDate,
                 repoName);
     }
 
-    // 사용자 정보 조회
-    private String getUsernameFromToken(String token) {
-        Map<String, Object> userInfo = webClient.get()
-                .uri("https://api.github.com/user")
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                .retrieve().bodyToMono(Map.class).block();
-
-        return userInfo != null ? userInfo.get("login").toString() : "unknown";
-    }
-
     /**
-     * 커밋의 기본 정보를 가져옵니다.
+     * 커밋의 기본 정보를 가져옵니다. 존재하지 않는 커밋이면 빈 Mono를 반환합니다.
+     * 커밋은 변하지 않으므로 한 번 조회한 결과(존재하지 않는 커밋 포함)는 캐시에서 반환합니다.
      */
-    private Map<String, Object> fetchCommitBasicInfo(String owner, String repo, String sha,
-                                                     String token) {
-        String url = String.format("https://api.github.com/repos/%s/%s/commits/%s", owner, repo,
-                sha);
-        log.info("GitHub API 호출: 커밋 기본 정보 조회 - {}", url);
-
-        try {
-            Map<String, Object> commitInfo = webClient.get()
-                    .uri(url)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-
-            log.info("커밋 기본 정보 조회 성공: sha={}", sha);
-            return commitInfo;
-        } catch (WebClientResponseException e) {
-            if (e.getStatusCode().value() == 422 || e.getStatusCode().value() == 404) {
-                log.warn("유효하지 않은 커밋 SHA: {}, 상태 코드: {}", sha, e.getStatusCode());
-                return null;
-            }
-            throw e;
-        } catch (Exception e) {
-            log.error("커밋 기본 정보 조회 오류: {}", e.getMessage());
-            throw new RuntimeException(TilMessageCode.GITHUB_API_ERROR.getMessage() + ": " + e.getMessage());
-        }
+    private Mono<GithubApiDTO.CommitInfo> fetchCommitBasicInfo(Long repositoryId, String owner,
+                                                               String repo, String sha,
+                                                               String token) {
+        return githubCommitCache.getOrLoad(repositoryId, sha,
+                () -> loadCommitBasicInfo(owner, repo, sha, token));
     }
 
     /**
-     * 특정 파일의 최신 내용을 가져옵니다.
+     * GitHub API로 커밋의 기본 정보를 조회합니다.
      */
-    private String fetchFileContent(String owner, String repo, String path, String ref,
-                                    String token) {
-        String url = String.format("https://api.github.com/repos/%s/%s/contents/%s?ref=%s",
-                owner, repo, path, ref);
-        log.debug("GitHub API 호출: 커밋 시점 파일 내용 조회 - {}", url);
-
-        try {
-            Map<String, Object> fileInfo = webClient.get()
-                    .uri(url)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-
-            if (fileInfo == null) {
-                return "";
-            }
-
-            if (fileInfo.containsKey("content")) {
-                String encodedContent = fileInfo.get("content").toString();
-                // Base64로 인코딩된 내용 디코딩
-                String cleanedContent = encodedContent.replace("\n", "");
-                return new String(Base64.getDecoder().decode(cleanedContent));
-            } else if (fileInfo.containsKey("download_url")) {
-                // download_url로 직접 파일 내용 가져오기
-                String downloadUrl = fileInfo.get("download_url").toString();
-                return webClient.get()
-                        .uri(downloadUrl)
-                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                        .retrieve()
-                        .bodyToMono(String.class)
-                        .block();
-            }
-
-            return "";
-        } catch (Exception e) {
-            log.warn("커밋 시점 파일 내용 조회 오류: {}", e.getMessage());
-            return "";
-        }
-    }
+    private Mono<GithubApiDTO.CommitInfo> loadCommitBasicInfo(String owner, String repo,
+                                                              String sha, String token) {
+        String url = githubApiClient.url(String.format("/repos/%s/%s/commits/%s", owner, repo,
+                sha));
+        log.info("GitHub API 호출: 커밋 기본 정보 조회 - {}", url);
 
-    private String getOrganizationLogin(Long organizationId, String token) {
-        Map<String, Object>[] orgs = webClient.get()
-                .uri("https://api.github.com/user/orgs")
+        return webClient.get()
+                .uri(url)
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
                 .retrieve()
-                .bodyToMono(Map[].class)
-                .block();
-
-        if (orgs == null || orgs.length == 0) {
-            throw new RuntimeException(TilMessageCode.GITHUB_USER_ORGS_NOT_FOUND.getMessage());
-        }
-
-        for (Map<String, Object> org : orgs) {
-            if (Long.valueOf(org.get("id").toString()).equals(organizationId)) {
-                return org.get("login").toString();
-            }
-        }
-
-        throw new RuntimeException(TilMessageCode.GITHUB_ORG_NOT_FOUND.getMessage());
+                .bodyToFlux(DataBuffer.class)
+                .as(githubCommitDecoder::decode)
+                .doOnNext(commitInfo -> log.info("커밋 기본 정보 조회 성공: sha={}", sha))
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    if (e.getStatusCode().value() == 422 || e.getStatusCode().value() == 404) {
+                        log.warn("유효하지 않은 커밋 SHA: {}, 상태 코드: {}", sha, e.getStatusCode());
+                        return Mono.empty();
+                    }
+                    return Mono.error(e);
+                });
     }
 
-    private String getRepositoryNameFromOrg(String owner, Long repositoryId, String token) {
-        Map<String, Object>[] repos = webClient.get()
-                .uri("https://api.github.com/orgs/" + owner + "/repos")
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                .retrieve()
-                .bodyToMono(Map[].class)
-                .block();
-
-        if (repos == null || repos.length == 0) {
-            throw new RuntimeException(TilMessageCode.GITHUB_ORG_REPOS_NOT_FOUND.getMessage());
+    private void logCommitFetchError(String sha, Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            log.error("GitHub API 호출 실패: {} - {}, SHA: {}",
+                    responseException.getStatusCode(), responseException.getMessage(), sha);
+        } else {
+            log.error("커밋 상세 정보 조회 실패 (sha={}): {}", sha, e.getMessage());
         }
-
-        for (Map<String, Object> repo : repos) {
-            if (Long.valueOf(repo.get("id").toString()).equals(repositoryId)) {
-                return repo.get("name").toString();
-            }
-        }
-
-        throw new RuntimeException(TilMessageCode.GITHUB_REPO_NOT_FOUND.getMessage());
     }
 
-    private Map.Entry<String, String> getPersonalRepoInfo(Long repositoryId, String token) {
-        Map<String, Object>[] repos = webClient.get()
-                .uri("https://api.github.com/user/repos?affiliation=owner,collaborator")
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                .retrieve()
-                .bodyToMono(Map[].class)
-                .block();
-
-        if (repos == null || repos.length == 0) {
-            throw new RuntimeException(TilMessageCode.GITHUB_USER_REPOS_NOT_FOUND.getMessage());
-        }
-
-        for (Map<String, Object> repo : repos) {
-            if (Long.valueOf(repo.get("id").toString()).equals(repositoryId)) {
-                String repoName = repo.get("name").toString();
-                String owner = ((Map<String, Object>) repo.get("owner")).get("login").toString();
-                return Map.entry(owner, repoName);
-            }
-        }
-
-        throw new RuntimeException(TilMessageCode.GITHUB_REPO_NOT_FOUND.getMessage());
+    private void recordPhase(String phase, long startNanos) {
+        Timer.builder("github.commit.detail.phase.duration")
+                .description("커밋 상세 조회 단계별 소요 시간")
+                .tag("phase", phase)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
     }
 
     /**
@@ -361,18 +297,44 @@ public class GithubCommitDetailService {
         }
     }
 
-    private Map<String, Object> getRepositoryById(Long repositoryId, String token) {
-        try {
-            return webClient.get()
-                    .uri("https://api.github.com/repositories/" + repositoryId)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("레포지토리 조회 실패: ID={}, 상태코드={}, 메시지={}",
-                    repositoryId, e.getStatusCode(), e.getMessage());
-            throw new RuntimeException(TilMessageCode.GITHUB_REPO_NOT_FOUND.getMessage() + ": " + e.getMessage());
+    /**
+     * 사용자 조회와 토큰 복호화를 진행합니다. DB 조회가 포함되므로 별도 스레드에서 실행합니다.
+     */
+    private Mono<String> loadAccessToken(Long userId) {
+        return Mono.fromCallable(() -> {
+            User user = entityValidator.getValidUserOrThrow(userId);
+            validateToken(user);
+            return decryptToken(user.getGithubToken());
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<GithubApiDTO.RepositoryRef> getRepositoryById(Long repositoryId, String token) {
+        return githubRepositoryResolver.resolve(repositoryId, token)
+                .onErrorMap(e -> {
+                    log.error("레포지토리 메타데이터 조회 실패: ID={}, 메시지={}", repositoryId,
+                            e.getMessage());
+                    return new RuntimeException(
+                            TilMessageCode.GITHUB_REPO_NOT_FOUND.getMessage() + ": " + e.getMessage());
+                });
+    }
+
+    /**
+     * 커밋 목록을 파일 기준으로 정리한 결과
+     */
+    private static class CommitGroups {
+
+        // 파일별로 패치 정보 그룹화 (커밋 순서대로 병합되도록 삽입 순서 유지)
+        private final Map<String, List<CommitDetailResponseDTO.PatchDetail>> filePatches =
+                new LinkedHashMap<>();
+
+        // 파일별로 내용을 조회할 커밋 SHA (파일을 처음 변경한 커밋 기준)
+        private final Map<String, String> contentRefs = new LinkedHashMap<>();
+
+        // 실제 커밋 날짜 (기본값은 현재 날짜)
+        private String commitDate;
+
+        private CommitGroups(String commitDate) {
+            this.commitDate = commitDate;
         }
     }
-}
\ No newline at end of file
+}
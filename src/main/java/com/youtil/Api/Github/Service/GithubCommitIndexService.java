@@ -0,0 +1,238 @@
+package com.youtil.Api.Github.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.youtil.Api.Github.Dto.CommitSummaryResponseDTO;
+import com.youtil.Common.Enums.TilMessageCode;
+import com.youtil.Config.GithubApiProperties;
+import com.youtil.Model.GithubCommitIndex;
+import com.youtil.Model.GithubIndexedBranch;
+import com.youtil.Repository.GithubCommitIndexRepository;
+import com.youtil.Repository.GithubIndexedBranchRepository;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * GitHub push 웹훅으로 브랜치별 커밋 인덱스를 유지하고, 인덱스로 커밋 요약을 조회합니다.
+ * <p>
+ * 처음 push를 받은 시점부터 해당 브랜치를 인덱스 대상으로 등록합니다. 등록 이전 날짜나 커밋 목록이 잘린
+ * push, 강제 push 이후처럼 인덱스가 완전하지 않은 날짜는 조회 결과를 돌려주지 않으므로 호출하는 쪽에서
+ * GitHub API로 조회합니다. 웹훅이 삭제되었거나 전달이 누락되었을 수 있으므로, 마지막 전달 이후
+ * maxDeliveryGap 이상 지난 브랜치도 마지막 전달 이후 날짜는 GitHub API로 조회합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GithubCommitIndexService {
+
+    private static final String SIGNATURE_PREFIX = "sha256=";
+    private static final String BRANCH_REF_PREFIX = "refs/heads/";
+
+    // push 웹훅 payload의 commits 배열 최대 길이 (이 길이면 일부 커밋이 빠졌을 수 있음)
+    private static final int MAX_PUSH_COMMITS = 2048;
+
+    private final GithubCommitIndexRepository githubCommitIndexRepository;
+    private final GithubIndexedBranchRepository githubIndexedBranchRepository;
+    private final GithubApiProperties githubApiProperties;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * X-Hub-Signature-256 헤더가 웹훅 시크릿으로 만든 HMAC-SHA256 서명과 같은지 확인합니다.
+     */
+    public boolean verifySignature(byte[] payload, String signatureHeader) {
+        String secret = githubApiProperties.getWebhook().getSecret();
+        if (secret == null || secret.isBlank()) {
+            log.warn("GitHub 웹훅 시크릿이 설정되지 않아 요청을 거부합니다.");
+            return false;
+        }
+        if (signatureHeader == null || !signatureHeader.startsWith(SIGNATURE_PREFIX)) {
+            return false;
+        }
+
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] expected = HexFormat.of().formatHex(mac.doFinal(payload))
+                    .getBytes(StandardCharsets.US_ASCII);
+            byte[] actual = signatureHeader.substring(SIGNATURE_PREFIX.length())
+                    .getBytes(StandardCharsets.US_ASCII);
+            return MessageDigest.isEqual(expected, actual);
+        } catch (GeneralSecurityException e) {
+            log.error("GitHub 웹훅 서명 계산 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * push 이벤트의 커밋을 브랜치 인덱스에 반영합니다. 태그 push는 무시합니다.
+     * <p>
+     * 같은 브랜치의 첫 push가 동시에 전달되면 브랜치 등록이 유니크 제약에 걸릴 수 있으므로, 이때는 트랜잭션을
+     * 한 번 다시 실행하여 먼저 등록된 행을 읽어 반영합니다.
+     */
+    public void indexPush(byte[] payload) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(payload);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(
+                    TilMessageCode.GITHUB_WEBHOOK_PAYLOAD_INVALID.getMessage());
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> applyPush(root));
+        } catch (DataIntegrityViolationException e) {
+            log.info("동시에 전달된 push와 충돌하여 커밋 인덱스 반영 재시도: {}", e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> applyPush(root));
+        }
+    }
+
+    private void applyPush(JsonNode root) {
+        String ref = root.path("ref").asText();
+        long repositoryId = root.path("repository").path("id").asLong();
+        if (!ref.startsWith(BRANCH_REF_PREFIX) || repositoryId == 0) {
+            log.info("브랜치 push가 아니므로 커밋 인덱스 반영 생략: ref={}", ref);
+            return;
+        }
+        String branch = ref.substring(BRANCH_REF_PREFIX.length());
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+
+        // 1. 브랜치 삭제: 인덱스 대상에서 제외
+        if (root.path("deleted").asBoolean()) {
+            githubIndexedBranchRepository.deleteByRepositoryIdAndBranch(repositoryId, branch);
+            githubCommitIndexRepository.deleteAllByRepositoryIdAndBranch(repositoryId, branch);
+            log.info("브랜치 삭제로 커밋 인덱스 제거: repositoryId={}, branch={}", repositoryId, branch);
+            return;
+        }
+
+        JsonNode commits = root.path("commits");
+        GithubIndexedBranch indexedBranch = githubIndexedBranchRepository
+                .findByRepositoryIdAndBranch(repositoryId, branch)
+                .orElseGet(() -> GithubIndexedBranch.builder()
+                        .repositoryId(repositoryId)
+                        .branch(branch)
+                        .indexedSince(now)
+                        .build());
+
+        // 2. 강제 push는 기존 커밋이 브랜치에서 빠졌을 수 있으므로 인덱스를 비우고 지금부터 다시 쌓음
+        if (root.path("forced").asBoolean()) {
+            githubCommitIndexRepository.deleteAllByRepositoryIdAndBranch(repositoryId, branch);
+            indexedBranch.setIndexedSince(now);
+            log.info("강제 push로 커밋 인덱스 초기화: repositoryId={}, branch={}", repositoryId, branch);
+        } else if (commits.size() >= MAX_PUSH_COMMITS) {
+            indexedBranch.setIndexedSince(now);
+            log.info("push 커밋 목록이 잘려 인덱스 기준 시각 갱신: repositoryId={}, branch={}",
+                    repositoryId, branch);
+        }
+        indexedBranch.setLastDeliveryAt(now);
+        githubIndexedBranchRepository.save(indexedBranch);
+
+        // 3. 커밋 저장 (같은 커밋이 다시 전달되면 건너뜀)
+        int saved = 0;
+        for (JsonNode commit : commits) {
+            String sha = commit.path("id").asText();
+            if (sha.isEmpty() || githubCommitIndexRepository.existsByRepositoryIdAndBranchAndSha(
+                    repositoryId, branch, sha)) {
+                continue;
+            }
+
+            OffsetDateTime committedAt;
+            try {
+                committedAt = OffsetDateTime.parse(commit.path("timestamp").asText())
+                        .withOffsetSameInstant(ZoneOffset.UTC);
+            } catch (DateTimeException e) {
+                log.warn("커밋 시각 파싱 오류로 인덱스 반영 생략 (sha={}): {}", sha, e.getMessage());
+                continue;
+            }
+
+            githubCommitIndexRepository.save(GithubCommitIndex.builder()
+                    .repositoryId(repositoryId)
+                    .branch(branch)
+                    .sha(sha)
+                    .authorLogin(commit.path("author").path("username").asText(null))
+                    .message(commit.path("message").asText())
+                    .committedAt(committedAt)
+                    .committedDate(committedAt.toLocalDate())
+                    .build());
+            saved++;
+        }
+        log.info("커밋 인덱스 반영: repositoryId={}, branch={}, 전달 {}개, 저장 {}개", repositoryId,
+                branch, commits.size(), saved);
+    }
+
+    /**
+     * 인덱스로 특정 날짜의 작성자 커밋 요약을 조회합니다. 인덱스가 해당 날짜를 모두 담고 있지 않으면
+     * 비어 있는 Mono를 반환합니다. DB 조회가 포함되므로 별도 스레드에서 실행합니다.
+     *
+     * @param requestedDate UTC 기준 날짜 (GitHub API since/until 조회 범위와 동일)
+     */
+    public Mono<List<CommitSummaryResponseDTO.CommitSummary>> findCommitSummaries(
+            Long repositoryId, String branch, String authorLogin, LocalDate requestedDate) {
+        if (!githubApiProperties.getWebhook().isIndexEnabled()) {
+            return Mono.empty();
+        }
+
+        return Mono.fromCallable(() -> {
+                    Optional<GithubIndexedBranch> indexedBranch = githubIndexedBranchRepository
+                            .findByRepositoryIdAndBranch(repositoryId, branch);
+                    OffsetDateTime dayStart = requestedDate.atStartOfDay().atOffset(ZoneOffset.UTC);
+                    if (indexedBranch.isEmpty()
+                            || dayStart.isBefore(indexedBranch.get().getIndexedSince())
+                            || isDeliveryStale(indexedBranch.get(), dayStart.plusDays(1))) {
+                        return null;
+                    }
+
+                    return githubCommitIndexRepository
+                            .findAllByRepositoryIdAndBranchAndAuthorLoginAndCommittedDateOrderByCommittedAtDesc(
+                                    repositoryId, branch, authorLogin, requestedDate)
+                            .stream()
+                            .map(commit -> CommitSummaryResponseDTO.CommitSummary.builder()
+                                    .sha(commit.getSha())
+                                    .commitMessage(commit.getMessage())
+                                    .build())
+                            .toList();
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(commits -> log.info("커밋 인덱스 조회: repositoryId={}, branch={}, {}개",
+                        repositoryId, branch, commits.size()))
+                .onErrorResume(e -> {
+                    log.warn("커밋 인덱스 조회 실패, GitHub API로 조회: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 마지막 웹훅 전달 이후 maxDeliveryGap 이상 지났고 조회 범위가 마지막 전달 이후를 포함하는지 확인합니다.
+     * 이 경우 그 사이의 push가 누락되었을 수 있으므로 인덱스를 사용하지 않습니다.
+     */
+    private boolean isDeliveryStale(GithubIndexedBranch indexedBranch, OffsetDateTime rangeEnd) {
+        OffsetDateTime lastDeliveryAt = indexedBranch.getLastDeliveryAt();
+        OffsetDateTime staleAfter = lastDeliveryAt.plus(
+                githubApiProperties.getWebhook().getMaxDeliveryGap());
+        if (staleAfter.isAfter(OffsetDateTime.now(ZoneOffset.UTC))
+                || !rangeEnd.isAfter(lastDeliveryAt)) {
+            return false;
+        }
+        log.info("웹훅 전달이 오래되어 커밋 인덱스 사용 안 함: repositoryId={}, branch={}, 마지막 전달={}",
+                indexedBranch.getRepositoryId(), indexedBranch.getBranch(), lastDeliveryAt);
+        return true;
+    }
+}
@@ -1,7 +1,13 @@
 package com.youtil.Api.Github.Service;
 
+import com.youtil.Api.Github.Cache.GithubCommitSummaryCache;
+import com.youtil.Api.Github.Cache.GithubIdentityCache;
+import com.youtil.Api.Github.Client.GithubPaginator;
+import com.youtil.Api.Github.Client.GithubRepositoryResolver;
 import com.youtil.Api.Github.Dto.CommitSummaryResponseDTO;
+import com.youtil.Api.Github.Dto.GithubApiDTO;
 import com.youtil.Common.Enums.TilMessageCode;
+import com.youtil.Config.GithubApiProperties;
 import com.youtil.Model.User;
 import com.youtil.Security.Encryption.TokenEncryptor;
 import com.youtil.Util.EntityValidator;
@@ -11,16 +17,18 @@ import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Service
 @RequiredArgsConstructor
@@ -29,24 +37,20 @@ public class GithubCommitSummaryService {
 
     private static final DateTimeFormatter GITHUB_COMMIT_DATE_FORMATTER =
             DateTimeFormatter.ISO_OFFSET_DATE_TIME;
-    private final WebClient webClient;
+    private final GithubCommitIndexService githubCommitIndexService;
+    private final GithubCommitSummaryCache githubCommitSummaryCache;
+    private final GithubIdentityCache githubIdentityCache;
+    private final GithubPaginator githubPaginator;
+    private final GithubRepositoryResolver githubRepositoryResolver;
+    private final GithubApiProperties githubApiProperties;
     private final TokenEncryptor tokenEncryptor;
     private final EntityValidator entityValidator;
 
     /**
      * 특정 날짜의 커밋 요약 정보(SHA, 메시지)만 조회
      */
-    public CommitSummaryResponseDTO.CommitSummaryResponse getCommitSummary(Long userId,
-                                                                           Long organizationId,
-                                                                           Long repositoryId, String branch, String date) {
-
-        User user = entityValidator.getValidUserOrThrow(userId);
-        validateToken(user);
-
-        String token = decryptToken(user.getGithubToken());
-
-        // 사용자의 GitHub 사용자명 가져오기
-        String authorUsername = getUsernameFromToken(token);
+    public Mono<CommitSummaryResponseDTO.CommitSummaryResponse> getCommitSummary(Long userId,
+            Long organizationId, Long repositoryId, String branch, String date) {
 
         // 날짜 파싱 및 ISO 형식으로 변환
         LocalDate requestedDate;
@@ -55,8 +59,8 @@ public class GithubCommitSummaryService {
             log.info("입력 날짜 '{}' 파싱 성공", date);
         } catch (DateTimeException e) {
             log.error("날짜 파싱 오류: {}", e.getMessage());
-            throw new IllegalArgumentException(
-                    TilMessageCode.GITHUB_INVALID_DATE_FORMAT.getMessage());
+            return Mono.error(new IllegalArgumentException(
+                    TilMessageCode.GITHUB_INVALID_DATE_FORMAT.getMessage()));
         }
 
         LocalDateTime startDateTime = requestedDate.atStartOfDay();
@@ -68,15 +72,192 @@ public class GithubCommitSummaryService {
 
         log.info("조회 기간: {} ~ {}", sinceIso, untilIso);
 
-        //organizationId 관계없이 repositoryId 단독 조회)
-        Map<String, Object> repoMeta = getRepositoryById(repositoryId, token);
-        String repoName = (String) repoMeta.get("name");
-        String owner = ((Map<String, Object>) repoMeta.get("owner")).get("login").toString();
+        return loadAccessToken(userId).flatMap(token -> Mono.zip(
+                        // 사용자의 GitHub 사용자명 가져오기
+                        githubIdentityCache.getLogin(token),
+                        //organizationId 관계없이 repositoryId 단독 조회)
+                        getRepositoryById(repositoryId, token))
+                .flatMap(tuple -> {
+                    String authorUsername = tuple.getT1();
+                    String repoName = tuple.getT2().getName();
+                    String owner = tuple.getT2().getOwner();
+
+                    // push 웹훅으로 인덱스를 유지하는 브랜치면 인덱스로 조회하고, 아니면 GitHub API 조회
+                    return githubCommitIndexService.findCommitSummaries(repositoryId, branch,
+                                    authorUsername, requestedDate)
+                            .map(commits -> CommitSummaryResponseDTO.CommitSummaryResponse.builder()
+                                    .username(authorUsername)
+                                    .date(date)
+                                    .repo(repoName)
+                                    .owner(owner)
+                                    .commits(commits)
+                                    .build())
+                            .switchIfEmpty(Mono.defer(() -> fetchCommitSummary(authorUsername,
+                                    requestedDate, repoName, owner, branch, sinceIso, untilIso,
+                                    token, authorUsername)));
+                }));
+    }
+
+    /**
+     * 기간(from ~ to)의 커밋 요약을 날짜별 응답으로 이어서 내보냅니다.
+     * <p>
+     * 캐시에 있는 지난 날짜는 바로 내보내고, 캐시에 없는 날짜 구간은 한 번에 조회하여 GitHub 응답 페이지가
+     * 도착하는 대로 같은 날짜의 연속된 커밋끼리 묶어 내보냅니다. 커밋 순서에 따라 같은 날짜가 여러 번 올
+     * 수 있으며(커밋 목록을 이어 붙이면 됨), 커밋이 없는 날짜는 내보내지 않습니다. 조회가 끝나면 지난 날짜의
+     * 결과를 날짜별로 캐시하므로 기간을 늘려 다시 조회하면 새로 포함된 날짜만 조회합니다.
+     */
+    public Flux<CommitSummaryResponseDTO.CommitSummaryResponse> streamCommitSummaries(Long userId,
+            Long organizationId, Long repositoryId, String branch, String from, String to) {
+
+        LocalDate fromDate;
+        LocalDate toDate;
+        try {
+            fromDate = LocalDate.parse(from);
+            toDate = LocalDate.parse(to);
+        } catch (DateTimeException e) {
+            log.error("날짜 파싱 오류: {}", e.getMessage());
+            return Flux.error(new IllegalArgumentException(
+                    TilMessageCode.GITHUB_INVALID_DATE_FORMAT.getMessage()));
+        }
+
+        long days = ChronoUnit.DAYS.between(fromDate, toDate) + 1;
+        if (days < 1 || days > githubApiProperties.getCommitSummary().getMaxRangeDays()) {
+            return Flux.error(new IllegalArgumentException(
+                    TilMessageCode.GITHUB_DATE_RANGE_INVALID.getMessage()));
+        }
+
+        return loadAccessToken(userId).flatMapMany(token -> Mono.zip(
+                        githubIdentityCache.getLogin(token),
+                        getRepositoryById(repositoryId, token))
+                .flatMapMany(tuple -> {
+                    String authorUsername = tuple.getT1();
+                    String repoName = tuple.getT2().getName();
+                    String owner = tuple.getT2().getOwner();
+
+                    // 1. 캐시에 있는 날짜는 바로 내보내고, 없는 날짜를 포함하는 구간만 조회
+                    List<CommitSummaryResponseDTO.CommitSummaryResponse> cached =
+                            new ArrayList<>();
+                    LocalDate missingFrom = null;
+                    LocalDate missingTo = null;
+                    for (LocalDate day = toDate; !day.isBefore(fromDate); day = day.minusDays(1)) {
+                        CommitSummaryResponseDTO.CommitSummaryResponse summary =
+                                githubCommitSummaryCache.get(repositoryId, branch, authorUsername,
+                                        day);
+                        if (summary == null) {
+                            missingTo = missingTo == null ? day : missingTo;
+                            missingFrom = day;
+                        } else if (!summary.getCommits().isEmpty()) {
+                            cached.add(summary);
+                        }
+                    }
+
+                    if (missingFrom == null) {
+                        log.info("기간 커밋 요약 캐시 사용: {}/{} {} ~ {}", owner, repoName, fromDate,
+                                toDate);
+                        return Flux.fromIterable(cached);
+                    }
+
+                    // 캐시에 있는 날짜 중 조회 구간에 포함된 날짜는 조회 결과를 사용
+                    LocalDate fetchFrom = missingFrom;
+                    LocalDate fetchTo = missingTo;
+                    cached.removeIf(summary -> {
+                        LocalDate day = LocalDate.parse(summary.getDate());
+                        return !day.isBefore(fetchFrom) && !day.isAfter(fetchTo);
+                    });
+
+                    return Flux.fromIterable(cached)
+                            .concatWith(fetchCommitSummaries(repositoryId, authorUsername,
+                                    repoName, owner, branch, fetchFrom, fetchTo, token));
+                }));
+    }
+
+    /**
+     * 구간의 커밋을 모든 페이지에 걸쳐 조회하며, 같은 날짜의 연속된 커밋끼리 묶어 바로 내보냅니다. 끝까지
+     * 조회한 경우에만 구간의 날짜별 결과를 캐시에 저장합니다.
+     */
+    private Flux<CommitSummaryResponseDTO.CommitSummaryResponse> fetchCommitSummaries(
+            Long repositoryId, String authorUsername, String repoName, String owner,
+            String branch, LocalDate fromDate, LocalDate toDate, String token) {
+        String sinceIso = fromDate.atStartOfDay().atZone(ZoneOffset.UTC)
+                .format(DateTimeFormatter.ISO_INSTANT);
+        String untilIso = toDate.plusDays(1).atStartOfDay().atZone(ZoneOffset.UTC)
+                .format(DateTimeFormatter.ISO_INSTANT);
+        Map<LocalDate, List<CommitSummaryResponseDTO.CommitSummary>> commitsByDate =
+                new HashMap<>();
+
+        log.info("GitHub 기간 커밋 요약 API 호출: {}/{} sha={}, since={}, until={}, author={}", owner,
+                repoName, branch, sinceIso, untilIso, authorUsername);
+
+        return githubPaginator.getAll(token, "커밋 목록 조회",
+                        "/repos/{owner}/{repo}/commits?sha={sha}&since={since}&until={until}&author={author}",
+                        owner, repoName, branch, sinceIso, untilIso, authorUsername)
+                .filter(commit -> isAuthoredBy(commit, authorUsername))
+                .filter(commit -> commitDateOf(commit) != null)
+                .bufferUntilChanged(GithubCommitSummaryService::commitDateOf)
+                .map(group -> {
+                    LocalDate day = commitDateOf(group.get(0));
+                    List<CommitSummaryResponseDTO.CommitSummary> commits = group.stream()
+                            .map(GithubCommitSummaryService::toCommitSummary)
+                            .toList();
+                    commitsByDate.computeIfAbsent(day, key -> new ArrayList<>()).addAll(commits);
+                    return toCommitSummaryResponse(authorUsername, day, repoName, owner, commits);
+                })
+                .doOnComplete(() -> {
+                    for (LocalDate day = fromDate; !day.isAfter(toDate); day = day.plusDays(1)) {
+                        githubCommitSummaryCache.put(repositoryId, branch, authorUsername, day,
+                                toCommitSummaryResponse(authorUsername, day, repoName, owner,
+                                        commitsByDate.getOrDefault(day, List.of())));
+                    }
+                })
+                .onErrorMap(e -> !(e instanceof IllegalArgumentException), e -> {
+                    log.error("기간 커밋 조회 오류: {}", e.getMessage());
+                    return new RuntimeException(
+                            TilMessageCode.GITHUB_API_ERROR.getMessage() + ": " + e.getMessage());
+                });
+    }
 
-        String username = getUsernameFromToken(token);
+    private static CommitSummaryResponseDTO.CommitSummaryResponse toCommitSummaryResponse(
+            String username, LocalDate date, String repoName, String owner,
+            List<CommitSummaryResponseDTO.CommitSummary> commits) {
+        return CommitSummaryResponseDTO.CommitSummaryResponse.builder()
+                .username(username)
+                .date(date.toString())
+                .repo(repoName)
+                .owner(owner)
+                .commits(commits)
+                .build();
+    }
 
-        return fetchCommitSummary(username, date, repoName, owner, branch, sinceIso, untilIso,
-                token, authorUsername);
+    private static CommitSummaryResponseDTO.CommitSummary toCommitSummary(
+            Map<String, Object> commit) {
+        return CommitSummaryResponseDTO.CommitSummary.builder()
+                .sha(commit.get("sha").toString())
+                .commitMessage(((Map<String, Object>) commit.get("commit")).get("message")
+                        .toString())
+                .build();
+    }
+
+    // 작성자 필터링 이중 확인 (URL에 이미 author 파라미터가 포함되었지만 추가 검증)
+    private static boolean isAuthoredBy(Map<String, Object> commit, String authorUsername) {
+        Map<String, Object> authorInfo = (Map<String, Object>) commit.get("author");
+        return authorInfo == null || authorUsername.equals(authorInfo.get("login"));
+    }
+
+    /**
+     * 커밋 시각(committer.date)의 UTC 날짜를 반환합니다. 파싱할 수 없으면 null을 반환합니다.
+     */
+    private static LocalDate commitDateOf(Map<String, Object> commit) {
+        Map<String, Object> commitData = (Map<String, Object>) commit.get("commit");
+        Map<String, Object> committer = (Map<String, Object>) commitData.get("committer");
+        try {
+            return OffsetDateTime.parse(committer.get("date").toString(),
+                            GITHUB_COMMIT_DATE_FORMATTER)
+                    .withOffsetSameInstant(ZoneOffset.UTC)
+                    .toLocalDate();
+        } catch (DateTimeException e) {
+            log.warn("커밋 날짜 파싱 오류 (sha={}): {}", commit.get("sha"), e.getMessage());
+            return null;
+        }
     }
 
 
@@ -85,37 +266,35 @@ public class GithubCommitSummaryService {
      *
      * @param authorUsername 작성자 필터링을 위한 GitHub 사용자명
      */
-    private CommitSummaryResponseDTO.CommitSummaryResponse fetchCommitSummary(String username,
-                                                                              String date,
-                                                                              String repoName, String owner, String branch,
-                                                                              String sinceIso, String untilIso, String token,
-                                                                              String authorUsername) {
+    private Mono<CommitSummaryResponseDTO.CommitSummaryResponse> fetchCommitSummary(
+            String username, LocalDate requestedDate, String repoName, String owner,
+            String branch, String sinceIso, String untilIso, String token, String authorUsername) {
 
         // 작성자 필터(author)를 추가한 URL 구성
-        String commitsUrl = "https://api.github.com/repos/" + owner + "/" + repoName + "/commits"
-                + "?sha=" + branch + "&since=" + sinceIso + "&until=" + untilIso + "&author="
-                + authorUsername;
-
-        log.info("GitHub 커밋 요약 API 호출: {}", commitsUrl);
+        log.info("GitHub 커밋 요약 API 호출: {}/{} sha={}, since={}, until={}, author={}", owner,
+                repoName, branch, sinceIso, untilIso, authorUsername);
+
+        return githubPaginator.getAll(token, "커밋 목록 조회",
+                        "/repos/{owner}/{repo}/commits?sha={sha}&since={since}&until={until}&author={author}",
+                        owner, repoName, branch, sinceIso, untilIso, authorUsername)
+                .collectList()
+                .doOnNext(commits -> log.info("GitHub 커밋 API 응답 수신: {} 개의 커밋", commits.size()))
+                .onErrorMap(e -> !(e instanceof IllegalArgumentException), e -> {
+                    log.error("커밋 조회 오류: {}", e.getMessage());
+                    return new RuntimeException(
+                            TilMessageCode.GITHUB_API_ERROR.getMessage() + ": " + e.getMessage());
+                })
+                .map(commits -> toCommitSummaryResponse(commits, username, requestedDate,
+                        repoName, owner, authorUsername));
+    }
 
-        Map<String, Object>[] commits;
-        try {
-            commits = webClient.get()
-                    .uri(commitsUrl)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                    .retrieve().bodyToMono(Map[].class).block();
-
-            log.info("GitHub 커밋 API 응답 수신: {} 개의 커밋", commits != null ? commits.length : 0);
-        } catch (WebClientResponseException e) {
-            log.error("GitHub API 호출 실패: {} - {}", e.getStatusCode(), e.getMessage());
-            throw new RuntimeException(TilMessageCode.GITHUB_API_ERROR.getMessage() + ": " + e.getMessage());
-        } catch (Exception e) {
-            log.error("커밋 조회 오류: {}", e.getMessage());
-            throw new RuntimeException(TilMessageCode.GITHUB_API_ERROR.getMessage() + ": " + e.getMessage());
-        }
+    private CommitSummaryResponseDTO.CommitSummaryResponse toCommitSummaryResponse(
+            List<Map<String, Object>> commits, String username, LocalDate requestedDate,
+            String repoName, String owner, String authorUsername) {
+        String date = requestedDate.toString();
 
         // 조회된 커밋이 없는 경우 빈 응답 반환
-        if (commits == null || commits.length == 0) {
+        if (commits.isEmpty()) {
             log.info("날짜 {} 에 해당하는 커밋이 없습니다.", date);
             return CommitSummaryResponseDTO.CommitSummaryResponse.builder()
                     .username(username)
@@ -139,10 +318,11 @@ public class GithubCommitSummaryService {
 
             // 커밋 날짜가 입력된 날짜와 일치하는지 확인
             try {
+                // 조회 범위(since/until)와 같이 UTC 기준 날짜로 비교
                 OffsetDateTime commitDate = OffsetDateTime.parse(commitDateStr,
                         GITHUB_COMMIT_DATE_FORMATTER);
-                LocalDate commitLocalDate = commitDate.toLocalDate();
-                LocalDate requestedDate = LocalDate.parse(date);
+                LocalDate commitLocalDate = commitDate.withOffsetSameInstant(ZoneOffset.UTC)
+                        .toLocalDate();
 
                 if (!commitLocalDate.isEqual(requestedDate)) {
                     log.info("커밋 날짜 {}가 요청 날짜 {}와 일치하지 않음, 건너뜀",
@@ -180,68 +360,6 @@ public class GithubCommitSummaryService {
                 .build();
     }
 
-    private String getUsernameFromToken(String token) {
-        Map<String, Object> userInfo = webClient.get()
-                .uri("https://api.github.com/user")
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                .retrieve().bodyToMono(Map.class).block();
-
-        return userInfo != null ? userInfo.get("login").toString() : "unknown";
-    }
-
-    private String getOrganizationLogin(Long organizationId, String token) {
-        Map<String, Object>[] orgs = webClient.get()
-                .uri("https://api.github.com/user/orgs")
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                .retrieve()
-                .bodyToMono(Map[].class)
-                .block();
-
-        for (Map<String, Object> org : orgs) {
-            if (Long.valueOf(org.get("id").toString()).equals(organizationId)) {
-                return org.get("login").toString();
-            }
-        }
-
-        throw new RuntimeException(TilMessageCode.GITHUB_ORG_NOT_FOUND.getMessage());
-    }
-
-    private String getRepositoryNameFromOrg(String owner, Long repositoryId, String token) {
-        Map<String, Object>[] repos = webClient.get()
-                .uri("https://api.github.com/orgs/" + owner + "/repos")
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                .retrieve()
-                .bodyToMono(Map[].class)
-                .block();
-
-        for (Map<String, Object> repo : repos) {
-            if (Long.valueOf(repo.get("id").toString()).equals(repositoryId)) {
-                return repo.get("name").toString();
-            }
-        }
-
-        throw new RuntimeException(TilMessageCode.GITHUB_REPO_NOT_FOUND.getMessage());
-    }
-
-    private Map.Entry<String, String> getPersonalRepoInfo(Long repositoryId, String token) {
-        Map<String, Object>[] repos = webClient.get()
-                .uri("https://api.github.com/user/repos?affiliation=owner,collaborator")
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                .retrieve()
-                .bodyToMono(Map[].class)
-                .block();
-
-        for (Map<String, Object> repo : repos) {
-            if (Long.valueOf(repo.get("id").toString()).equals(repositoryId)) {
-                String repoName = repo.get("name").toString();
-                String owner = ((Map<String, Object>) repo.get("owner")).get("login").toString();
-                return Map.entry(owner, repoName);
-            }
-        }
-
-        throw new RuntimeException(TilMessageCode.GITHUB_REPO_NOT_FOUND.getMessage());
-    }
-
     private void validateToken(User user) {
         if (user.getGithubToken() == null || user.getGithubToken().isEmpty()) {
             throw new RuntimeException(TilMessageCode.GITHUB_TOKEN_MISSING.getMessage());
@@ -256,18 +374,23 @@ public class GithubCommitSummaryService {
         }
     }
 
-    private Map<String, Object> getRepositoryById(Long repositoryId, String token) {
-        try {
-            return webClient.get()
-                    .uri("https://api.github.com/repositories/" + repositoryId)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("레포지토리 조회 실패: ID={}, 상태코드={}, 메시지={}",
-                    repositoryId, e.getStatusCode(), e.getMessage());
-            throw new RuntimeException(TilMessageCode.GITHUB_REPO_NOT_FOUND.getMessage() + ": " + e.getMessage());
-        }
+    /**
+     * 사용자 조회와 토큰 복호화를 진행합니다. DB 조회가 포함되므로 별도 스레드에서 실행합니다.
+     */
+    private Mono<String> loadAccessToken(Long userId) {
+        return Mono.fromCallable(() -> {
+            User user = entityValidator.getValidUserOrThrow(userId);
+            validateToken(user);
+            return decryptToken(user.getGithubToken());
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<GithubApiDTO.RepositoryRef> getRepositoryById(Long repositoryId, String token) {
+        return githubRepositoryResolver.resolve(repositoryId, token)
+                .onErrorMap(e -> {
+                    log.error("레포지토리 조회 실패: ID={}, 메시지={}", repositoryId, e.getMessage());
+                    return new RuntimeException(
+                            TilMessageCode.GITHUB_REPO_NOT_FOUND.getMessage() + ": " + e.getMessage());
+                });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,130 @@
+package com.youtil.Api.Github.Service;
+
+import com.youtil.Api.Github.Client.GithubRequestPriority;
+import com.youtil.Api.Github.Dto.GithubResponseDTO;
+import com.youtil.Config.GithubApiProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 로그인 직후 GitHub 탐색 데이터 미리 조회
+ * <p>
+ * 프론트엔드는 로그인 후 조직 -> 레포 -> 브랜치 순으로 조회하므로, 로그인 직후 조직 목록, 조직별 접근 가능
+ * 레포, 개인 레포 목록을 백그라운드 우선순위로 조회하여 레포 캐시와 레포지토리 ID 인덱스, ETag 캐시를 채웁니다.
+ * 백그라운드 요청은 호출 한도 스케줄러가 사용자 요청을 먼저 처리하고 여유 호출 수가 있을 때만 실행합니다.
+ * 같은 사용자가 다시 로그인하면 진행 중인 작업을 취소하고 새로 시작합니다.
+ */
+@Service
+@Slf4j
+public class GithubPrefetchService {
+
+    // 프론트엔드 기본 페이지 크기와 동일하게 조회해야 조건부 요청(ETag) 캐시를 재사용할 수 있음
+    private static final int DEFAULT_PAGE_SIZE = 30;
+
+    private final GithubService githubService;
+    private final GithubApiProperties.Prefetch properties;
+
+    // 사용자 ID -> 진행 중인 미리 조회 작업
+    private final Map<Long, Disposable> runningJobs = new ConcurrentHashMap<>();
+
+    private final Counter startedCounter;
+    private final Counter failedCounter;
+    private final Counter cancelledCounter;
+
+    public GithubPrefetchService(GithubService githubService,
+            GithubApiProperties githubApiProperties, MeterRegistry meterRegistry) {
+        this.githubService = githubService;
+        this.properties = githubApiProperties.getPrefetch();
+
+        this.startedCounter = jobCounter(meterRegistry, "started");
+        this.failedCounter = jobCounter(meterRegistry, "failed");
+        this.cancelledCounter = jobCounter(meterRegistry, "cancelled");
+    }
+
+    /**
+     * 사용자의 GitHub 탐색 데이터를 비동기로 미리 조회합니다. 호출 즉시 반환합니다.
+     */
+    public void prefetchAfterLogin(Long userId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        cancel(userId);
+        startedCounter.increment();
+        log.info("GitHub 탐색 데이터 미리 조회 시작 - 사용자 ID: {}", userId);
+
+        Disposable[] job = new Disposable[1];
+        job[0] = prefetch(userId)
+                .timeout(properties.getTimeout())
+                .contextWrite(GithubRequestPriority.backgroundContext())
+                .doFinally(signal -> runningJobs.remove(userId, job[0]))
+                .subscribe(
+                        null,
+                        e -> {
+                            failedCounter.increment();
+                            log.info("GitHub 탐색 데이터 미리 조회 중단 - 사용자 ID: {}, 사유: {}",
+                                    userId, e.getMessage());
+                        },
+                        () -> log.info("GitHub 탐색 데이터 미리 조회 완료 - 사용자 ID: {}", userId));
+        runningJobs.put(userId, job[0]);
+        if (job[0].isDisposed()) {
+            // 등록 전에 끝난 경우
+            runningJobs.remove(userId, job[0]);
+        }
+    }
+
+    /**
+     * 진행 중인 미리 조회 작업을 취소합니다.
+     */
+    public void cancel(Long userId) {
+        Disposable running = runningJobs.remove(userId);
+        if (running != null && !running.isDisposed()) {
+            running.dispose();
+            cancelledCounter.increment();
+            log.info("GitHub 탐색 데이터 미리 조회 취소 - 사용자 ID: {}", userId);
+        }
+    }
+
+    @PreDestroy
+    public void cancelAll() {
+        runningJobs.keySet().forEach(this::cancel);
+    }
+
+    private Mono<Void> prefetch(Long userId) {
+        // 1. 조직 목록 조회 후 조직별 접근 가능 레포 조회 (조직 레포 캐시, 레포지토리 ID 인덱스)
+        Mono<Void> organizations = githubService.getOrganizations(userId, 1, DEFAULT_PAGE_SIZE)
+                .flatMapMany(response -> Flux.fromIterable(response.getOrganizations()))
+                .take(properties.getMaxOrganizations())
+                .map(GithubResponseDTO.OrganizationItem::getOrganization_id)
+                .concatMap(organizationId -> githubService.getRepositoriesByOrganizationId(
+                                userId, organizationId)
+                        // 한 조직의 실패로 나머지 조직 조회를 중단하지 않음
+                        .onErrorResume(e -> {
+                            log.debug("조직 레포 미리 조회 실패 - 조직 ID: {}, 사유: {}",
+                                    organizationId, e.getMessage());
+                            return Mono.empty();
+                        }))
+                .then();
+
+        // 2. 개인 레포 목록 조회 (레포지토리 ID 인덱스)
+        Mono<Void> userRepositories = githubService.getUserRepositories(userId, 1,
+                DEFAULT_PAGE_SIZE).then();
+
+        return organizations.then(userRepositories);
+    }
+
+    private static Counter jobCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("github.prefetch.jobs")
+                .description("로그인 직후 GitHub 미리 조회 작업 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -1,13 +1,17 @@
 package com.youtil.Api.Github.Service;
 
+import com.youtil.Api.Github.Cache.GithubOrgRepositoryCache;
+import com.youtil.Api.Github.Client.GithubApiClient;
+import com.youtil.Api.Github.Client.GithubPaginator;
+import com.youtil.Api.Github.Client.GithubRepositoryResolver;
 import com.youtil.Api.Github.Converter.GitHubDtoConverter;
+import com.youtil.Api.Github.Dto.GithubApiDTO;
 import com.youtil.Api.Github.Dto.GithubResponseDTO;
 import com.youtil.Common.Enums.TilMessageCode;
+import com.youtil.Config.GithubApiProperties;
 import com.youtil.Model.User;
-import com.youtil.Repository.UserRepository;
 import com.youtil.Security.Encryption.TokenEncryptor;
 import com.youtil.Util.EntityValidator;
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -16,19 +20,21 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class GithubService {
 
-    private final WebClient webClient;
-    private final UserRepository userRepository;
+    private final GithubApiClient githubApiClient;
+    private final GithubPaginator githubPaginator;
+    private final GithubRepositoryResolver githubRepositoryResolver;
+    private final GithubOrgRepositoryCache githubOrgRepositoryCache;
+    private final GithubApiProperties githubApiProperties;
     private final TokenEncryptor tokenEncryptor;
     private final EntityValidator entityValidator;
 
@@ -40,45 +46,16 @@ public class GithubService {
      * @param size   페이지당 항목 수
      * @return 깃허브 조직 목록
      */
-    public GithubResponseDTO.OrganizationResponseDTO getOrganizations(Long userId, Integer page,
-                                                                      Integer size) {
-        User user = entityValidator.getValidUserOrThrow(userId);
-
-        // 토큰 유효성 검사
-        validateToken(user);
-
-        String accessToken;
-        try {
-            accessToken = tokenEncryptor.decrypt(user.getGithubToken());
-        } catch (Exception e) {
-            log.error("토큰 복호화 오류", e);
-            throw new RuntimeException(TilMessageCode.GITHUB_TOKEN_DECRYPT_ERROR.getMessage());
-        }
-
-        try {
-            // GitHub API를 통해 사용자의 조직 목록 조회 (페이지네이션 적용)
-            Map<String, Object>[] organizationsResponse = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .scheme("https")
-                            .host("api.github.com")
-                            .path("/user/orgs")
-                            .queryParam("page", page)
-                            .queryParam("per_page", size)  // GitHub API는 per_page 파라미터 사용
-                            .build())
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                    .retrieve()
-                    .bodyToMono(Map[].class)
-                    .block();
-
-            // GitHubDtoConverter 활용하여 DTO 변환
-            return GitHubDtoConverter.toOrganizationResponse(organizationsResponse);
-        } catch (RuntimeException e) {
-            // 자체 정의한 예외는 그대로 전파
-            throw e;
-        } catch (Exception e) {
-            log.error("조직 목록 조회 중 예상치 못한 오류 발생", e);
-            throw new RuntimeException(TilMessageCode.GITHUB_API_ERROR.getMessage());
-        }
+    public Mono<GithubResponseDTO.OrganizationResponseDTO> getOrganizations(Long userId,
+            Integer page, Integer size) {
+        return loadAccessToken(userId)
+                // GitHub API를 통해 사용자의 조직 목록 조회 (페이지네이션 적용)
+                .flatMap(accessToken -> githubApiClient.getList(accessToken, "사용자 조직 목록 조회",
+                                "/user/orgs?page={page}&per_page={size}", page, size)
+                        .collectList())
+                // GitHubDtoConverter 활용하여 DTO 변환
+                .map(organizations -> GitHubDtoConverter.toOrganizationResponse(
+                        organizations.toArray(new Map[0])));
     }
 
     /**
@@ -88,54 +65,49 @@ public class GithubService {
      * @param organizationId 조직 ID
      * @return 레포지토리 목록
      */
-    public GithubResponseDTO.RepositoryResponseDTO getRepositoriesByOrganizationId(Long userId,
-            Long organizationId) {
+    public Mono<GithubResponseDTO.RepositoryResponseDTO> getRepositoriesByOrganizationId(
+            Long userId, Long organizationId) {
         log.info("접근 가능한 레포지토리 목록 조회 시작 - 사용자 ID: {}, 조직 ID: {}", userId, organizationId);
 
-        User user = entityValidator.getValidUserOrThrow(userId);
-        validateToken(user);
-
-        String accessToken;
-        try {
-            accessToken = tokenEncryptor.decrypt(user.getGithubToken());
-        } catch (Exception e) {
-            throw new RuntimeException("GitHub 토큰이 올바르지 않습니다. 다시 로그인해주세요.");
-        }
-
-        // 1. 직접 콜라보레이터로 참여한 레포지토리 조회
-        Set<Map<String, Object>> directRepos = fetchDirectCollaboratorRepos(accessToken,
-                organizationId);
-
-        // 2. 유저가 소속된 팀 목록 조회
-        List<Map<String, Object>> userTeams = fetchUserTeams(accessToken, organizationId);
-
-        // 3. 각 팀이 접근 가능한 레포지토리 조회
-        Set<Map<String, Object>> indirectRepos = fetchTeamAccessibleRepos(userTeams, accessToken,
-                organizationId);
-
-        // 4. 직접 + 간접 레포 병합 (중복 제거)
-        Set<Map<String, Object>> allRepos = mergeWithoutDuplication(directRepos, indirectRepos);
-
-        // 5. fallback: 직접/간접 레포가 하나도 없을 경우, 조직 전체 레포 조회
-        if (allRepos.isEmpty()) {
-
-            // 조직 전체 레포 목록 조회
-            Map<String, Object>[] fallbackRepos = handleGitHubApiCall(
-                    webClient.get()
-                            .uri("https://api.github.com/orgs/" + organizationId
-                                    + "/repos?per_page=100")
-                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                            .retrieve()
-                            .bodyToMono(Map[].class),
-                    "조직 전체 레포 목록 조회 (fallback)"
-            );
-
-            allRepos.addAll(Arrays.asList(fallbackRepos));
-        }
-
-        return GitHubDtoConverter.toRepositoryResponse(allRepos.toArray(new Map[0]));
+        // 최근에 병합한 결과가 있으면 GitHub 조회 없이 사용
+        return githubOrgRepositoryCache.getOrLoad(userId, organizationId,
+                        () -> fetchAccessibleRepos(userId, organizationId))
+                .map(allRepos -> GitHubDtoConverter.toRepositoryResponse(
+                        allRepos.toArray(new Map[0])));
     }
 
+    /**
+     * 조직에서 사용자가 접근 가능한 레포지토리를 조회합니다. 직접 레포, 팀 목록, 팀별 레포는 동시에 조회합니다.
+     */
+    private Mono<Set<Map<String, Object>>> fetchAccessibleRepos(Long userId,
+            Long organizationId) {
+        return loadAccessToken(userId).flatMap(accessToken -> {
+            // 1. 직접 콜라보레이터로 참여한 레포지토리 조회
+            Mono<Set<Map<String, Object>>> directRepos = fetchDirectCollaboratorRepos(accessToken,
+                    organizationId);
+
+            // 2. 유저가 소속된 팀 목록 조회 후 3. 각 팀이 접근 가능한 레포지토리 조회
+            Mono<Set<Map<String, Object>>> indirectRepos = fetchUserTeams(accessToken,
+                    organizationId)
+                    .flatMap(userTeams -> fetchTeamAccessibleRepos(userTeams, accessToken,
+                            organizationId));
+
+            // 4. 직접 + 간접 레포 병합 (중복 제거), 두 조회는 동시에 진행
+            return Mono.zip(directRepos, indirectRepos)
+                    .map(repos -> mergeWithoutDuplication(repos.getT1(), repos.getT2()))
+                    .flatMap(allRepos -> {
+                        // 5. fallback: 직접/간접 레포가 하나도 없을 경우, 조직 전체 레포 조회
+                        if (!allRepos.isEmpty()) {
+                            return Mono.just(allRepos);
+                        }
+                        return githubPaginator.getAll(accessToken, "조직 전체 레포 목록 조회 (fallback)",
+                                        "/orgs/{org}/repos", organizationId)
+                                .doOnNext(repo -> githubRepositoryResolver.remember(accessToken,
+                                        repo))
+                                .collect(Collectors.toSet());
+                    });
+        });
+    }
 
     /**
      * 특정 조직의 레포지토리 목록을 페이지네이션하여 조회합니다.
@@ -146,76 +118,31 @@ public class GithubService {
      * @param size           페이지당 항목 수
      * @return 레포지토리 목록
      */
-    public GithubResponseDTO.RepositoryResponseDTO getRepositoriesByOrganizationId(
+    public Mono<GithubResponseDTO.RepositoryResponseDTO> getRepositoriesByOrganizationId(
             Long userId, Long organizationId, Integer page, Integer size) {
         log.info("레포지토리 목록 조회 시작 - 사용자 ID: {}, 조직 ID: {}, 페이지: {}, 항목수: {}",
                 userId, organizationId, page, size);
 
-        User user = entityValidator.getValidUserOrThrow(userId);
-
-        // 토큰 유효성 검사
-        validateToken(user);
-
-        String accessToken;
-        try {
-            accessToken = tokenEncryptor.decrypt(user.getGithubToken());
-        } catch (Exception e) {
-            throw new RuntimeException("GitHub 토큰이 올바르지 않습니다. 다시 로그인해주세요.");
-        }
-
-        try {
-            // 조직 이름 조회
-            Map<String, Object>[] organizations = handleGitHubApiCall(
-                    webClient.get()
-                            .uri("https://api.github.com/user/orgs")
-                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                            .retrieve()
-                            .bodyToMono(Map[].class),
-                    "사용자 조직 목록 조회"
-            );
-
-            final String organizationName;
-            if (organizations != null) {
-                String tempName = "";
-                for (Map<String, Object> org : organizations) {
-                    if (Long.valueOf(org.get("id").toString()).equals(organizationId)) {
-                        tempName = org.get("login").toString();
-                        break;
-                    }
-                }
-                organizationName = tempName;
-            } else {
-                organizationName = "";
-            }
-
-            if (organizationName.isEmpty()) {
-                throw new RuntimeException("해당 ID의 조직을 찾을 수 없습니다: " + organizationId);
-            }
-
-            // 해당 조직의 레포지토리 목록 조회 (페이지네이션 적용)
-            final String orgName = organizationName; // 람다에서 사용하기 위한 final 변수
-            Map<String, Object>[] repositoriesResponse = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .scheme("https")
-                            .host("api.github.com")
-                            .path("/orgs/" + orgName + "/repos")
-                            .queryParam("page", page)
-                            .queryParam("per_page", size)
-                            .build())
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                    .retrieve()
-                    .bodyToMono(Map[].class)
-                    .block();
-
-            // DTO 변환 및 응답 구성
-            return GitHubDtoConverter.toRepositoryResponse(repositoriesResponse);
-        } catch (RuntimeException e) {
-            // 자체 정의한 예외는 그대로 전파
-            throw e;
-        } catch (Exception e) {
-            log.error("레포지토리 목록 조회 중 예상치 못한 오류 발생", e);
-            throw new RuntimeException("GitHub 레포지토리 목록 조회 중 오류가 발생했습니다.");
-        }
+        return loadAccessToken(userId).flatMap(accessToken ->
+                // 조직 이름 조회
+                githubPaginator.getAll(accessToken, "사용자 조직 목록 조회", "/user/orgs")
+                        .filter(org -> Long.valueOf(org.get("id").toString())
+                                .equals(organizationId))
+                        .next()
+                        .map(org -> org.get("login").toString())
+                        .switchIfEmpty(Mono.error(() -> new RuntimeException(
+                                "해당 ID의 조직을 찾을 수 없습니다: " + organizationId)))
+                        // 해당 조직의 레포지토리 목록 조회 (페이지네이션 적용)
+                        .flatMap(orgName -> githubApiClient.getList(accessToken,
+                                        "조직 레포지토리 목록 조회",
+                                        "/orgs/{org}/repos?page={page}&per_page={size}", orgName,
+                                        page, size)
+                                .doOnNext(repo -> githubRepositoryResolver.remember(accessToken,
+                                        repo))
+                                .collectList()))
+                // DTO 변환 및 응답 구성
+                .map(repositories -> GitHubDtoConverter.toRepositoryResponse(
+                        repositories.toArray(new Map[0])));
     }
 
     /**
@@ -228,59 +155,15 @@ public class GithubService {
      * @param size           페이지당 항목 수
      * @return 브랜치 목록
      */
-    public GithubResponseDTO.BranchResponseDTO getBranchesByRepositoryId(
+    public Mono<GithubResponseDTO.BranchResponseDTO> getBranchesByRepositoryId(
             Long userId, Long organizationId, Long repositoryId, Integer page, Integer size) {
 
-        User user = entityValidator.getValidUserOrThrow(userId);
-        validateToken(user);
-
-        String accessToken;
-        try {
-            accessToken = tokenEncryptor.decrypt(user.getGithubToken());
-        } catch (Exception e) {
-            throw new RuntimeException("GitHub 토큰이 올바르지 않습니다. 다시 로그인해주세요.");
-        }
-
-        try {
-            // repositoryId를 기반으로 레포지토리 메타데이터 조회
-            Map<String, Object> repoMetadata = handleGitHubApiCall(
-                    webClient.get()
-                            .uri("https://api.github.com/repositories/" + repositoryId)
-                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                            .retrieve()
-                            .bodyToMono(Map.class),
-                    "레포지토리 메타데이터 조회"
-            );
-
-            if (repoMetadata == null || !repoMetadata.containsKey("name")
-                    || !repoMetadata.containsKey("owner")) {
-                throw new RuntimeException("해당 ID의 레포지토리를 찾을 수 없습니다: " + repositoryId);
-            }
-
-            String repoName = repoMetadata.get("name").toString();
-            String ownerLogin = ((Map<String, Object>) repoMetadata.get("owner")).get("login")
-                    .toString();
-
-            // 브랜치 목록 조회 (페이지네이션 적용)
-            Map<String, Object>[] branchesResponse = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .scheme("https")
-                            .host("api.github.com")
-                            .path("/repos/" + ownerLogin + "/" + repoName + "/branches")
-                            .queryParam("page", page)
-                            .queryParam("per_page", size)
-                            .build())
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                    .retrieve()
-                    .bodyToMono(Map[].class)
-                    .block();
-
-            return GitHubDtoConverter.toBranchResponse(branchesResponse);
-        } catch (RuntimeException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new RuntimeException("GitHub 브랜치 목록 조회 중 오류가 발생했습니다.");
-        }
+        return loadAccessToken(userId).flatMap(accessToken ->
+                // repositoryId를 소유자와 레포지토리 이름으로 변환 (최근 목록에서 본 레포지토리는 GitHub 호출 없음)
+                resolveRepository(repositoryId, accessToken)
+                        // 브랜치 목록 조회 (페이지네이션 적용)
+                        .flatMap(repo -> fetchBranches(accessToken, repo.getOwner(),
+                                repo.getName(), page, size)));
     }
 
     /**
@@ -291,44 +174,19 @@ public class GithubService {
      * @param size   페이지당 항목 수
      * @return 레포지토리 목록
      */
-    public GithubResponseDTO.RepositoryResponseDTO getUserRepositories(Long userId, Integer page,
-            Integer size) {
-        User user = entityValidator.getValidUserOrThrow(userId);
-
-        // 토큰 유효성 검사
-        validateToken(user);
-
-        String accessToken;
-        try {
-            accessToken = tokenEncryptor.decrypt(user.getGithubToken());
-        } catch (Exception e) {
-            throw new RuntimeException("GitHub 토큰이 올바르지 않습니다. 다시 로그인해주세요.");
-        }
-
-        try {
-            // GitHub API를 통해 사용자의 레포지토리 목록 조회 (페이지네이션 적용)
-            Map<String, Object>[] repositoriesResponse = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .scheme("https")
-                            .host("api.github.com")
-                            .path("/user/repos")
-                            .queryParam("affiliation", "owner")  // owner 권한이 있는 레포지토리만 조회
-                            .queryParam("page", page)
-                            .queryParam("per_page", size)
-                            .build())
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                    .retrieve()
-                    .bodyToMono(Map[].class)
-                    .block();
-
-            // DTO 변환 및 응답 구성
-            return GitHubDtoConverter.toRepositoryResponse(repositoriesResponse);
-        } catch (RuntimeException e) {
-            // 자체 정의한 예외는 그대로 전파
-            throw e;
-        } catch (Exception e) {
-            throw new RuntimeException("GitHub 사용자 레포지토리 목록 조회 중 오류가 발생했습니다.");
-        }
+    public Mono<GithubResponseDTO.RepositoryResponseDTO> getUserRepositories(Long userId,
+            Integer page, Integer size) {
+        return loadAccessToken(userId)
+                // GitHub API를 통해 사용자의 레포지토리 목록 조회 (owner 권한이 있는 레포지토리만, 페이지네이션 적용)
+                .flatMap(accessToken -> githubApiClient.getList(accessToken,
+                                "사용자 레포지토리 목록 조회",
+                                "/user/repos?affiliation=owner&page={page}&per_page={size}", page,
+                                size)
+                        .doOnNext(repo -> githubRepositoryResolver.remember(accessToken, repo))
+                        .collectList())
+                // DTO 변환 및 응답 구성
+                .map(repositories -> GitHubDtoConverter.toRepositoryResponse(
+                        repositories.toArray(new Map[0])));
     }
 
     /**
@@ -340,98 +198,46 @@ public class GithubService {
      * @param size         페이지당 항목 수
      * @return 브랜치 목록
      */
-    public GithubResponseDTO.BranchResponseDTO getBranchesByRepositoryIdWithoutOrg(
+    public Mono<GithubResponseDTO.BranchResponseDTO> getBranchesByRepositoryIdWithoutOrg(
             Long userId, Long repositoryId, Integer page, Integer size) {
-        User user = entityValidator.getValidUserOrThrow(userId);
-        validateToken(user);
-
-        String accessToken;
-        try {
-            accessToken = tokenEncryptor.decrypt(user.getGithubToken());
-        } catch (Exception e) {
-            throw new RuntimeException("GitHub 토큰이 올바르지 않습니다. 다시 로그인해주세요.");
-        }
-
-        try {
-            // 사용자 레포지토리 목록 조회
-            Map<String, Object>[] repositories = handleGitHubApiCall(
-                    webClient.get()
-                            .uri("https://api.github.com/user/repos?affiliation=owner")
-                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                            .retrieve()
-                            .bodyToMono(Map[].class),
-                    "사용자 레포지토리 목록 조회"
-            );
-
-            // 레포지토리 정보 찾기
-            final String repositoryName;
-            final String ownerName;
-
-            if (repositories != null) {
-                String tempRepoName = "";
-                String tempOwnerName = "";
-
-                for (Map<String, Object> repo : repositories) {
-                    if (Long.valueOf(repo.get("id").toString()).equals(repositoryId)) {
-                        tempRepoName = repo.get("name").toString();
-                        Map<String, Object> owner = (Map<String, Object>) repo.get("owner");
-                        tempOwnerName = owner.get("login").toString();
-                        break;
-                    }
-                }
-
-                repositoryName = tempRepoName;
-                ownerName = tempOwnerName;
-            } else {
-                repositoryName = "";
-                ownerName = "";
-            }
-
-            if (repositoryName.isEmpty() || ownerName.isEmpty()) {
-                throw new RuntimeException("해당 ID의 레포지토리를 찾을 수 없습니다: " + repositoryId);
-            }
-
-            // 브랜치 목록 조회 (페이지네이션 적용)
-            final String repoOwner = ownerName; // 람다에서 사용하기 위한 final 변수
-            final String repoName = repositoryName; // 람다에서 사용하기 위한 final 변수
+        return loadAccessToken(userId).flatMap(accessToken ->
+                // repositoryId를 소유자와 레포지토리 이름으로 변환 (최근 목록에서 본 레포지토리는 GitHub 호출 없음)
+                resolveRepository(repositoryId, accessToken)
+                        // 브랜치 목록 조회 (페이지네이션 적용)
+                        .flatMap(repo -> fetchBranches(accessToken, repo.getOwner(),
+                                repo.getName(), page, size)));
+    }
 
-            Map<String, Object>[] branchesResponse = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .scheme("https")
-                            .host("api.github.com")
-                            .path("/repos/" + repoOwner + "/" + repoName + "/branches")
-                            .queryParam("page", page)
-                            .queryParam("per_page", size)
-                            .build())
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                    .retrieve()
-                    .bodyToMono(Map[].class)
-                    .block();
+    /**
+     * 레포지토리 ID를 소유자와 레포지토리 이름으로 변환합니다.
+     */
+    private Mono<GithubApiDTO.RepositoryRef> resolveRepository(Long repositoryId,
+            String accessToken) {
+        return githubRepositoryResolver.resolve(repositoryId, accessToken)
+                .onErrorMap(e -> new RuntimeException(
+                        "해당 ID의 레포지토리를 찾을 수 없습니다: " + repositoryId));
+    }
 
-            // DTO 변환 및 응답 구성
-            return GitHubDtoConverter.toBranchResponse(branchesResponse);
-        } catch (RuntimeException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new RuntimeException("GitHub 브랜치 목록 조회 중 오류가 발생했습니다.");
-        }
+    /**
+     * 레포지토리의 브랜치 목록을 조회합니다.
+     */
+    private Mono<GithubResponseDTO.BranchResponseDTO> fetchBranches(String accessToken,
+            String owner, String repoName, Integer page, Integer size) {
+        return githubApiClient.getList(accessToken, "브랜치 목록 조회",
+                        "/repos/{owner}/{repo}/branches?page={page}&per_page={size}", owner,
+                        repoName, page, size)
+                .collectList()
+                .map(branches -> GitHubDtoConverter.toBranchResponse(branches.toArray(new Map[0])));
     }
 
     /**
      * 직접 콜라보레이터로 참여한 레포지토리를 조회합니다.
      */
-    private Set<Map<String, Object>> fetchDirectCollaboratorRepos(String accessToken,
+    private Mono<Set<Map<String, Object>>> fetchDirectCollaboratorRepos(String accessToken,
             Long organizationId) {
-        Map<String, Object>[] result = handleGitHubApiCall(
-                webClient.get()
-                        .uri("https://api.github.com/user/repos?affiliation=owner,collaborator&per_page=100")
-                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                        .retrieve()
-                        .bodyToMono(Map[].class),
-                "직접 콜라보레이터 레포 조회"
-        );
-
-        return Arrays.stream(result)
+        return githubPaginator.getAll(accessToken, "직접 콜라보레이터 레포 조회",
+                        "/user/repos?affiliation=owner,collaborator")
+                .doOnNext(repo -> githubRepositoryResolver.remember(accessToken, repo))
                 .filter(repo -> isTargetOrganization(repo, organizationId))
                 .collect(Collectors.toSet());
     }
@@ -439,55 +245,32 @@ public class GithubService {
     /**
      * 사용자가 소속된 팀 목록을 조회합니다.
      */
-    private List<Map<String, Object>> fetchUserTeams(String accessToken, Long organizationId) {
-        Map<String, Object>[] result = handleGitHubApiCall(
-                webClient.get()
-                        .uri("https://api.github.com/user/teams")
-                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                        .retrieve()
-                        .bodyToMono(Map[].class),
-                "유저 팀 목록 조회"
-        );
-
-        return Arrays.stream(result)
+    private Mono<List<Map<String, Object>>> fetchUserTeams(String accessToken,
+            Long organizationId) {
+        return githubPaginator.getAll(accessToken, "유저 팀 목록 조회", "/user/teams")
                 .filter(team -> {
                     Map<String, Object> org = (Map<String, Object>) team.get("organization");
                     return org != null && organizationId.equals(
                             ((Number) org.get("id")).longValue());
                 })
-                .collect(Collectors.toList());
+                .collectList();
     }
 
     /**
-     * 각 팀이 접근 가능한 레포지토리를 조회합니다.
+     * 각 팀이 접근 가능한 레포지토리를 조회합니다. 팀별 조회는 최대 teamConcurrency개씩 동시에 진행합니다.
      */
-    private Set<Map<String, Object>> fetchTeamAccessibleRepos(List<Map<String, Object>> teams,
-            String accessToken, Long organizationId) {
-        Set<Map<String, Object>> repos = new HashSet<>();
-
-        for (Map<String, Object> team : teams) {
-            Number teamId = (Number) team.get("id");
-            if (teamId == null) {
-                continue;
-            }
-
-            Map<String, Object>[] teamRepos = handleGitHubApiCall(
-                    webClient.get()
-                            .uri("https://api.github.com/teams/" + teamId.longValue() + "/repos")
-                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                            .retrieve()
-                            .bodyToMono(Map[].class),
-                    "팀 레포 조회"
-            );
-
-            for (Map<String, Object> repo : teamRepos) {
-                if (isTargetOrganization(repo, organizationId)) {
-                    repos.add(repo);
-                }
-            }
-        }
-
-        return repos;
+    private Mono<Set<Map<String, Object>>> fetchTeamAccessibleRepos(
+            List<Map<String, Object>> teams, String accessToken, Long organizationId) {
+        int teamConcurrency = Math.max(1,
+                githubApiProperties.getOrgRepositories().getTeamConcurrency());
+        return Flux.fromIterable(teams)
+                .filter(team -> team.get("id") instanceof Number)
+                .map(team -> (Number) team.get("id"))
+                .flatMap(teamId -> githubPaginator.getAll(accessToken, "팀 레포 조회",
+                        "/teams/{teamId}/repos", teamId.longValue()), teamConcurrency)
+                .doOnNext(repo -> githubRepositoryResolver.remember(accessToken, repo))
+                .filter(repo -> isTargetOrganization(repo, organizationId))
+                .collect(Collectors.toSet());
     }
 
     /**
@@ -525,6 +308,26 @@ public class GithubService {
         return false;
     }
 
+    /**
+     * 사용자 조회와 토큰 복호화를 진행합니다.
+     * DB 조회가 포함되므로 요청 스레드나 이벤트 루프가 아닌 별도 스레드에서 실행합니다.
+     */
+    private Mono<String> loadAccessToken(Long userId) {
+        return Mono.fromCallable(() -> {
+            User user = entityValidator.getValidUserOrThrow(userId);
+
+            // 토큰 유효성 검사
+            validateToken(user);
+
+            try {
+                return tokenEncryptor.decrypt(user.getGithubToken());
+            } catch (Exception e) {
+                log.error("토큰 복호화 오류", e);
+                throw new RuntimeException(TilMessageCode.GITHUB_TOKEN_DECRYPT_ERROR.getMessage());
+            }
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
     /**
      * 사용자의 GitHub 토큰 유효성을 검사합니다.
      *
@@ -536,35 +339,4 @@ public class GithubService {
             throw new RuntimeException(TilMessageCode.GITHUB_TOKEN_MISSING.getMessage());
         }
     }
-
-    /**
-     * GitHub API 호출을 처리하고 오류를 적절히 처리합니다.
-     *
-     * @param <T>     응답 타입
-     * @param apiCall API 호출 Mono
-     * @param apiName API 호출 설명(로그용)
-     * @return API 응답
-     * @throws RuntimeException API 호출 실패 시
-     */
-    private <T> T handleGitHubApiCall(Mono<T> apiCall, String apiName) {
-        try {
-            return apiCall.block();
-        } catch (WebClientResponseException e) {
-            if (e.getStatusCode().is4xxClientError()) {
-                if (e.getStatusCode().value() == 401) {
-                    throw new RuntimeException(TilMessageCode.GITHUB_TOKEN_INVALID.getMessage());
-                } else if (e.getStatusCode().value() == 403) {
-                    throw new RuntimeException(TilMessageCode.GITHUB_API_PERMISSION_DENIED.getMessage());
-                } else if (e.getStatusCode().value() == 404) {
-                    throw new RuntimeException(TilMessageCode.GITHUB_RESOURCE_NOT_FOUND.getMessage());
-                } else {
-                    throw new RuntimeException(TilMessageCode.GITHUB_INVALID_REQUEST.getMessage() + ": " + e.getStatusCode().value());
-                }
-            } else {
-                throw new RuntimeException(TilMessageCode.GITHUB_SERVER_ERROR.getMessage() + ": " + e.getStatusCode().value());
-            }
-        } catch (Exception e) {
-            throw new RuntimeException(TilMessageCode.GITHUB_API_ERROR.getMessage() + ": " + e.getMessage());
-        }
-    }
 }
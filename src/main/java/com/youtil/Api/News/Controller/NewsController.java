@@ -24,7 +24,7 @@ import reactor.core.publisher.Mono;
 public class NewsController {
 
     private final NewsService newsService;
-    private final WebClient webClient;
+    private final WebClient newsWebClient;
 
     @GetMapping("")
     ResponseEntity<ApiResponse<GetNewsResponse>> GetNewsController() {
@@ -41,7 +41,7 @@ public class NewsController {
 
     @GetMapping("/image-proxy")
     public Mono<ResponseEntity<byte[]>> proxyImage(@RequestParam String url) {
-        return webClient.get()
+        return newsWebClient.get()
                 .uri(url)
                 .header("User-Agent", "Mozilla/5.0") // 핫링크 차단 우회
                 .retrieve()
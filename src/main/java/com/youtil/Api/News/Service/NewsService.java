@@ -28,7 +28,7 @@ public class NewsService {
     private final NewsRepository newsRepository;
     private final TranslationService translationService;
     private final AppProperties appProperties;
-    private final WebClient webClient;
+    private final WebClient newsWebClient;
     @Value("${news.key}")
     private String API_KEY;
 
@@ -44,7 +44,7 @@ public class NewsService {
 
     @Transactional
     public void createNewsService() {
-        JsonNode response = webClient.get()
+        JsonNode response = newsWebClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path("https://newsdata.io/api/1/news")
                         .queryParam("apikey", API_KEY)
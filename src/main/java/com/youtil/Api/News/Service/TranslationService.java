@@ -12,15 +12,13 @@ import org.springframework.web.reactive.function.client.WebClient;
 @RequiredArgsConstructor
 public class TranslationService {
 
-    private final WebClient webClient = WebClient.builder()
-            .baseUrl("https://translation.googleapis.com/language/translate/v2")
-            .build();
+    private final WebClient translationWebClient;
 
     @Value("${google.api-key}")
     private String apiKey;
 
     public String translateText(String text, String targetLang) {
-        JsonNode response = webClient.post()
+        JsonNode response = translationWebClient.post()
                 .uri(uriBuilder -> uriBuilder
                         .queryParam("key", apiKey)
                         .build())
@@ -0,0 +1,242 @@
+package com.youtil.Api.Tils.Cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.youtil.Api.Tils.Dto.TilAiRequestDTO;
+import com.youtil.Api.Tils.Dto.TilAiResponseDTO;
+import com.youtil.Config.TilAiCacheProperties;
+import com.youtil.Model.TilAiResult;
+import com.youtil.Repository.TilAiResultRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * AI TIL 생성 결과 캐시 (DB 저장)
+ * <p>
+ * 파일은 경로 순, 패치는 내용 순으로 정렬하고 최신 코드는 해시로 바꾼 AI 요청의 SHA-256을 키로 사용하므로,
+ * 같은 커밋들을 다른 순서로 선택해도 같은 결과를 사용합니다. til.ai.cache.requests{result=hit|miss|bypass}
+ * 지표로 적중률을, til.ai.cache.saved.bytes 지표로 AI 서버로 보내지 않은 요청 크기를 확인할 수 있습니다.
+ */
+@Component
+@Slf4j
+public class TilAiResultCache {
+
+    // 한 번에 삭제할 최대 결과 수
+    private static final int EVICTION_BATCH_SIZE = 1000;
+
+    private final TilAiResultRepository tilAiResultRepository;
+    private final TilAiCacheProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter bypassCounter;
+    private final Counter savedBytesCounter;
+
+    public TilAiResultCache(TilAiResultRepository tilAiResultRepository,
+            TilAiCacheProperties properties, ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.tilAiResultRepository = tilAiResultRepository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+        this.bypassCounter = requestCounter(meterRegistry, "bypass");
+        this.savedBytesCounter = Counter.builder("til.ai.cache.saved.bytes")
+                .description("캐시된 결과를 사용하여 AI 서버로 보내지 않은 요청 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * AI 요청의 캐시 키(지문)와 요청 크기를 계산합니다.
+     */
+    public Key keyOf(TilAiRequestDTO request) {
+        try {
+            long requestBytes = objectMapper.writeValueAsBytes(request).length;
+            byte[] normalized = objectMapper.writeValueAsBytes(normalize(request));
+            return new Key(HexFormat.of().formatHex(sha256(normalized)), requestBytes);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("AI 요청 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 캐시된 결과를 반환합니다. 없거나 사용 기간이 지났으면 비어 있는 Mono를 반환합니다.
+     */
+    public Mono<TilAiResponseDTO> get(Key key) {
+        if (!properties.isEnabled()) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> {
+                    Optional<TilAiResult> cached = tilAiResultRepository.findByFingerprint(
+                            key.getFingerprint());
+                    OffsetDateTime now = OffsetDateTime.now();
+                    if (cached.isEmpty()
+                            || cached.get().getGeneratedAt().plus(properties.getTtl()).isBefore(now)) {
+                        missCounter.increment();
+                        return Optional.<TilAiResponseDTO>empty();
+                    }
+
+                    TilAiResult result = cached.get();
+                    result.setHitCount(result.getHitCount() + 1);
+                    result.setLastUsedAt(now);
+                    tilAiResultRepository.save(result);
+
+                    hitCounter.increment();
+                    savedBytesCounter.increment(key.getRequestBytes());
+                    log.info("AI 생성 결과 캐시 사용: {}", key.getFingerprint());
+                    return Optional.of(TilAiResponseDTO.builder()
+                            .content(result.getContent())
+                            .keywords(List.copyOf(result.getKeywords()))
+                            .build());
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(Mono::justOrEmpty)
+                // 캐시 조회 실패는 AI 호출로 대체
+                .onErrorResume(e -> {
+                    log.warn("AI 생성 결과 캐시 조회 실패: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 생성 결과를 저장(같은 키가 있으면 갱신)하고, 최대 개수를 넘으면 오래 사용하지 않은 결과를 삭제합니다.
+     * 저장에 실패해도 오류를 전파하지 않습니다.
+     */
+    public Mono<Void> put(Key key, TilAiResponseDTO response) {
+        if (!properties.isEnabled() || response.getContent() == null
+                || response.getContent().isEmpty()) {
+            return Mono.empty();
+        }
+        return Mono.fromRunnable(() -> {
+                    OffsetDateTime now = OffsetDateTime.now();
+                    List<String> keywords = response.getKeywords() != null
+                            ? response.getKeywords() : List.of();
+                    TilAiResult result = tilAiResultRepository.findByFingerprint(key.getFingerprint())
+                            .orElseGet(() -> TilAiResult.builder()
+                                    .fingerprint(key.getFingerprint())
+                                    .build());
+                    boolean created = result.getId() == null;
+                    result.setContent(response.getContent());
+                    result.setKeywords(keywords);
+                    // 다시 생성한 결과는 사용 기간을 새로 시작
+                    result.setGeneratedAt(now);
+                    result.setLastUsedAt(now);
+                    tilAiResultRepository.save(result);
+
+                    if (created) {
+                        evictOverflow();
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(DataIntegrityViolationException.class, e -> {
+                    // 같은 요청이 동시에 생성된 경우 먼저 저장된 결과를 유지
+                    log.debug("AI 생성 결과 캐시 중복 저장 무시: {}", key.getFingerprint());
+                    return Mono.empty();
+                })
+                .onErrorResume(e -> {
+                    log.warn("AI 생성 결과 캐시 저장 실패: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * 캐시를 사용하지 않고 다시 생성하는 요청을 기록합니다.
+     */
+    public void recordBypass() {
+        bypassCounter.increment();
+    }
+
+    private void evictOverflow() {
+        long excess = tilAiResultRepository.count() - Math.max(1, properties.getMaxEntries());
+        if (excess <= 0) {
+            return;
+        }
+        List<Long> ids = tilAiResultRepository.findLeastRecentlyUsedIds(
+                PageRequest.of(0, (int) Math.min(excess, EVICTION_BATCH_SIZE)));
+        tilAiResultRepository.deleteAllByIdInBatch(ids);
+        log.info("AI 생성 결과 캐시 정리: {}건 삭제", ids.size());
+    }
+
+    /**
+     * 결과에 영향을 주지 않는 순서를 정렬하고, 큰 최신 코드는 해시로 바꾼 요청을 만듭니다.
+     */
+    private static TilAiRequestDTO normalize(TilAiRequestDTO request) {
+        List<TilAiRequestDTO.FileInfo> files = request.getFiles() == null ? List.of()
+                : request.getFiles().stream()
+                        .map(file -> TilAiRequestDTO.FileInfo.builder()
+                                .filepath(file.getFilepath())
+                                .latest_code(file.getLatest_code() == null ? null
+                                        : HexFormat.of().formatHex(sha256(
+                                                file.getLatest_code()
+                                                        .getBytes(StandardCharsets.UTF_8))))
+                                .patches(file.getPatches() == null ? List.of()
+                                        : file.getPatches().stream()
+                                                .sorted(Comparator.comparing(
+                                                                TilAiRequestDTO.PatchInfo::getCommit_message,
+                                                                Comparator.nullsFirst(
+                                                                        Comparator.naturalOrder()))
+                                                        .thenComparing(
+                                                                TilAiRequestDTO.PatchInfo::getPatch,
+                                                                Comparator.nullsFirst(
+                                                                        Comparator.naturalOrder())))
+                                                .toList())
+                                .build())
+                        .sorted(Comparator.comparing(TilAiRequestDTO.FileInfo::getFilepath,
+                                Comparator.nullsFirst(Comparator.naturalOrder())))
+                        .toList();
+
+        return TilAiRequestDTO.builder()
+                .username(request.getUsername())
+                .date(request.getDate())
+                .repo(request.getRepo())
+                .title(request.getTitle())
+                .files(files)
+                .build();
+    }
+
+    private static byte[] sha256(byte[] input) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(input);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("til.ai.cache.requests")
+                .description("AI TIL 생성 결과 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Key {
+
+        // 정규화한 AI 요청의 SHA-256 (hex)
+        private final String fingerprint;
+
+        // 실제 AI 요청 본문 크기 (바이트)
+        private final long requestBytes;
+    }
+}
@@ -0,0 +1,290 @@
+package com.youtil.Api.Tils.Client;
+
+import com.youtil.Config.TilAiAdmissionProperties;
+import com.youtil.Exception.TilException.TilException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * AI 서버 호출 대기열
+ * <p>
+ * AI 서버로 동시에 보내는 요청 수를 maxConcurrency로 제한하고, 나머지는 대기열에서 기다리게 합니다. 빈 자리가
+ * 나면 사용자 요청(INTERACTIVE)을 비동기 작업(BATCH)보다 먼저 보내며, 같은 우선순위 안에서는 사용자별로 번갈아
+ * 보내 한 사용자의 요청이 몰려도 다른 사용자가 밀리지 않게 합니다. 대기열이 가득 찼거나 maxWait을 넘기면 예상
+ * 대기 시간을 Retry-After로 담아 429로 거절합니다.
+ * <p>
+ * 사용자와 우선순위는 Reactor Context({@link #context(Long, Priority)})로 지정합니다.
+ * til.ai.admission.queue.depth, til.ai.admission.running, til.ai.admission.wait,
+ * til.ai.admission.rejected 지표로 대기열 상태를 확인할 수 있습니다.
+ */
+@Component
+@Slf4j
+public class TilAiAdmissionQueue {
+
+    private static final String USER_KEY = TilAiAdmissionQueue.class.getName() + ".user";
+    private static final String PRIORITY_KEY = TilAiAdmissionQueue.class.getName() + ".priority";
+
+    // 사용자를 알 수 없는 요청이 함께 쓰는 대기열 키
+    private static final Long UNKNOWN_USER = 0L;
+
+    // 평균 처리 시간 갱신 비율
+    private static final double SERVICE_TIME_WEIGHT = 0.2;
+
+    public enum Priority {
+        INTERACTIVE,
+        BATCH
+    }
+
+    private final TilAiAdmissionProperties properties;
+
+    // 우선순위 -> 사용자 ID -> 대기 중인 요청 (사용자 순서가 곧 차례)
+    private final Map<Priority, LinkedHashMap<Long, Deque<Waiter>>> waiting =
+            new EnumMap<>(Priority.class);
+    private final Map<Priority, Integer> queued = new EnumMap<>(Priority.class);
+    private int running;
+
+    // 요청 하나의 평균 처리 시간 (밀리초)
+    private volatile double averageServiceMillis;
+
+    private final Map<Priority, Timer> waitTimers = new EnumMap<>(Priority.class);
+    private final Counter queueFullCounter;
+    private final Counter timeoutCounter;
+
+    public TilAiAdmissionQueue(TilAiAdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.averageServiceMillis = properties.getMinRetryAfter().toMillis();
+
+        for (Priority priority : Priority.values()) {
+            waiting.put(priority, new LinkedHashMap<>());
+            queued.put(priority, 0);
+            Gauge.builder("til.ai.admission.queue.depth", this, queue -> queue.queuedCount(priority))
+                    .description("AI 서버 호출을 기다리는 요청 수")
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(meterRegistry);
+            waitTimers.put(priority, Timer.builder("til.ai.admission.wait")
+                    .description("AI 서버 호출까지 대기열에서 기다린 시간")
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("til.ai.admission.running", this, TilAiAdmissionQueue::runningCount)
+                .description("AI 서버로 보내 처리 중인 요청 수")
+                .register(meterRegistry);
+        this.queueFullCounter = rejectedCounter(meterRegistry, "queue_full");
+        this.timeoutCounter = rejectedCounter(meterRegistry, "timeout");
+    }
+
+    /**
+     * contextWrite로 지정하면 해당 작업의 AI 서버 호출을 사용자와 우선순위에 맞춰 대기열에 넣습니다.
+     */
+    public static Context context(Long userId, Priority priority) {
+        return Context.of(USER_KEY, userId != null ? userId : UNKNOWN_USER, PRIORITY_KEY, priority);
+    }
+
+    /**
+     * 차례가 되면 call을 구독하고, call이 끝나면(완료, 오류, 취소) 자리를 반환합니다.
+     */
+    public <T> Mono<T> admit(Mono<T> call) {
+        if (!properties.isEnabled()) {
+            return call;
+        }
+        return Mono.deferContextual(context -> Mono.usingWhen(acquire(context),
+                permit -> call,
+                permit -> Mono.fromRunnable(permit::release)));
+    }
+
+    /**
+     * 스트리밍 호출용. 스트림이 끝날 때까지 자리를 차지합니다.
+     */
+    public <T> Flux<T> admitMany(Flux<T> call) {
+        if (!properties.isEnabled()) {
+            return call;
+        }
+        return Flux.deferContextual(context -> Flux.usingWhen(acquire(context),
+                permit -> call,
+                permit -> Mono.fromRunnable(permit::release)));
+    }
+
+    private Mono<Permit> acquire(ContextView context) {
+        Long userId = context.getOrDefault(USER_KEY, UNKNOWN_USER);
+        Priority priority = context.getOrDefault(PRIORITY_KEY, Priority.INTERACTIVE);
+
+        return Mono.defer(() -> {
+            Waiter waiter;
+            synchronized (this) {
+                if (running < maxConcurrency() && totalQueued() == 0) {
+                    running++;
+                    waitTimers.get(priority).record(0, TimeUnit.NANOSECONDS);
+                    return Mono.just(new Permit());
+                }
+                if (totalQueued() >= Math.max(0, properties.getMaxQueueSize())) {
+                    queueFullCounter.increment();
+                    log.warn("AI 호출 대기열 초과로 거절: userId={}, priority={}", userId, priority);
+                    return Mono.error(new TilException.TilAiQueueFullException(retryAfter()));
+                }
+                waiter = new Waiter(userId, priority);
+                waiting.get(priority).computeIfAbsent(userId, k -> new ArrayDeque<>()).add(waiter);
+                queued.merge(priority, 1, Integer::sum);
+            }
+
+            return waiter.sink.asMono()
+                    .timeout(properties.getMaxWait())
+                    .doOnCancel(() -> abandon(waiter))
+                    .onErrorMap(TimeoutException.class, e -> {
+                        abandon(waiter);
+                        timeoutCounter.increment();
+                        log.warn("AI 호출 대기 시간 초과로 거절: userId={}, priority={}", userId,
+                                priority);
+                        return new TilException.TilAiQueueFullException(retryAfter());
+                    });
+        });
+    }
+
+    /**
+     * 자리를 반환하고, 기다리는 요청이 있으면 바로 넘겨줍니다.
+     */
+    private void release(long serviceMillis) {
+        Waiter next;
+        Permit permit;
+        synchronized (this) {
+            averageServiceMillis += SERVICE_TIME_WEIGHT * (serviceMillis - averageServiceMillis);
+
+            next = pollNext();
+            if (next == null) {
+                running--;
+                return;
+            }
+            permit = new Permit();
+            next.granted = permit;
+        }
+        waitTimers.get(next.priority).record(System.nanoTime() - next.enqueuedAt,
+                TimeUnit.NANOSECONDS);
+        next.sink.tryEmitValue(permit);
+    }
+
+    /**
+     * 기다리다 취소되거나 시간이 초과된 요청을 대기열에서 뺍니다. 이미 자리를 넘겨받았다면 반환합니다.
+     */
+    private void abandon(Waiter waiter) {
+        synchronized (this) {
+            Map<Long, Deque<Waiter>> users = waiting.get(waiter.priority);
+            Deque<Waiter> deque = users.get(waiter.userId);
+            if (deque != null && deque.remove(waiter)) {
+                queued.merge(waiter.priority, -1, Integer::sum);
+                if (deque.isEmpty()) {
+                    users.remove(waiter.userId);
+                }
+                return;
+            }
+        }
+        // 취소와 동시에 자리를 넘겨받은 경우
+        if (waiter.granted != null) {
+            waiter.granted.release();
+        }
+    }
+
+    /**
+     * 높은 우선순위부터, 같은 우선순위 안에서는 사용자 차례대로 다음 요청을 꺼냅니다.
+     */
+    private Waiter pollNext() {
+        for (Priority priority : Priority.values()) {
+            LinkedHashMap<Long, Deque<Waiter>> users = waiting.get(priority);
+            Iterator<Map.Entry<Long, Deque<Waiter>>> iterator = users.entrySet().iterator();
+            if (!iterator.hasNext()) {
+                continue;
+            }
+            Map.Entry<Long, Deque<Waiter>> entry = iterator.next();
+            Waiter waiter = entry.getValue().poll();
+            iterator.remove();
+            if (!entry.getValue().isEmpty()) {
+                // 남은 요청이 있으면 해당 사용자를 맨 뒤로 보냄
+                users.put(entry.getKey(), entry.getValue());
+            }
+            queued.merge(priority, -1, Integer::sum);
+            return waiter;
+        }
+        return null;
+    }
+
+    /**
+     * 현재 대기열이 모두 처리될 때까지의 예상 시간을 Retry-After로 안내합니다.
+     */
+    private synchronized Duration retryAfter() {
+        double rounds = (double) (totalQueued() + 1) / maxConcurrency();
+        long millis = (long) Math.ceil(rounds * averageServiceMillis);
+        return Duration.ofSeconds(Math.max(properties.getMinRetryAfter().toSeconds(),
+                (long) Math.ceil(millis / 1000.0)));
+    }
+
+    private int maxConcurrency() {
+        return Math.max(1, properties.getMaxConcurrency());
+    }
+
+    private int totalQueued() {
+        return queued.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private synchronized int queuedCount(Priority priority) {
+        return queued.get(priority);
+    }
+
+    private synchronized int runningCount() {
+        return running;
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("til.ai.admission.rejected")
+                .description("대기열이 가득 찼거나 대기 시간을 넘겨 거절한 AI 호출 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static class Waiter {
+
+        private final Long userId;
+        private final Priority priority;
+        private final long enqueuedAt = System.nanoTime();
+        private final Sinks.One<Permit> sink = Sinks.one();
+
+        // 넘겨받은 자리 (대기열에서 꺼낼 때 지정)
+        private volatile Permit granted;
+
+        private Waiter(Long userId, Priority priority) {
+            this.userId = userId;
+            this.priority = priority;
+        }
+    }
+
+    /**
+     * AI 서버 호출 자리. 한 번만 반환됩니다.
+     */
+    private class Permit {
+
+        private final long grantedAt = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                TilAiAdmissionQueue.this.release((System.nanoTime() - grantedAt) / 1_000_000);
+            }
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.youtil.Api.Tils.Client;
+
+import com.youtil.Api.Tils.Dto.TilAiRequestDTO;
+import com.youtil.Config.TilAiPayloadProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * AI 요청 크기 조정
+ * <p>
+ * AI 서버로 보내기 전에 요청의 토큰 수를 추정하고 다음 순서로 줄입니다.
+ * <ol>
+ *     <li>잠금 파일, 외부 라이브러리, 생성 파일, 바이너리 파일 제외</li>
+ *     <li>큰 파일은 최신 코드에서 변경된 부분(최신 코드를 조회한 커밋의 패치 hunk) 앞뒤 contextLines줄만
+ *     남김</li>
+ *     <li>그래도 전체 토큰 수가 maxTokens를 넘으면 큰 파일부터 최신 코드를 빼고(패치는 유지), 이어서 큰 파일부터
+ *     제외하며, 마지막으로 남은 패치를 자름</li>
+ * </ol>
+ * 변경 내용(패치)은 가능한 한 유지하므로 TIL 생성에 필요한 정보는 남기고 요청 크기만 줄입니다. 결정 내용은
+ * 로그와 til.ai.payload.files{decision}, til.ai.payload.tokens{stage} 지표로 확인할 수 있습니다.
+ */
+@Component
+@Slf4j
+public class TilAiPayloadShaper {
+
+    // 패치의 hunk 헤더 (@@ -a,b +c,d @@)에서 변경 후 시작 줄과 줄 수
+    private static final Pattern HUNK_PATTERN =
+            Pattern.compile("^@@ -\\d+(?:,\\d+)? \\+(\\d+)(?:,(\\d+))? @@", Pattern.MULTILINE);
+
+    private final TilAiPayloadProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final Counter excludedCounter;
+    private final Counter trimmedCounter;
+    private final Counter codeDroppedCounter;
+    private final Counter droppedCounter;
+    private final Counter truncatedCounter;
+    private final DistributionSummary originalTokens;
+    private final DistributionSummary shapedTokens;
+
+    public TilAiPayloadShaper(TilAiPayloadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+
+        this.excludedCounter = fileCounter(meterRegistry, "excluded");
+        this.trimmedCounter = fileCounter(meterRegistry, "trimmed");
+        this.codeDroppedCounter = fileCounter(meterRegistry, "code_dropped");
+        this.droppedCounter = fileCounter(meterRegistry, "dropped");
+        this.truncatedCounter = fileCounter(meterRegistry, "truncated");
+        this.originalTokens = tokenSummary(meterRegistry, "original");
+        this.shapedTokens = tokenSummary(meterRegistry, "shaped");
+    }
+
+    /**
+     * 크기를 조정한 새 요청을 반환합니다. 원본 요청은 변경하지 않습니다.
+     */
+    public TilAiRequestDTO shape(TilAiRequestDTO request) {
+        if (!properties.isEnabled() || request.getFiles() == null) {
+            return request;
+        }
+
+        long before = estimateTokens(request.getFiles());
+        List<String> excluded = new ArrayList<>();
+        List<String> trimmed = new ArrayList<>();
+        List<String> codeDropped = new ArrayList<>();
+        List<String> dropped = new ArrayList<>();
+        List<String> truncated = new ArrayList<>();
+
+        // 1. 제외 대상 경로와 바이너리 파일 제외, 큰 파일은 변경된 부분 주변만 남김
+        List<TilAiRequestDTO.FileInfo> files = new ArrayList<>();
+        for (TilAiRequestDTO.FileInfo file : request.getFiles()) {
+            if (isExcluded(file)) {
+                excluded.add(file.getFilepath());
+                continue;
+            }
+            String code = file.getLatest_code();
+            String trimmedCode = trimToChangedHunks(code, file.getPatches());
+            if (trimmedCode != code) {
+                trimmed.add(file.getFilepath());
+            }
+            files.add(copyOf(file, trimmedCode, file.getPatches()));
+        }
+
+        // 모든 파일이 제외되면 TIL을 생성할 수 없으므로 최신 코드 없이 패치만 보냄
+        if (files.isEmpty()) {
+            for (TilAiRequestDTO.FileInfo file : request.getFiles()) {
+                files.add(copyOf(file, "", file.getPatches()));
+            }
+            excluded.clear();
+        }
+
+        // 2. 전체 토큰 수가 예산을 넘으면 큰 파일부터 최신 코드를 뺌 (패치는 유지)
+        long budget = Math.max(1, properties.getMaxTokens());
+        long total = estimateTokens(files);
+        while (total > budget) {
+            TilAiRequestDTO.FileInfo largest = files.stream()
+                    .filter(file -> tokens(file.getLatest_code()) > 0)
+                    .max(Comparator.comparingLong(file -> tokens(file.getLatest_code())))
+                    .orElse(null);
+            if (largest == null) {
+                break;
+            }
+            total -= tokens(largest.getLatest_code());
+            files.set(files.indexOf(largest), copyOf(largest, "", largest.getPatches()));
+            codeDropped.add(largest.getFilepath());
+        }
+
+        // 3. 그래도 넘으면 큰 파일부터 제외 (최소 한 파일은 남김)
+        while (total > budget && files.size() > 1) {
+            TilAiRequestDTO.FileInfo largest = files.stream()
+                    .max(Comparator.comparingLong(this::tokens))
+                    .orElseThrow();
+            total -= tokens(largest);
+            files.remove(largest);
+            dropped.add(largest.getFilepath());
+        }
+
+        // 4. 한 파일의 패치만으로도 넘으면 예산까지만 남기고 자름
+        if (total > budget && !files.isEmpty()) {
+            TilAiRequestDTO.FileInfo file = files.get(0);
+            files.set(0, copyOf(file, file.getLatest_code(),
+                    truncatePatches(file.getPatches(), budget - tokens(file.getLatest_code()))));
+            truncated.add(file.getFilepath());
+        }
+
+        long after = estimateTokens(files);
+        record(excluded, excludedCounter);
+        record(trimmed, trimmedCounter);
+        record(codeDropped, codeDroppedCounter);
+        record(dropped, droppedCounter);
+        record(truncated, truncatedCounter);
+        originalTokens.record(before);
+        shapedTokens.record(after);
+
+        if (before != after) {
+            log.info("AI 요청 크기 조정: 약 {} -> {} 토큰 (제외 {}, 축소 {}, 코드 생략 {}, 파일 생략 {}, 패치 자름 {})",
+                    before, after, excluded.size(), trimmed.size(), codeDropped.size(),
+                    dropped.size(), truncated.size());
+            log.debug("AI 요청 크기 조정 상세: 제외={}, 축소={}, 코드 생략={}, 파일 생략={}, 패치 자름={}",
+                    excluded, trimmed, codeDropped, dropped, truncated);
+        }
+
+        return TilAiRequestDTO.builder()
+                .username(request.getUsername())
+                .date(request.getDate())
+                .repo(request.getRepo())
+                .title(request.getTitle())
+                .files(files)
+                .build();
+    }
+
+    private boolean isExcluded(TilAiRequestDTO.FileInfo file) {
+        String path = file.getFilepath();
+        if (path != null) {
+            for (String pattern : properties.getExcludedPaths()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return true;
+                }
+            }
+        }
+        // GitHub는 바이너리 파일의 패치를 주지 않으므로, 패치가 없고 내용에 NUL 문자가 있으면 바이너리로 봄
+        boolean hasPatch = file.getPatches() != null && file.getPatches().stream()
+                .anyMatch(patch -> patch.getPatch() != null);
+        return !hasPatch && file.getLatest_code() != null
+                && file.getLatest_code().indexOf('\0') >= 0;
+    }
+
+    /**
+     * 큰 파일은 패치의 hunk가 가리키는 줄 앞뒤 contextLines줄만 남기고 나머지는 생략 표시로 바꿉니다.
+     * 줄이지 않으면 원래 문자열을 그대로 반환합니다.
+     * <p>
+     * hunk의 줄 번호는 해당 커밋 시점의 파일 기준이므로, 최신 코드를 조회한 커밋의 패치만 사용합니다.
+     * GithubCommitDetailService는 파일을 처음 변경한 커밋 시점의 내용을 조회하고 그 커밋의 패치를 맨 앞에
+     * 두므로 첫 번째 패치가 여기에 해당합니다. 다른 커밋의 hunk는 줄 번호가 어긋나므로 사용하지 않습니다.
+     */
+    private String trimToChangedHunks(String code, List<TilAiRequestDTO.PatchInfo> patches) {
+        if (code == null || tokens(code) <= properties.getFullFileMaxTokens() || patches == null
+                || patches.isEmpty() || patches.get(0).getPatch() == null) {
+            return code;
+        }
+
+        String[] lines = code.split("\n", -1);
+        boolean[] keep = new boolean[lines.length];
+        int context = Math.max(0, properties.getContextLines());
+        boolean found = false;
+        Matcher matcher = HUNK_PATTERN.matcher(patches.get(0).getPatch());
+        while (matcher.find()) {
+            int start = Integer.parseInt(matcher.group(1)) - 1;
+            int count = matcher.group(2) != null ? Integer.parseInt(matcher.group(2)) : 1;
+            int from = Math.max(0, start - context);
+            int to = Math.min(lines.length, start + count + context);
+            for (int i = from; i < to; i++) {
+                keep[i] = true;
+                found = true;
+            }
+        }
+        if (!found) {
+            return code;
+        }
+
+        StringBuilder result = new StringBuilder();
+        int skipped = 0;
+        for (int i = 0; i < lines.length; i++) {
+            if (!keep[i]) {
+                skipped++;
+                continue;
+            }
+            if (skipped > 0) {
+                result.append("... (").append(skipped).append("줄 생략) ...\n");
+                skipped = 0;
+            }
+            result.append(lines[i]).append('\n');
+        }
+        if (skipped > 0) {
+            result.append("... (").append(skipped).append("줄 생략) ...\n");
+        }
+        return result.toString();
+    }
+
+    /**
+     * 앞쪽 패치부터 남은 토큰 예산만큼만 남깁니다.
+     */
+    private List<TilAiRequestDTO.PatchInfo> truncatePatches(
+            List<TilAiRequestDTO.PatchInfo> patches, long budgetTokens) {
+        if (patches == null) {
+            return null;
+        }
+        long remainingChars = (long) (Math.max(0, budgetTokens) * properties.getCharsPerToken());
+        List<TilAiRequestDTO.PatchInfo> result = new ArrayList<>();
+        for (TilAiRequestDTO.PatchInfo patch : patches) {
+            String text = patch.getPatch() != null ? patch.getPatch() : "";
+            String message = patch.getCommit_message() != null ? patch.getCommit_message() : "";
+            remainingChars -= message.length();
+            if (remainingChars <= 0) {
+                break;
+            }
+            if (text.length() > remainingChars) {
+                text = text.substring(0, (int) remainingChars) + "\n... (이하 생략)";
+            }
+            remainingChars -= text.length();
+            result.add(TilAiRequestDTO.PatchInfo.builder()
+                    .commit_message(patch.getCommit_message())
+                    .patch(text)
+                    .build());
+        }
+        return result;
+    }
+
+    private long estimateTokens(List<TilAiRequestDTO.FileInfo> files) {
+        return files.stream().mapToLong(this::tokens).sum();
+    }
+
+    private long tokens(TilAiRequestDTO.FileInfo file) {
+        long total = tokens(file.getFilepath()) + tokens(file.getLatest_code());
+        if (file.getPatches() != null) {
+            for (TilAiRequestDTO.PatchInfo patch : file.getPatches()) {
+                total += tokens(patch.getCommit_message()) + tokens(patch.getPatch());
+            }
+        }
+        return total;
+    }
+
+    private long tokens(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        return (long) Math.ceil(text.length() / Math.max(0.1, properties.getCharsPerToken()));
+    }
+
+    private static TilAiRequestDTO.FileInfo copyOf(TilAiRequestDTO.FileInfo file, String code,
+            List<TilAiRequestDTO.PatchInfo> patches) {
+        return TilAiRequestDTO.FileInfo.builder()
+                .filepath(file.getFilepath())
+                .latest_code(code)
+                .patches(patches)
+                .build();
+    }
+
+    private static void record(List<String> paths, Counter counter) {
+        if (!paths.isEmpty()) {
+            counter.increment(paths.size());
+        }
+    }
+
+    private static Counter fileCounter(MeterRegistry meterRegistry, String decision) {
+        return Counter.builder("til.ai.payload.files")
+                .description("AI 요청 크기 조정에서 제외하거나 줄인 파일 수")
+                .tag("decision", decision)
+                .register(meterRegistry);
+    }
+
+    private static DistributionSummary tokenSummary(MeterRegistry meterRegistry, String stage) {
+        return DistributionSummary.builder("til.ai.payload.tokens")
+                .description("AI 요청의 추정 토큰 수 (조정 전/후)")
+                .baseUnit("tokens")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+}
@@ -1,17 +1,20 @@
 package com.youtil.Api.Tils.Controller;
 
-import com.youtil.Api.Github.Converter.GitHubDtoConverter;
 import com.youtil.Api.Github.Dto.CommitDetailRequestDTO;
-import com.youtil.Api.Github.Dto.CommitDetailResponseDTO;
 import com.youtil.Api.Github.Service.GithubCommitDetailService;
+import com.youtil.Api.Tils.Client.TilAiAdmissionQueue;
 import com.youtil.Api.Tils.Converter.TilDtoConverter;
 import com.youtil.Api.Tils.Dto.TilAiResponseDTO;
+import com.youtil.Api.Tils.Dto.TilJobResponseDTO;
 import com.youtil.Api.Tils.Dto.TilRequestDTO;
 import com.youtil.Api.Tils.Dto.TilResponseDTO;
+import com.youtil.Api.Tils.Dto.TilStreamResponseDTO;
 import com.youtil.Api.Tils.Service.TilAiService;
 import com.youtil.Api.Tils.Service.TilCommendService;
+import com.youtil.Api.Tils.Service.TilJobService;
 import com.youtil.Common.ApiResponse;
 import com.youtil.Common.Enums.TilMessageCode;
+import com.youtil.Exception.TilException.TilException;
 import com.youtil.Util.JwtUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -23,11 +26,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @RestController
 @Tag(name = "tils", description = "TIL 관련 API")
@@ -39,6 +46,7 @@ public class TilCreateController {
     private final TilCommendService tilCommendService;
     private final GithubCommitDetailService githubCommitDetailService;
     private final TilAiService tilAiService;
+    private final TilJobService tilJobService;
 
     @Operation(
             summary = "TIL 생성",
@@ -68,91 +76,260 @@ public class TilCreateController {
             produces = MediaType.APPLICATION_JSON_VALUE,
             consumes = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<ApiResponse<TilResponseDTO.CreateTilResponse>> createTil(
+    public Mono<ResponseEntity<ApiResponse<TilResponseDTO.CreateTilResponse>>> createTil(
             @RequestBody TilRequestDTO.CreateWithAiRequest request) {
 
         log.info("TIL 생성 요청 - 레포지토리: {}, 제목: {}",
                 request.getRepositoryId(), request.getTitle());
 
+        Long userId;
+        CommitDetailRequestDTO.CommitDetailRequest commitRequest;
         try {
             // 요청 검증
-            if (request.getRepositoryId() == null) {
-                throw new IllegalArgumentException(TilMessageCode.TIL_REPOSITORY_ID_REQUIRED.getMessage());
-            }
+            validateCreateRequest(request);
 
-            if (request.getBranch() == null || request.getBranch().isEmpty()) {
-                throw new IllegalArgumentException(TilMessageCode.TIL_BRANCH_REQUIRED.getMessage());
-            }
+            // 인증된 사용자 ID 가져오기 (요청 스레드에서 미리 꺼내둠)
+            userId = JwtUtil.getAuthenticatedUserId();
 
-            if (request.getCommits() == null || request.getCommits().isEmpty()) {
-                throw new IllegalArgumentException(TilMessageCode.TIL_COMMITS_REQUIRED.getMessage());
-            }
-
-            if (request.getTitle() == null || request.getTitle().trim().isEmpty()) {
-                throw new IllegalArgumentException(TilMessageCode.TIL_TITLE_REQUIRED.getMessage());
-            }
-
-            if (request.getCategory() == null || request.getCategory().trim().isEmpty()) {
-                throw new IllegalArgumentException(TilMessageCode.TIL_CATEGORY_REQUIRED.getMessage());
-            }
-
-            if (request.getIsShared() == null) {
-                throw new IllegalArgumentException(TilMessageCode.TIL_SHARED_STATUS_REQUIRED.getMessage());
-            }
+            // 1. GitHub 커밋 상세 정보 요청 객체 생성 - TilDtoConverter 활용
+            commitRequest = TilDtoConverter.toCommitDetailRequest(request);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청: {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
 
-            // 인증된 사용자 ID 가져오기
-            Long userId = JwtUtil.getAuthenticatedUserId();
+        // 2. GitHub에서 선택한 커밋의 상세 정보 조회
+        return githubCommitDetailService.getCommitDetails(commitRequest, userId)
+                .flatMap(commitDetail -> {
+                    // 조회된 파일 정보가 없는지 확인
+                    if (commitDetail.getFiles() == null || commitDetail.getFiles().isEmpty()) {
+                        return Mono.error(new IllegalArgumentException(
+                                TilMessageCode.TIL_FILES_NOT_FOUND.getMessage()));
+                    }
 
-            // 1. GitHub 커밋 상세 정보 요청 객체 생성
-            CommitDetailRequestDTO.CommitDetailRequest commitRequest = new CommitDetailRequestDTO.CommitDetailRequest();
-            commitRequest.setRepositoryId(request.getRepositoryId());
-            commitRequest.setOrganizationId(request.getOrganizationId());
-            commitRequest.setBranch(request.getBranch());
+                    // 3. AI API로 TIL 내용 생성 요청 (title 정보 추가)
+                    return tilAiService.generateTilContent(commitDetail, request.getRepositoryId(),
+                            request.getBranch(), request.getTitle(),
+                            Boolean.TRUE.equals(request.getRegenerate()));
+                })
+                // 4. TIL 저장 요청 객체 생성 - TilDtoConverter 활용
+                .map(aiResponse -> TilDtoConverter.toCreateAiTilRequest(request, aiResponse))
+                // 5. TIL 저장 (JPA 호출이므로 별도 스레드에서 실행)
+                .flatMap(saveRequest -> Mono.fromCallable(
+                                () -> tilCommendService.createTilFromAi(saveRequest, userId))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .map(tilResponse -> {
+                    // 응답 생성 (TilMessageCode 사용)
+                    ApiResponse<TilResponseDTO.CreateTilResponse> response = new ApiResponse<>(
+                            TilMessageCode.TIL_CREATED.getMessage(),
+                            TilMessageCode.TIL_CREATED.getCode(),
+                            tilResponse);
 
-            // CommitSummary를 CommitDetailRequestDTO.CommitSummary로 변환
-            // GitHubDtoConverter 활용
-            List<CommitDetailRequestDTO.CommitSummary> commitSummaries =
-                    GitHubDtoConverter.toCommitDetailRequestSummaries(request.getCommits());
-            commitRequest.setCommits(commitSummaries);
+                    return new ResponseEntity<>(response, HttpStatus.CREATED);
+                })
+                .onErrorMap(e -> {
+                    if (e instanceof IllegalArgumentException) {
+                        log.warn("잘못된 요청: {}", e.getMessage());
+                        return new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+                    } else if (e instanceof ResponseStatusException responseStatusException) {
+                        // ResponseStatusException은 그대로 전파하여 적절한 HTTP 상태 코드 유지
+                        log.error("서비스 에러: {} - {}", responseStatusException.getStatusCode(),
+                                responseStatusException.getReason());
+                        return e;
+                    }
+                    log.error("TIL 생성 오류: {}", e.getMessage(), e);
+                    return new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
+                            TilMessageCode.TIL_CREATION_ERROR.getMessage() + ": " + e.getMessage());
+                })
+                // AI 서버 호출 대기열에서 사용자 요청으로 처리
+                .contextWrite(TilAiAdmissionQueue.context(userId,
+                        TilAiAdmissionQueue.Priority.INTERACTIVE));
+    }
 
-            // 2. GitHub에서 선택한 커밋의 상세 정보 조회
-            CommitDetailResponseDTO.CommitDetailResponse commitDetail =
-                    githubCommitDetailService.getCommitDetails(commitRequest, userId);
+    @Operation(
+            summary = "TIL 비동기 생성",
+            description = "TIL 생성 작업을 등록하고 작업 ID를 바로 반환합니다. 진행 상태는 "
+                    + "/api/v1/tils/jobs/{jobId} 또는 /api/v1/tils/jobs/{jobId}/events(SSE)로 확인합니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "202",
+                    description = "TIL 생성 작업 등록 성공",
+                    content = @Content(schema = @Schema(implementation = TilJobResponseDTO.TilJobResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청입니다."
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "503",
+                    description = "작업 대기열이 가득 찼습니다."
+            )
+    })
+    @PostMapping(
+            value = "",
+            params = "async=true",
+            produces = MediaType.APPLICATION_JSON_VALUE,
+            consumes = MediaType.APPLICATION_JSON_VALUE
+    )
+    public Mono<ResponseEntity<ApiResponse<TilJobResponseDTO.TilJobResponse>>> createTilAsync(
+            @RequestBody TilRequestDTO.CreateWithAiRequest request) {
 
-            // 조회된 파일 정보가 없는지 확인
-            if (commitDetail.getFiles() == null || commitDetail.getFiles().isEmpty()) {
-                throw new IllegalArgumentException(TilMessageCode.TIL_FILES_NOT_FOUND.getMessage());
-            }
+        log.info("TIL 비동기 생성 요청 - 레포지토리: {}, 제목: {}",
+                request.getRepositoryId(), request.getTitle());
 
-            // 3. AI API로 TIL 내용 생성 요청 (title 정보 추가)
-            TilAiResponseDTO aiResponse = tilAiService.generateTilContent(commitDetail, request.getRepositoryId(), request.getBranch(), request.getTitle());
+        try {
+            validateCreateRequest(request);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청: {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        Long userId = JwtUtil.getAuthenticatedUserId();
 
-            // 4. TIL 저장 요청 객체 생성 - TilDtoConverter 활용
-            TilRequestDTO.CreateAiTilRequest saveRequest =
-                    TilDtoConverter.toCreateAiTilRequest(request, aiResponse);
+        // 작업 저장은 JPA 호출이므로 별도 스레드에서 실행
+        return Mono.fromCallable(() -> tilJobService.submit(userId, request))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(job -> {
+                    ApiResponse<TilJobResponseDTO.TilJobResponse> response = new ApiResponse<>(
+                            TilMessageCode.TIL_JOB_ACCEPTED.getMessage(),
+                            TilMessageCode.TIL_JOB_ACCEPTED.getCode(),
+                            job);
 
-            // 5. TIL 저장
-            TilResponseDTO.CreateTilResponse tilResponse = tilCommendService.createTilFromAi(saveRequest, userId);
+                    return new ResponseEntity<>(response, HttpStatus.ACCEPTED);
+                })
+                .onErrorMap(RejectedExecutionException.class,
+                        e -> new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                                e.getMessage()))
+                .onErrorMap(IllegalArgumentException.class,
+                        e -> new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage()));
+    }
 
-            // 응답 생성 (TilMessageCode 사용)
-            ApiResponse<TilResponseDTO.CreateTilResponse> response = new ApiResponse<>(
-                    TilMessageCode.TIL_CREATED.getMessage(),
-                    TilMessageCode.TIL_CREATED.getCode(),
-                    tilResponse);
+    @Operation(
+            summary = "TIL 스트리밍 생성",
+            description = "AI가 생성하는 TIL 내용을 SSE로 바로 전달합니다. 생성 중에는 token 이벤트로 내용 조각을, "
+                    + "생성이 끝나 TIL이 저장되면 done 이벤트로 TIL ID를 전송하며, 실패하면 error 이벤트를 전송합니다. "
+                    + "캐시된 결과처럼 이미 완성된 내용은 token 이벤트 없이 done 이벤트에 전체 내용을 함께 전송합니다. "
+                    + "done 이벤트 전에 연결을 끊으면 TIL은 저장되지 않습니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "TIL 생성 스트림",
+                    content = @Content(schema = @Schema(implementation = TilStreamResponseDTO.TilStreamEvent.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청입니다."
+            )
+    })
+    @PostMapping(
+            value = "",
+            params = "stream=true",
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE,
+            consumes = MediaType.APPLICATION_JSON_VALUE
+    )
+    public Flux<ServerSentEvent<TilStreamResponseDTO.TilStreamEvent>> createTilStream(
+            @RequestBody TilRequestDTO.CreateWithAiRequest request) {
 
-            return new ResponseEntity<>(response, HttpStatus.CREATED);
+        log.info("TIL 스트리밍 생성 요청 - 레포지토리: {}, 제목: {}",
+                request.getRepositoryId(), request.getTitle());
 
+        Long userId;
+        CommitDetailRequestDTO.CommitDetailRequest commitRequest;
+        try {
+            validateCreateRequest(request);
+            userId = JwtUtil.getAuthenticatedUserId();
+            commitRequest = TilDtoConverter.toCommitDetailRequest(request);
         } catch (IllegalArgumentException e) {
             log.warn("잘못된 요청: {}", e.getMessage());
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
-        } catch (ResponseStatusException e) {
-            // ResponseStatusException은 그대로 전파하여 적절한 HTTP 상태 코드 유지
-            log.error("서비스 에러: {} - {}", e.getStatusCode(), e.getReason());
-            throw e;
-        } catch (Exception e) {
-            log.error("TIL 생성 오류: {}", e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
-                    TilMessageCode.TIL_CREATION_ERROR.getMessage() + ": " + e.getMessage());
+        }
+
+        // token 이벤트를 보냈는지 여부 (보내지 않았으면 done 이벤트에 전체 내용을 담음)
+        AtomicBoolean streamedTokens = new AtomicBoolean();
+
+        // 1. 커밋 상세 조회 후 AI 생성 내용을 조각 단위로 전달
+        // 2. 생성이 끝나면 전체 내용과 키워드로 TIL을 한 번에 저장 (JPA 호출이므로 별도 스레드에서 실행)
+        return githubCommitDetailService.getCommitDetails(commitRequest, userId)
+                .flatMapMany(commitDetail -> {
+                    if (commitDetail.getFiles() == null || commitDetail.getFiles().isEmpty()) {
+                        return Flux.error(new IllegalArgumentException(
+                                TilMessageCode.TIL_FILES_NOT_FOUND.getMessage()));
+                    }
+                    return tilAiService.streamTilContent(commitDetail, request.getRepositoryId(),
+                            request.getBranch(), request.getTitle(),
+                            Boolean.TRUE.equals(request.getRegenerate()));
+                })
+                .concatMap(chunk -> {
+                    if (!Boolean.TRUE.equals(chunk.getDone())) {
+                        streamedTokens.set(true);
+                        return Mono.just(ServerSentEvent.builder(
+                                        TilStreamResponseDTO.TilStreamEvent.builder()
+                                                .content(chunk.getContent())
+                                                .build())
+                                .event("token")
+                                .build());
+                    }
+                    TilAiResponseDTO aiResponse = TilAiResponseDTO.builder()
+                            .content(chunk.getContent())
+                            .keywords(chunk.getKeywords())
+                            .build();
+                    return Mono.fromCallable(() -> tilCommendService.createTilFromAi(
+                                    TilDtoConverter.toCreateAiTilRequest(request, aiResponse), userId))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .map(tilResponse -> ServerSentEvent.builder(
+                                            TilStreamResponseDTO.TilStreamEvent.builder()
+                                                    .content(streamedTokens.get() ? null
+                                                            : chunk.getContent())
+                                                    .tilID(tilResponse.getTilID())
+                                                    .build())
+                                    .event("done")
+                                    .build());
+                })
+                // 응답 헤더를 이미 보냈으므로 오류는 error 이벤트로 전달
+                .onErrorResume(e -> {
+                    String message = e instanceof ResponseStatusException responseStatusException
+                            ? responseStatusException.getReason() : e.getMessage();
+                    log.error("TIL 스트리밍 생성 오류: {}", message);
+                    Long retryAfterSeconds =
+                            e instanceof TilException.TilAiQueueFullException queueFullException
+                                    ? queueFullException.getRetryAfter().toSeconds() : null;
+                    return Mono.just(ServerSentEvent.builder(
+                                    TilStreamResponseDTO.TilStreamEvent.builder()
+                                            .errorMessage(message != null ? message
+                                                    : TilMessageCode.TIL_CREATION_ERROR.getMessage())
+                                            .retryAfterSeconds(retryAfterSeconds)
+                                            .build())
+                            .event("error")
+                            .build());
+                })
+                .contextWrite(TilAiAdmissionQueue.context(userId,
+                        TilAiAdmissionQueue.Priority.INTERACTIVE));
+    }
+
+    private static void validateCreateRequest(TilRequestDTO.CreateWithAiRequest request) {
+        if (request.getRepositoryId() == null) {
+            throw new IllegalArgumentException(TilMessageCode.TIL_REPOSITORY_ID_REQUIRED.getMessage());
+        }
+
+        if (request.getBranch() == null || request.getBranch().isEmpty()) {
+            throw new IllegalArgumentException(TilMessageCode.TIL_BRANCH_REQUIRED.getMessage());
+        }
+
+        if (request.getCommits() == null || request.getCommits().isEmpty()) {
+            throw new IllegalArgumentException(TilMessageCode.TIL_COMMITS_REQUIRED.getMessage());
+        }
+
+        if (request.getTitle() == null || request.getTitle().trim().isEmpty()) {
+            throw new IllegalArgumentException(TilMessageCode.TIL_TITLE_REQUIRED.getMessage());
+        }
+
+        if (request.getCategory() == null || request.getCategory().trim().isEmpty()) {
+            throw new IllegalArgumentException(TilMessageCode.TIL_CATEGORY_REQUIRED.getMessage());
+        }
+
+        if (request.getIsShared() == null) {
+            throw new IllegalArgumentException(TilMessageCode.TIL_SHARED_STATUS_REQUIRED.getMessage());
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,101 @@
+package com.youtil.Api.Tils.Controller;
+
+import com.youtil.Api.Tils.Dto.TilJobResponseDTO;
+import com.youtil.Api.Tils.Service.TilJobService;
+import com.youtil.Common.ApiResponse;
+import com.youtil.Common.Enums.TilMessageCode;
+import com.youtil.Util.JwtUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@Tag(name = "tils", description = "TIL 생성 작업 관련 API")
+@RequestMapping("/api/v1/tils/jobs")
+@RequiredArgsConstructor
+@Slf4j
+public class TilJobController {
+
+    private final TilJobService tilJobService;
+
+    @Operation(
+            summary = "TIL 생성 작업 조회",
+            description = "비동기 TIL 생성 작업의 현재 상태를 조회합니다. 완료되면 생성된 TIL ID를 함께 반환합니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "작업 조회 성공",
+                    content = @Content(schema = @Schema(implementation = TilJobResponseDTO.TilJobResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "작업을 찾을 수 없습니다."
+            )
+    })
+    @GetMapping(value = "/{jobId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ApiResponse<TilJobResponseDTO.TilJobResponse>>> getJob(
+            @PathVariable Long jobId) {
+
+        Long userId = JwtUtil.getAuthenticatedUserId();
+
+        return tilJobService.getJob(jobId, userId)
+                .map(job -> ResponseEntity.ok(new ApiResponse<>(
+                        TilMessageCode.TIL_JOB_FETCHED.getMessage(),
+                        TilMessageCode.TIL_JOB_FETCHED.getCode(),
+                        job)))
+                .onErrorMap(IllegalArgumentException.class,
+                        e -> new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage()));
+    }
+
+    @Operation(
+            summary = "TIL 생성 작업 진행 상태 구독",
+            description = "작업 상태가 바뀔 때마다 SSE로 전송합니다. 이벤트 이름은 상태(queued, fetching, generating, "
+                    + "saving, done, failed)이며, done 또는 failed 이벤트 후 스트림이 종료됩니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "진행 상태 구독 성공",
+                    content = @Content(schema = @Schema(implementation = TilJobResponseDTO.TilJobResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "작업을 찾을 수 없습니다."
+            )
+    })
+    @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<TilJobResponseDTO.TilJobResponse>> streamJobEvents(
+            @PathVariable Long jobId) {
+
+        log.info("TIL 생성 작업 진행 상태 구독: jobId={}", jobId);
+
+        // 인증 정보는 요청 스레드에서 미리 꺼내둠
+        Long userId = JwtUtil.getAuthenticatedUserId();
+
+        // 이벤트 ID는 구독마다 0부터 증가하는 순번 (재연결 시에는 현재 상태부터 다시 전송)
+        return tilJobService.events(jobId, userId)
+                .index()
+                .map(indexed -> ServerSentEvent.builder(indexed.getT2())
+                        .id(String.valueOf(indexed.getT1()))
+                        .event(indexed.getT2().getStatus().name())
+                        .build())
+                .onErrorMap(IllegalArgumentException.class,
+                        e -> new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage()));
+    }
+}
@@ -1,5 +1,7 @@
 package com.youtil.Api.Tils.Converter;
 
+import com.youtil.Api.Github.Converter.GitHubDtoConverter;
+import com.youtil.Api.Github.Dto.CommitDetailRequestDTO;
 import com.youtil.Api.Github.Dto.CommitDetailResponseDTO;
 import com.youtil.Api.Tils.Dto.TilAiRequestDTO;
 import com.youtil.Api.Tils.Dto.TilAiResponseDTO;
@@ -53,6 +55,21 @@ public class TilDtoConverter {
                 .build();
     }
 
+    /**
+     * CreateWithAiRequest를 선택한 커밋의 상세 정보 조회 요청으로 변환
+     */
+    public static CommitDetailRequestDTO.CommitDetailRequest toCommitDetailRequest(
+            TilRequestDTO.CreateWithAiRequest request) {
+        CommitDetailRequestDTO.CommitDetailRequest commitRequest =
+                new CommitDetailRequestDTO.CommitDetailRequest();
+        commitRequest.setRepositoryId(request.getRepositoryId());
+        commitRequest.setOrganizationId(request.getOrganizationId());
+        commitRequest.setBranch(request.getBranch());
+        commitRequest.setCommits(
+                GitHubDtoConverter.toCommitDetailRequestSummaries(request.getCommits()));
+        return commitRequest;
+    }
+
     /**
      * CreateWithAiRequest와 AiResponse로부터 CreateAiTilRequest 생성
      */
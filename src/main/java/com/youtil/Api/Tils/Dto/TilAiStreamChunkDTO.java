@@ -0,0 +1,24 @@
+package com.youtil.Api.Tils.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * AI 서버 스트리밍 응답(SSE)의 이벤트 데이터
+ * <p>
+ * 생성 중에는 content에 새로 생성된 부분만 담기고, 마지막 이벤트는 done=true와 함께 keywords(와 전체
+ * content)를 담습니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TilAiStreamChunkDTO {
+    private String content;
+    private List<String> keywords;
+    private Boolean done;
+}
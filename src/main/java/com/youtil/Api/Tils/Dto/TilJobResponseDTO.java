@@ -0,0 +1,28 @@
+package com.youtil.Api.Tils.Dto;
+
+import com.youtil.Common.Enums.TilJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+public class TilJobResponseDTO {
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @Schema(description = "TIL 생성 작업 상태")
+    public static class TilJobResponse {
+        @Schema(description = "작업 ID", example = "1")
+        private Long jobId;
+
+        @Schema(description = "작업 상태 (queued, fetching, generating, saving, done, failed)", example = "generating")
+        private TilJobStatus status;
+
+        @Schema(description = "생성된 TIL ID (완료 시)", example = "1")
+        private Long tilID;
+
+        @Schema(description = "실패 사유 (실패 시)")
+        private String errorMessage;
+    }
+}
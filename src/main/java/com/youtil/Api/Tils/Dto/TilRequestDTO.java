@@ -78,6 +78,9 @@ public class TilRequestDTO {
         @JsonProperty("is_shared")
         @Schema(description = "커뮤니티 업로드 여부 (TRUE: 공개(1), FALSE: 비공개(0))", example = "true")
         private Boolean isShared;
+
+        @Schema(description = "같은 커밋으로 생성한 AI 결과가 있어도 다시 생성할지 여부", example = "false")
+        private Boolean regenerate;
     }
 
     @Data
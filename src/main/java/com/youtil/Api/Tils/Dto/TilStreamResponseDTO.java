@@ -0,0 +1,27 @@
+package com.youtil.Api.Tils.Dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+public class TilStreamResponseDTO {
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @Schema(description = "TIL 스트리밍 생성 이벤트 (token: 생성된 내용 조각, done: 저장 완료, error: 실패)")
+    public static class TilStreamEvent {
+        @Schema(description = "새로 생성된 TIL 내용 조각 (token 이벤트), token 이벤트 없이 완성된 경우 전체 내용 (done 이벤트)")
+        private String content;
+
+        @Schema(description = "저장된 TIL ID (done 이벤트)", example = "1")
+        private Long tilID;
+
+        @Schema(description = "실패 사유 (error 이벤트)")
+        private String errorMessage;
+
+        @Schema(description = "다시 시도하기까지 기다릴 시간(초), AI 요청이 많아 거절된 경우 (error 이벤트)", example = "5")
+        private Long retryAfterSeconds;
+    }
+}
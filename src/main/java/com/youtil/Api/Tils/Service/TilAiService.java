@@ -1,21 +1,32 @@
 package com.youtil.Api.Tils.Service;
 
 import com.youtil.Api.Github.Dto.CommitDetailResponseDTO;
+import com.youtil.Api.Tils.Cache.TilAiResultCache;
+import com.youtil.Api.Tils.Client.TilAiAdmissionQueue;
+import com.youtil.Api.Tils.Client.TilAiPayloadShaper;
 import com.youtil.Api.Tils.Converter.TilDtoConverter;
 import com.youtil.Api.Tils.Dto.TilAiRequestDTO;
 import com.youtil.Api.Tils.Dto.TilAiResponseDTO;
+import com.youtil.Api.Tils.Dto.TilAiStreamChunkDTO;
 import com.youtil.Exception.TilException.TilException.TilAIHealthxception;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Service
@@ -24,62 +35,208 @@ import reactor.core.publisher.Mono;
 public class TilAiService {
 
 
-    private final WebClient webClient;
+    private static final ParameterizedTypeReference<ServerSentEvent<TilAiStreamChunkDTO>> CHUNK_EVENT_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final WebClient aiWebClient;
+    private final TilAiResultCache tilAiResultCache;
+    private final TilAiAdmissionQueue tilAiAdmissionQueue;
+    private final TilAiPayloadShaper tilAiPayloadShaper;
 
 
     @Value("${ai.api.url}")
     private String aiApiUrl;
 
+    // AI 서버의 스트리밍(SSE) TIL 생성 API 경로
+    @Value("${ai.api.stream-path:/til/stream}")
+    private String aiStreamPath;
+
     /**
-     * 커밋 정보를 AI API로 전송하여 TIL 내용을 생성합니다.
+     * 커밋 정보를 AI API로 전송하여 TIL 내용을 생성합니다. 같은 요청의 생성 결과가 캐시되어 있으면 AI 서버를
+     * 호출하지 않고 캐시된 결과를 반환합니다.
+     *
+     * @param regenerate true면 캐시된 결과를 사용하지 않고 다시 생성 (결과는 캐시에 갱신)
      */
-    public TilAiResponseDTO generateTilContent(
+    public Mono<TilAiResponseDTO> generateTilContent(
             CommitDetailResponseDTO.CommitDetailResponse commitDetail,
             Long repositoryId,
             String branch,
-            String title) {
+            String title,
+            boolean regenerate) {
+
+        TilAiRequestDTO shapedRequest = toShapedRequest(commitDetail, repositoryId, title);
+
+        String fullUrl = aiApiUrl + "/til";
+        TilAiResultCache.Key cacheKey = tilAiResultCache.keyOf(shapedRequest);
 
-        // 제목이 비어있는 경우 기본값 설정
-        String finalTitle = (title != null && !title.isEmpty()) ? title : "커밋 기반 TIL";
+        // WebClient를 사용하여 AI API 호출 (응답을 기다리는 동안 스레드를 점유하지 않음)
+        // AI 서버 호출은 대기열에서 차례를 기다린 뒤 보냄 (캐시 저장은 자리를 반환한 뒤 진행)
+        Mono<TilAiResponseDTO> generated = tilAiAdmissionQueue.admit(aiWebClient.post()
+                        .uri(fullUrl)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(shapedRequest)
+                        .retrieve()
+                        .bodyToMono(TilAiResponseDTO.class))
+                .doOnNext(response -> log.info("AI API 응답 수신 완료"))
+                .switchIfEmpty(Mono.error(() -> {
+                    log.error("AI 서버에서 빈 응답을 반환했습니다.");
+                    return new ResponseStatusException(HttpStatus.BAD_GATEWAY,
+                            "AI 서버에서 유효한 응답을 받지 못했습니다.");
+                }))
+                .flatMap(response -> tilAiResultCache.put(cacheKey, response).thenReturn(response));
 
-        // 수정된 메서드 호출로 title 전달
+        return cachedOrGenerate(cacheKey, regenerate, generated)
+                // AI 서버 서킷이 열려 있으면 기다리지 않고 커밋 메시지 기반 기본 템플릿으로 대체
+                .onErrorResume(CallNotPermittedException.class,
+                        e -> Mono.just(fallback(commitDetail, e)))
+                .onErrorMap(e -> !(e instanceof ResponseStatusException),
+                        TilAiService::toResponseStatusException);
+    }
+
+    /**
+     * 커밋 정보를 AI API로 전송하고, 생성되는 TIL 내용을 조각 단위로 받아 바로 내보냅니다.
+     * <p>
+     * AI 서버의 스트리밍 API(SSE)를 호출하며, 생성 중에는 새로 생성된 내용 조각(done=false)을, 마지막에는
+     * 전체 내용과 키워드를 합친 이벤트(done=true)를 한 번 내보냅니다. 구독을 취소하면 AI 서버 요청도
+     * 취소됩니다. 캐시된 결과나 기본 템플릿처럼 이미 완성된 내용은 조각 없이 완료 이벤트 하나만 내보냅니다.
+     *
+     * @param regenerate true면 캐시된 결과를 사용하지 않고 다시 생성 (결과는 캐시에 갱신)
+     */
+    public Flux<TilAiStreamChunkDTO> streamTilContent(
+            CommitDetailResponseDTO.CommitDetailResponse commitDetail,
+            Long repositoryId,
+            String branch,
+            String title,
+            boolean regenerate) {
+
+        TilAiRequestDTO shapedRequest = toShapedRequest(commitDetail, repositoryId, title);
+
+        String fullUrl = aiApiUrl + aiStreamPath;
+        TilAiResultCache.Key cacheKey = tilAiResultCache.keyOf(shapedRequest);
+
+        Flux<TilAiStreamChunkDTO> generated = Flux.defer(() -> {
+                    // 구독마다 누적 상태를 새로 만듦
+                    StringBuilder content = new StringBuilder();
+                    AtomicReference<String> finalContent = new AtomicReference<>();
+                    AtomicReference<List<String>> keywords = new AtomicReference<>(List.of());
+
+                    // 스트림이 끝날 때까지 AI 서버 호출 대기열의 자리를 차지
+                    Flux<TilAiStreamChunkDTO> tokens = tilAiAdmissionQueue.admitMany(aiWebClient.post()
+                                    .uri(fullUrl)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .accept(MediaType.TEXT_EVENT_STREAM)
+                                    .bodyValue(shapedRequest)
+                                    .retrieve()
+                                    .bodyToFlux(CHUNK_EVENT_TYPE)
+                                    .mapNotNull(ServerSentEvent::data)
+                                    .takeUntil(chunk -> Boolean.TRUE.equals(chunk.getDone())))
+                            .doOnNext(chunk -> {
+                                if (chunk.getKeywords() != null) {
+                                    keywords.set(chunk.getKeywords());
+                                }
+                                if (Boolean.TRUE.equals(chunk.getDone())) {
+                                    // 마지막 이벤트에 전체 내용이 있으면 그대로 사용
+                                    finalContent.set(chunk.getContent());
+                                } else if (chunk.getContent() != null) {
+                                    content.append(chunk.getContent());
+                                }
+                            })
+                            .filter(chunk -> !Boolean.TRUE.equals(chunk.getDone())
+                                    && chunk.getContent() != null && !chunk.getContent().isEmpty());
+
+                    Mono<TilAiStreamChunkDTO> done = Mono.fromCallable(() -> {
+                        String result = finalContent.get() != null && !finalContent.get().isEmpty()
+                                ? finalContent.get() : content.toString();
+                        if (result.isEmpty()) {
+                            log.error("AI 서버에서 빈 스트리밍 응답을 반환했습니다.");
+                            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY,
+                                    "AI 서버에서 유효한 응답을 받지 못했습니다.");
+                        }
+                        log.info("AI API 스트리밍 응답 수신 완료 ({}자)", result.length());
+                        return TilAiStreamChunkDTO.builder()
+                                .content(result)
+                                .keywords(keywords.get())
+                                .done(true)
+                                .build();
+                    });
+
+                    return tokens.concatWith(done.flatMap(chunk -> tilAiResultCache.put(cacheKey,
+                                    TilAiResponseDTO.builder()
+                                            .content(chunk.getContent())
+                                            .keywords(chunk.getKeywords())
+                                            .build())
+                            .thenReturn(chunk)));
+                });
+
+        return cachedOrGenerate(cacheKey, regenerate, Mono.empty())
+                .map(TilAiService::toDoneChunk)
+                .flux()
+                .switchIfEmpty(generated)
+                // AI 서버 서킷이 열려 있으면 기본 템플릿을 완료 이벤트로 내보냄
+                .onErrorResume(CallNotPermittedException.class,
+                        e -> Mono.just(toDoneChunk(fallback(commitDetail, e))))
+                .onErrorMap(e -> !(e instanceof ResponseStatusException),
+                        TilAiService::toResponseStatusException);
+    }
+
+    /**
+     * 커밋 정보로 AI 요청을 만들고 토큰 예산에 맞게 크기를 조정합니다. 제목이 비어 있으면 기본 제목을 사용합니다.
+     */
+    private TilAiRequestDTO toShapedRequest(
+            CommitDetailResponseDTO.CommitDetailResponse commitDetail, Long repositoryId,
+            String title) {
         TilAiRequestDTO requestDTO = TilDtoConverter.toTilAiRequest(commitDetail, repositoryId,
                 title);
+        requestDTO.setTitle((title != null && !title.isEmpty()) ? title : "커밋 기반 TIL");
 
-        requestDTO.setTitle(finalTitle);
-
-        String fullUrl = aiApiUrl + "/til";
+        // 잠금 파일/생성 파일 제외, 큰 파일은 변경된 부분만 남기는 등 토큰 예산에 맞게 요청 크기 조정
+        return tilAiPayloadShaper.shape(requestDTO);
+    }
 
-        try {
-            // WebClient를 사용하여 AI API 호출 (RestTemplate 대체)
-            TilAiResponseDTO response = webClient.post()
-                    .uri(fullUrl)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(requestDTO)
-                    .retrieve()
-                    .bodyToMono(TilAiResponseDTO.class)
-                    .block();
+    /**
+     * AI 서버 서킷이 열려 있을 때 사용할 커밋 메시지 기반 기본 템플릿
+     */
+    private static TilAiResponseDTO fallback(
+            CommitDetailResponseDTO.CommitDetailResponse commitDetail, Throwable e) {
+        log.warn("AI 서버 서킷이 열려 있어 기본 템플릿으로 TIL 생성: {}", e.getMessage());
+        return TilDtoConverter.createFallbackResponse(commitDetail);
+    }
 
-            log.info("AI API 응답 수신 완료");
+    private static TilAiStreamChunkDTO toDoneChunk(TilAiResponseDTO response) {
+        return TilAiStreamChunkDTO.builder()
+                .content(response.getContent())
+                .keywords(response.getKeywords())
+                .done(true)
+                .build();
+    }
 
-            if (response == null) {
-                log.error("AI 서버에서 빈 응답을 반환했습니다.");
-                throw new ResponseStatusException(HttpStatus.BAD_GATEWAY,
-                        "AI 서버에서 유효한 응답을 받지 못했습니다.");
-            }
-            return response;
+    /**
+     * 다시 생성 요청이 아니면 캐시된 결과를, 없으면 generated를 사용합니다.
+     */
+    private Mono<TilAiResponseDTO> cachedOrGenerate(TilAiResultCache.Key cacheKey,
+            boolean regenerate, Mono<TilAiResponseDTO> generated) {
+        if (regenerate) {
+            tilAiResultCache.recordBypass();
+            return generated;
+        }
+        return tilAiResultCache.get(cacheKey).switchIfEmpty(generated);
+    }
 
-        } catch (WebClientResponseException e) {
+    private static ResponseStatusException toResponseStatusException(Throwable e) {
+        if (e instanceof BulkheadFullException) {
+            log.warn("AI 서버 동시 요청 수 초과: {}", e.getMessage());
+            return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "AI 서버 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (e instanceof WebClientResponseException) {
             log.error("AI API 호출 실패: {}", e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+            return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
                     "AI 서버와의 연결이 원활하지 않습니다: " + e.getMessage());
-        } catch (ResponseStatusException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("AI 처리 중 예상치 못한 오류 발생: {}", e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
-                    "AI 서비스 처리 중 오류가 발생했습니다: " + e.getMessage());
         }
+        log.error("AI 처리 중 예상치 못한 오류 발생: {}", e.getMessage(), e);
+        return new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
+                "AI 서비스 처리 중 오류가 발생했습니다: " + e.getMessage());
     }
 
     /**
@@ -88,7 +245,7 @@ public class TilAiService {
     public String getTilAIHealthStatus() {
         String fullUrl = aiApiUrl + "/health";
         try {
-            return webClient.get()
+            return aiWebClient.get()
                     .uri(fullUrl)
                     .retrieve()
                     .onStatus(
@@ -0,0 +1,295 @@
+package com.youtil.Api.Tils.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.youtil.Api.Github.Dto.CommitDetailResponseDTO;
+import com.youtil.Api.Github.Service.GithubCommitDetailService;
+import com.youtil.Api.Tils.Client.TilAiAdmissionQueue;
+import com.youtil.Api.Tils.Converter.TilDtoConverter;
+import com.youtil.Api.Tils.Dto.TilAiResponseDTO;
+import com.youtil.Api.Tils.Dto.TilJobResponseDTO;
+import com.youtil.Api.Tils.Dto.TilRequestDTO;
+import com.youtil.Common.Enums.TilJobStatus;
+import com.youtil.Common.Enums.TilMessageCode;
+import com.youtil.Config.TilJobProperties;
+import com.youtil.Exception.TilException.TilException;
+import com.youtil.Model.TilJob;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+/**
+ * 비동기 TIL 생성 작업 실행기
+ * <p>
+ * 작업을 DB에 저장한 뒤 크기가 정해진 작업 스레드 풀에서 커밋 조회 → AI 생성 → 저장 순으로 실행합니다.
+ * 대기열이 가득 차면 등록을 거절합니다. 진행 상태는 DB와 작업별 이벤트 스트림에 함께 반영하며, 서버가 재시작되거나
+ * 작업을 실행하던 인스턴스가 멈춰 점유가 만료되면 작업을 가져온 인스턴스 한 곳에서만 처음부터 다시 실행합니다.
+ */
+@Service
+@Slf4j
+public class TilJobService {
+
+    private final TilJobStore tilJobStore;
+    private final GithubCommitDetailService githubCommitDetailService;
+    private final TilAiService tilAiService;
+    private final ObjectMapper objectMapper;
+    private final TilJobProperties properties;
+    private final ThreadPoolExecutor executor;
+
+    // 작업 ID -> 진행 상태 이벤트 (실행 중인 작업만)
+    private final Map<Long, Sinks.Many<TilJobResponseDTO.TilJobResponse>> progress =
+            new ConcurrentHashMap<>();
+
+    public TilJobService(TilJobStore tilJobStore,
+            GithubCommitDetailService githubCommitDetailService, TilAiService tilAiService,
+            ObjectMapper objectMapper, TilJobProperties properties) {
+        this.tilJobStore = tilJobStore;
+        this.githubCommitDetailService = githubCommitDetailService;
+        this.tilAiService = tilAiService;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        int workers = Math.max(1, properties.getWorkers());
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable,
+                            "til-job-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 작업을 저장하고 실행 대기열에 등록합니다. 대기열이 가득 차면 작업을 실패 처리하고 예외를 던집니다.
+     */
+    public TilJobResponseDTO.TilJobResponse submit(Long userId,
+            TilRequestDTO.CreateWithAiRequest request) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(TilMessageCode.TIL_INVALID_REQUEST.getMessage());
+        }
+
+        TilJob job = tilJobStore.create(userId, payload);
+        if (!dispatch(job.getId(), userId, request)) {
+            tilJobStore.fail(job.getId(), TilMessageCode.TIL_JOB_QUEUE_FULL.getMessage());
+            throw new RejectedExecutionException(TilMessageCode.TIL_JOB_QUEUE_FULL.getMessage());
+        }
+        log.info("TIL 생성 작업 등록: jobId={}, userId={}", job.getId(), userId);
+        return toResponse(job);
+    }
+
+    /**
+     * 작업 상태를 조회합니다.
+     */
+    public Mono<TilJobResponseDTO.TilJobResponse> getJob(Long jobId, Long userId) {
+        return Mono.fromCallable(() -> tilJobStore.find(jobId, userId)
+                        .map(TilJobService::toResponse)
+                        .orElseThrow(() -> new IllegalArgumentException(
+                                TilMessageCode.TIL_JOB_NOT_FOUND.getMessage())))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 현재 상태부터 시작해 상태가 바뀔 때마다 내보내고, 작업이 끝나면(done/failed) 완료합니다.
+     */
+    public Flux<TilJobResponseDTO.TilJobResponse> events(Long jobId, Long userId) {
+        return getJob(jobId, userId).flatMapMany(current -> {
+            Sinks.Many<TilJobResponseDTO.TilJobResponse> sink = progress.get(jobId);
+            if (current.getStatus().isFinished()) {
+                return Flux.just(current);
+            }
+            if (sink == null) {
+                // 조회 직후 작업이 끝난 경우 최종 상태를 다시 조회
+                return getJob(jobId, userId).flux();
+            }
+            return Flux.concat(Flux.just(current), sink.asFlux())
+                    .distinctUntilChanged(TilJobResponseDTO.TilJobResponse::getStatus)
+                    .takeUntil(event -> event.getStatus().isFinished());
+        });
+    }
+
+    /**
+     * 서버 시작 시 끝나지 않은 작업을 가져와 처음부터 다시 실행합니다. 재시작 전 이 인스턴스가 점유했던 작업은
+     * 점유 기간이 남아 있어도 바로 가져옵니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        if (properties.isResumeOnStartup()) {
+            resume(true);
+        }
+    }
+
+    /**
+     * 실행하던 인스턴스가 멈춰 점유가 만료된 작업을 주기적으로 가져와 다시 실행합니다.
+     */
+    @Scheduled(initialDelayString = "${til.job.recovery-interval:PT1M}",
+            fixedDelayString = "${til.job.recovery-interval:PT1M}")
+    public void recoverExpiredJobs() {
+        if (properties.isRecoveryEnabled()) {
+            resume(false);
+        }
+    }
+
+    /**
+     * 종료할 때 이 인스턴스가 점유한 작업의 점유를 풀어 다른 인스턴스가 바로 이어서 실행할 수 있게 합니다.
+     * 점유를 먼저 풀기 때문에 중단되는 작업은 실패로 기록되지 않습니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        try {
+            int released = tilJobStore.releaseAll();
+            if (released > 0) {
+                log.info("종료 전 TIL 생성 작업 점유 해제: {}건", released);
+            }
+        } catch (Exception e) {
+            log.warn("TIL 생성 작업 점유 해제 실패: {}", e.getMessage());
+        }
+        executor.shutdownNow();
+    }
+
+    /**
+     * 가져올 수 있는 작업을 조건부 갱신으로 점유한 뒤 실행합니다. 여러 인스턴스가 동시에 시도해도 한 곳만
+     * 실행합니다.
+     */
+    private void resume(boolean includeOwn) {
+        for (TilJob job : tilJobStore.findClaimable(includeOwn)) {
+            // 이 인스턴스에서 아직 실행 중이거나 다른 인스턴스가 먼저 가져간 작업은 건너뜀
+            if (progress.containsKey(job.getId()) || !tilJobStore.claim(job.getId(), includeOwn)) {
+                continue;
+            }
+            try {
+                TilRequestDTO.CreateWithAiRequest request = objectMapper.readValue(
+                        job.getRequest(), TilRequestDTO.CreateWithAiRequest.class);
+                if (!dispatch(job.getId(), job.getUserId(), request)) {
+                    tilJobStore.fail(job.getId(), TilMessageCode.TIL_JOB_QUEUE_FULL.getMessage());
+                    continue;
+                }
+                log.info("끝나지 않은 TIL 생성 작업 재실행: jobId={}", job.getId());
+            } catch (JsonProcessingException e) {
+                log.error("TIL 생성 작업 요청 복원 실패: jobId={}", job.getId());
+                tilJobStore.fail(job.getId(), TilMessageCode.TIL_INVALID_REQUEST.getMessage());
+            }
+        }
+    }
+
+    private boolean dispatch(Long jobId, Long userId, TilRequestDTO.CreateWithAiRequest request) {
+        Sinks.Many<TilJobResponseDTO.TilJobResponse> sink = Sinks.many().replay().latest();
+        progress.put(jobId, sink);
+        try {
+            executor.execute(() -> run(jobId, userId, request));
+            return true;
+        } catch (RejectedExecutionException e) {
+            progress.remove(jobId);
+            log.warn("TIL 생성 작업 대기열 초과: jobId={}", jobId);
+            return false;
+        }
+    }
+
+    private void run(Long jobId, Long userId, TilRequestDTO.CreateWithAiRequest request) {
+        try {
+            // 1. GitHub에서 선택한 커밋의 상세 정보 조회
+            changeStatus(jobId, TilJobStatus.fetching);
+            CommitDetailResponseDTO.CommitDetailResponse commitDetail = githubCommitDetailService
+                    .getCommitDetails(TilDtoConverter.toCommitDetailRequest(request), userId)
+                    .block(properties.getStepTimeout());
+            if (commitDetail == null || commitDetail.getFiles() == null
+                    || commitDetail.getFiles().isEmpty()) {
+                throw new IllegalArgumentException(TilMessageCode.TIL_FILES_NOT_FOUND.getMessage());
+            }
+
+            // 2. AI API로 TIL 내용 생성
+            changeStatus(jobId, TilJobStatus.generating);
+            TilAiResponseDTO aiResponse = tilAiService.generateTilContent(commitDetail,
+                            request.getRepositoryId(), request.getBranch(), request.getTitle(),
+                            Boolean.TRUE.equals(request.getRegenerate()))
+                    // AI 서버 호출 대기열에서 사용자 요청보다 뒤에 처리하고, 대기열이 가득 차면 안내받은
+                    // 시간만큼 기다렸다가 다시 시도 (단계 최대 대기 시간 이내)
+                    .contextWrite(TilAiAdmissionQueue.context(userId,
+                            TilAiAdmissionQueue.Priority.BATCH))
+                    .retryWhen(Retry.from(signals -> signals.concatMap(signal ->
+                            signal.failure() instanceof TilException.TilAiQueueFullException e
+                                    ? Mono.delay(e.getRetryAfter())
+                                    : Mono.error(signal.failure()))))
+                    .block(properties.getStepTimeout());
+            if (aiResponse == null) {
+                throw new IllegalStateException(TilMessageCode.TIL_AI_EMPTY_RESPONSE.getMessage());
+            }
+
+            // 3. TIL 저장과 작업 완료 처리 (같은 트랜잭션)
+            changeStatus(jobId, TilJobStatus.saving);
+            Long tilId = tilJobStore.complete(jobId,
+                    TilDtoConverter.toCreateAiTilRequest(request, aiResponse)).getTilID();
+            emit(jobId, TilJobResponseDTO.TilJobResponse.builder()
+                    .jobId(jobId)
+                    .status(TilJobStatus.done)
+                    .tilID(tilId)
+                    .build());
+            log.info("TIL 생성 작업 완료: jobId={}, tilId={}", jobId, tilId);
+        } catch (Exception e) {
+            log.error("TIL 생성 작업 실패: jobId={}, 오류: {}", jobId, e.getMessage(), e);
+            String errorMessage = e.getMessage() != null ? e.getMessage()
+                    : TilMessageCode.TIL_CREATION_ERROR.getMessage();
+            try {
+                if (!tilJobStore.fail(jobId, errorMessage)) {
+                    // 다른 인스턴스가 이어서 실행 중이므로 실패 상태를 알리지 않음
+                    return;
+                }
+            } catch (Exception storeError) {
+                log.error("TIL 생성 작업 실패 상태 저장 오류: jobId={}", jobId, storeError);
+            }
+            emit(jobId, TilJobResponseDTO.TilJobResponse.builder()
+                    .jobId(jobId)
+                    .status(TilJobStatus.failed)
+                    .errorMessage(errorMessage)
+                    .build());
+        } finally {
+            Sinks.Many<TilJobResponseDTO.TilJobResponse> sink = progress.remove(jobId);
+            if (sink != null) {
+                sink.tryEmitComplete();
+            }
+        }
+    }
+
+    private void changeStatus(Long jobId, TilJobStatus status) {
+        tilJobStore.updateStatus(jobId, status);
+        emit(jobId, TilJobResponseDTO.TilJobResponse.builder()
+                .jobId(jobId)
+                .status(status)
+                .build());
+    }
+
+    private void emit(Long jobId, TilJobResponseDTO.TilJobResponse event) {
+        Sinks.Many<TilJobResponseDTO.TilJobResponse> sink = progress.get(jobId);
+        if (sink != null) {
+            sink.tryEmitNext(event);
+        }
+    }
+
+    private static TilJobResponseDTO.TilJobResponse toResponse(TilJob job) {
+        return TilJobResponseDTO.TilJobResponse.builder()
+                .jobId(job.getId())
+                .status(job.getStatus())
+                .tilID(job.getTilId())
+                .errorMessage(job.getErrorMessage())
+                .build();
+    }
+}
@@ -0,0 +1,152 @@
+package com.youtil.Api.Tils.Service;
+
+import com.youtil.Api.Tils.Dto.TilRequestDTO;
+import com.youtil.Api.Tils.Dto.TilResponseDTO;
+import com.youtil.Common.Enums.TilJobStatus;
+import com.youtil.Common.Enums.TilMessageCode;
+import com.youtil.Config.TilJobProperties;
+import com.youtil.Model.TilJob;
+import com.youtil.Repository.TilJobRepository;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * TIL 생성 작업 상태 저장소
+ * <p>
+ * 작업은 이 인스턴스가 점유한 경우에만 상태를 바꿉니다. 점유가 만료되어 다른 인스턴스가 가져간 작업은 더 이상
+ * 진행하지 않습니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TilJobStore {
+
+    private static final Set<TilJobStatus> UNFINISHED = EnumSet.of(TilJobStatus.queued,
+            TilJobStatus.fetching, TilJobStatus.generating, TilJobStatus.saving);
+
+    private final TilJobRepository tilJobRepository;
+    private final TilCommendService tilCommendService;
+    private final TilJobProperties properties;
+
+    @Transactional
+    public TilJob create(Long userId, String request) {
+        return tilJobRepository.save(TilJob.builder()
+                .userId(userId)
+                .status(TilJobStatus.queued)
+                .request(request)
+                .ownerId(properties.getInstanceId())
+                .leaseUntil(leaseUntil())
+                .build());
+    }
+
+    /**
+     * 점유가 만료된 작업을 이 인스턴스가 가져갑니다. 다른 인스턴스가 먼저 가져갔으면 false를 반환합니다.
+     *
+     * @param includeOwn true면 이 인스턴스 ID로 점유된 작업(재시작 전 자신의 작업)도 점유 기간과 관계없이 가져옴
+     */
+    @Transactional
+    public boolean claim(Long jobId, boolean includeOwn) {
+        return tilJobRepository.claim(jobId, properties.getInstanceId(), leaseUntil(),
+                TilJobStatus.queued, UNFINISHED, now(), previousOwnerId(includeOwn)) == 1;
+    }
+
+    /**
+     * 이 인스턴스가 점유한 끝나지 않은 작업의 점유를 모두 풉니다. 종료할 때 호출하여 다른 인스턴스(또는
+     * 재시작한 이 서버)가 점유 만료를 기다리지 않고 바로 이어서 실행하게 합니다.
+     */
+    @Transactional
+    public int releaseAll() {
+        return tilJobRepository.releaseAll(properties.getInstanceId(), UNFINISHED);
+    }
+
+    /**
+     * 상태를 바꾸고 점유 기간을 연장합니다. 점유를 잃은 작업이면 예외를 던집니다.
+     */
+    @Transactional
+    public void updateStatus(Long jobId, TilJobStatus status) {
+        TilJob job = getOwnedJob(jobId);
+        job.setStatus(status);
+        job.setLeaseUntil(leaseUntil());
+    }
+
+    /**
+     * TIL을 저장하고 작업을 완료 처리합니다. 같은 트랜잭션에서 처리하므로 재시작 후 다시 실행되더라도 TIL이
+     * 중복 저장되지 않습니다.
+     */
+    @Transactional
+    public TilResponseDTO.CreateTilResponse complete(Long jobId,
+            TilRequestDTO.CreateAiTilRequest saveRequest) {
+        TilJob job = getOwnedJob(jobId);
+        TilResponseDTO.CreateTilResponse tilResponse = tilCommendService.createTilFromAi(
+                saveRequest, job.getUserId());
+        job.setStatus(TilJobStatus.done);
+        job.setTilId(tilResponse.getTilID());
+        job.setLeaseUntil(null);
+        return tilResponse;
+    }
+
+    /**
+     * 작업을 실패 처리합니다. 다른 인스턴스가 이미 가져간 작업은 그대로 두고 false를 반환합니다.
+     */
+    @Transactional
+    public boolean fail(Long jobId, String errorMessage) {
+        TilJob job = getJob(jobId);
+        if (!properties.getInstanceId().equals(job.getOwnerId())) {
+            log.warn("점유를 잃은 TIL 생성 작업은 실패 처리하지 않음: jobId={}, ownerId={}", jobId,
+                    job.getOwnerId());
+            return false;
+        }
+        job.setStatus(TilJobStatus.failed);
+        job.setErrorMessage(errorMessage);
+        job.setLeaseUntil(null);
+        return true;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<TilJob> find(Long jobId, Long userId) {
+        return tilJobRepository.findByIdAndUserId(jobId, userId);
+    }
+
+    /**
+     * 끝나지 않았고 점유가 만료된 작업을 조회합니다.
+     *
+     * @param includeOwn true면 이 인스턴스 ID로 점유된 작업도 포함
+     */
+    @Transactional(readOnly = true)
+    public List<TilJob> findClaimable(boolean includeOwn) {
+        return tilJobRepository.findAllClaimable(UNFINISHED, now(), previousOwnerId(includeOwn));
+    }
+
+    private TilJob getJob(Long jobId) {
+        return tilJobRepository.findById(jobId).orElseThrow(
+                () -> new RuntimeException(TilMessageCode.TIL_JOB_NOT_FOUND.getMessage()));
+    }
+
+    private TilJob getOwnedJob(Long jobId) {
+        TilJob job = getJob(jobId);
+        if (!properties.getInstanceId().equals(job.getOwnerId())) {
+            throw new IllegalStateException(TilMessageCode.TIL_JOB_LEASE_LOST.getMessage());
+        }
+        return job;
+    }
+
+    private String previousOwnerId(boolean includeOwn) {
+        return includeOwn ? properties.getInstanceId() : null;
+    }
+
+    private OffsetDateTime leaseUntil() {
+        return now().plus(properties.getLeaseDuration());
+    }
+
+    private static OffsetDateTime now() {
+        return OffsetDateTime.now(ZoneOffset.UTC);
+    }
+}
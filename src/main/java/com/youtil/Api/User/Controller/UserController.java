@@ -11,12 +11,12 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
 import java.time.Duration;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -27,6 +27,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @RestController
@@ -39,28 +40,28 @@ public class UserController {
     private final JwtUtil jwtUtil;
 
     @PostMapping("/github")
-    public ResponseEntity<ApiResponse<UserResponseDTO.LoginResponseDTO>> loginUserController(
+    public Mono<ResponseEntity<ApiResponse<UserResponseDTO.LoginResponseDTO>>> loginUserController(
             @RequestBody UserRequestDTO.LoginRequestDTO loginRequestDTO,
-            HttpServletRequest request, HttpServletResponse response) {
+            HttpServletRequest request) {
 
         String origin = request.getHeader("Origin");
-        UserResponseDTO.LoginResponseDTO tokens = userService.loginUserService(
-                loginRequestDTO.getAuthorizationCode(), origin);
-
-        ResponseCookie refreshTokenCookie = ResponseCookie.from("RefreshToken",
-                        tokens.getRefreshToken())
-                .domain(".youtil.co.kr")
-                .httpOnly(true)
-                .secure(true)
-                .path("/")
-                .maxAge(Duration.ofDays(7))
-                .sameSite("None")  // 또는 "Lax" 필요 시 변경
-                .build();
-
-        response.addHeader("Set-Cookie", refreshTokenCookie.toString());
-
-        return ResponseEntity.ok(
-                new ApiResponse<>(MessageCode.LOGIN_SUCCESS.getMessage(), "200", tokens));
+        return userService.loginUserService(loginRequestDTO.getAuthorizationCode(), origin)
+                .map(tokens -> {
+                    ResponseCookie refreshTokenCookie = ResponseCookie.from("RefreshToken",
+                                    tokens.getRefreshToken())
+                            .domain(".youtil.co.kr")
+                            .httpOnly(true)
+                            .secure(true)
+                            .path("/")
+                            .maxAge(Duration.ofDays(7))
+                            .sameSite("None")  // 또는 "Lax" 필요 시 변경
+                            .build();
+
+                    return ResponseEntity.ok()
+                            .header(HttpHeaders.SET_COOKIE, refreshTokenCookie.toString())
+                            .body(new ApiResponse<>(MessageCode.LOGIN_SUCCESS.getMessage(), "200",
+                                    tokens));
+                });
     }
 
     @Operation(summary = "유저 정보 조회", description = "마이페이지의 유저 정보를 조회하는 API 입니다")
@@ -13,6 +13,7 @@ public class GithubResponseDTO {
     @Getter
     public static class GitHubUserInfo {
         private String login; // 유저 깃허브 아이디
+        private Long id; // 유저 깃허브 사용자 ID
         private String avatar_url; // 프로필 사진
 
     }
@@ -1,5 +1,8 @@
 package com.youtil.Api.User.Service;
 
+import com.youtil.Api.Github.Cache.GithubIdentityCache;
+import com.youtil.Api.Github.Client.GithubApiClient;
+import com.youtil.Api.Github.Service.GithubPrefetchService;
 import com.youtil.Api.User.Converter.UserConverter;
 import com.youtil.Api.User.Dto.GitHubRequestDTO;
 import com.youtil.Api.User.Dto.GithubResponseDTO;
@@ -19,7 +22,6 @@ import com.youtil.Util.JwtUtil;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -30,7 +32,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 
 @Service
@@ -39,6 +46,10 @@ import org.springframework.web.reactive.function.client.WebClient;
 public class UserService {
 
     private final WebClient webClient;
+    private final GithubApiClient githubApiClient;
+    private final GithubIdentityCache githubIdentityCache;
+    private final GithubPrefetchService githubPrefetchService;
+    private final TransactionTemplate transactionTemplate;
     private final UserRepository userRepository;
     private final TokenEncryptor tokenEncryptor;
     private final EntityValidator entityValidator;
@@ -46,29 +57,66 @@ public class UserService {
     private final GithubOAuthProperties github;
 
 
-    @Transactional
-    public UserResponseDTO.LoginResponseDTO loginUserService(String authorizationCode,
+    public Mono<UserResponseDTO.LoginResponseDTO> loginUserService(String authorizationCode,
             String origin) {
-        String accessToken = getAccessToken(authorizationCode, origin);
+        // 이메일과 프로필은 서로 독립적이므로 동시에 조회
+        return getAccessToken(authorizationCode, origin)
+                .flatMap(accessToken -> Mono.zip(getEmailInfo(accessToken),
+                                getUserInfo(accessToken))
+                        // 사용자 조회/저장은 JPA 호출이므로 별도 스레드의 트랜잭션에서 실행
+                        .publishOn(Schedulers.boundedElastic())
+                        .map(tuple -> transactionTemplate.execute(status -> saveLoginUser(
+                                accessToken, tuple.getT1(), tuple.getT2()))));
+    }
 
-        String email = getEmailInfo(accessToken);
+    private UserResponseDTO.LoginResponseDTO saveLoginUser(String accessToken, String email,
+            GithubResponseDTO.GitHubUserInfo gitHubUserInfo) {
         Optional<User> userOptional = userRepository.findByEmail(email);
         String encryptAccessToken = tokenEncryptor.encrypt(accessToken);
+        // 새 토큰의 GitHub 사용자 정보는 방금 조회했으므로 이후 GitHub 조회에서 /user 호출 생략
+        githubIdentityCache.put(accessToken, gitHubUserInfo.getLogin(), gitHubUserInfo.getId());
         //만약 존재하면 깃허브 엑세스 토큰만 교체 후 로그인
         if (userOptional.isPresent()) {
             User user = userOptional.get();
+            invalidatePreviousToken(user);
             user.setGithubToken(encryptAccessToken);
+            prefetchAfterCommit(user.getId());
             return UserConverter.toUserResponseDTO(JwtUtil.generateAccessToken(user.getId()),
                     JwtUtil.generateRefreshToken(user.getId()));
             //만약 존재하지 않다면 유저 계정 생성 후 로그인
         } else {
-            GithubResponseDTO.GitHubUserInfo gitHubUserInfo = getUserInfo(accessToken);
             User user = UserConverter.toUser(email, gitHubUserInfo, encryptAccessToken);
             User newUser = userRepository.save(user);
+            prefetchAfterCommit(newUser.getId());
             return UserConverter.toUserResponseDTO(JwtUtil.generateAccessToken(newUser.getId()),
                     JwtUtil.generateRefreshToken(newUser.getId()));
         }
+    }
+
+    /**
+     * 새 토큰이 커밋된 뒤 GitHub 조직/레포 목록을 백그라운드로 미리 조회합니다.
+     */
+    private void prefetchAfterCommit(Long userId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                githubPrefetchService.prefetchAfterLogin(userId);
+            }
+        });
+    }
 
+    /**
+     * 재로그인으로 교체되는 이전 토큰의 GitHub 사용자 정보 캐시를 제거합니다.
+     */
+    private void invalidatePreviousToken(User user) {
+        if (user.getGithubToken() == null || user.getGithubToken().isEmpty()) {
+            return;
+        }
+        try {
+            githubIdentityCache.invalidate(tokenEncryptor.decrypt(user.getGithubToken()));
+        } catch (Exception e) {
+            log.warn("이전 GitHub 토큰 복호화 실패, 캐시 제거 생략: {}", e.getMessage());
+        }
     }
 
     public UserResponseDTO.GetUserInfoResponseDTO getUserInfoService(long userId) {
@@ -119,9 +167,9 @@ public class UserService {
 
     //서비스 내장 함수
 
-    private String getAccessToken(String authorizationCode, String origin) {
+    private Mono<String> getAccessToken(String authorizationCode, String origin) {
         GithubOAuthProperties.GithubApp app = resolveAppByOrigin(origin);
-        GithubResponseDTO.GitHubAccessTokenResponse response = webClient.post()
+        return webClient.post()
                 .uri("https://github.com/login/oauth/access_token")
                 .header("Accept", "application/json")
                 .bodyValue(GitHubRequestDTO.GitHubAccessTokenRequest.builder()
@@ -131,45 +179,31 @@ public class UserService {
                         .build())
                 .retrieve()
                 .bodyToMono(GithubResponseDTO.GitHubAccessTokenResponse.class)
-                .block();
-
-        if (response == null || response.getAccess_token() == null) {
-            throw new WrongAuthorizationCodeException();
-        }
-        return response.getAccess_token();
+                .filter(response -> response.getAccess_token() != null)
+                .map(GithubResponseDTO.GitHubAccessTokenResponse::getAccess_token)
+                .switchIfEmpty(Mono.error(WrongAuthorizationCodeException::new));
     }
 
 
     //프로필 가져오는 메서드
-    private GithubResponseDTO.GitHubUserInfo getUserInfo(String accessToken) {
-
-        GithubResponseDTO.GitHubUserInfo userInfo = webClient.get()
-                .uri("https://api.github.com/user")
+    private Mono<GithubResponseDTO.GitHubUserInfo> getUserInfo(String accessToken) {
+        return webClient.get()
+                .uri(githubApiClient.url("/user"))
                 .headers(headers -> headers.setBearerAuth(accessToken))
-                .retrieve().bodyToMono(GithubResponseDTO.GitHubUserInfo.class).block();
-
-        if (userInfo == null) {
-            throw new UserException.GitHubEmailNotFoundException();
-        }
-        return userInfo;
+                .retrieve().bodyToMono(GithubResponseDTO.GitHubUserInfo.class)
+                .switchIfEmpty(Mono.error(UserException.GitHubEmailNotFoundException::new));
     }
 
     //프라이빗 이메일 가져오는 메서드
-    private String getEmailInfo(String accessToken) {
-        GithubResponseDTO.GitHubEmailInfo[] emails = webClient.get()
-                .uri("https://api.github.com/user/emails")
+    private Mono<String> getEmailInfo(String accessToken) {
+        return webClient.get()
+                .uri(githubApiClient.url("/user/emails"))
                 .headers(header -> header.setBearerAuth(accessToken))
-                .retrieve().bodyToMono(GithubResponseDTO.GitHubEmailInfo[].class).block();
-
-        if (emails == null) {
-            throw new UserException.GitHubEmailNotFoundException();
-        }
-
-        return Arrays.stream(emails)
+                .retrieve().bodyToFlux(GithubResponseDTO.GitHubEmailInfo.class)
                 .filter(email -> email.isPrimary() && email.isVerified())
-                .findFirst()
-                .orElseThrow(UserException.GitHubEmailNotFoundException::new)
-                .getEmail();
+                .next()
+                .map(GithubResponseDTO.GitHubEmailInfo::getEmail)
+                .switchIfEmpty(Mono.error(UserException.GitHubEmailNotFoundException::new));
     }
 
     //분기 로직
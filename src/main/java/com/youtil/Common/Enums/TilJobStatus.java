@@ -0,0 +1,9 @@
+package com.youtil.Common.Enums;
+
+public enum TilJobStatus {
+    queued, fetching, generating, saving, done, failed;
+
+    public boolean isFinished() {
+        return this == done || this == failed;
+    }
+}
@@ -13,6 +13,8 @@ public enum TilMessageCode {
     TIL_LIST_FETCHED("200", "내 TIL 목록 조회 성공"),
     TIL_DETAIL_FETCHED("200", "내 TIL 상세 조회 성공"),
     TIL_AI_GENERATED("200", "AI가 TIL 내용을 성공적으로 생성했습니다."),
+    TIL_JOB_ACCEPTED("202", "TIL 생성 작업이 등록되었습니다."),
+    TIL_JOB_FETCHED("200", "TIL 생성 작업 조회 성공"),
 
     // 커뮤니티 관련 성공 메시지
     COMMUNITY_RECENT_TILS_FETCHED("200", "최신 TIL 목록 조회 성공"),
@@ -41,11 +43,15 @@ public enum TilMessageCode {
     TIL_INVALID_REQUEST("400", "잘못된 TIL 요청입니다."),
     TIL_SERVER_ERROR("500", "서버 내부 오류입니다."),
     TIL_CREATION_ERROR("500", "TIL 생성 중 오류가 발생했습니다."),
+    TIL_JOB_NOT_FOUND("404", "TIL 생성 작업을 찾을 수 없습니다."),
+    TIL_JOB_QUEUE_FULL("503", "TIL 생성 요청이 많아 작업을 등록할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    TIL_JOB_LEASE_LOST("409", "다른 서버에서 이어서 실행 중인 TIL 생성 작업입니다."),
 
     // AI 서버 오류 메시지
     TIL_AI_EMPTY_RESPONSE("503", "AI 서버에서 유효한 응답을 받지 못했습니다."),
     TIL_AI_CONNECTION_ERROR("503", "AI 서버와의 연결이 원활하지 않습니다."),
     TIL_AI_PROCESSING_ERROR("503", "AI 서비스 처리 중 오류가 발생했습니다."),
+    TIL_AI_QUEUE_FULL("429", "AI 생성 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // GitHub 성공 메시지
     GITHUB_ORG_FETCHED("200", "깃허브 조직 목록 조회에 성공했습니다."),
@@ -55,6 +61,8 @@ public enum TilMessageCode {
     GITHUB_USER_BRANCHES_FETCHED("200", "개인 레포지토리 브랜치 목록 조회 성공"),
     GITHUB_COMMITS_FETCHED("200", "GitHub 커밋 정보 조회 성공"),
     GITHUB_COMMIT_DETAIL_FETCHED("200", "GitHub 커밋 상세 정보 조회 성공"),
+    GITHUB_WEBHOOK_PROCESSED("200", "GitHub 웹훅 처리 성공"),
+    GITHUB_ACTIVITY_FETCHED("200", "GitHub 전체 레포지토리 커밋 조회 성공"),
 
     // GitHub 오류 메시지
     GITHUB_TOKEN_INVALID("401", "GitHub 토큰이 올바르지 않습니다. 다시 로그인해주세요."),
@@ -66,12 +74,18 @@ public enum TilMessageCode {
     GITHUB_ORG_REPOS_NOT_FOUND("404", "조직의 레포지토리 정보를 찾을 수 없습니다."),
     GITHUB_USER_ORGS_NOT_FOUND("404", "사용자의 조직 정보를 찾을 수 없습니다."),
     GITHUB_API_PERMISSION_DENIED("403", "GitHub API 호출 횟수 제한에 도달했거나 접근 권한이 없습니다."),
+    GITHUB_RATE_LIMIT_EXCEEDED("429", "GitHub API 호출 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
+    GITHUB_API_UNAVAILABLE("503", "GitHub 응답이 원활하지 않아 호출을 일시적으로 중단했습니다. 잠시 후 다시 시도해주세요."),
     GITHUB_RESOURCE_NOT_FOUND("404", "요청한 GitHub 리소스를 찾을 수 없습니다."),
     GITHUB_INVALID_REQUEST("422", "GitHub API 요청이 유효하지 않습니다."),
+    GITHUB_REPOSITORY_EMPTY("409", "커밋이 없는 빈 GitHub 레포지토리입니다."),
     GITHUB_SERVER_ERROR("500", "GitHub 서버 오류가 발생했습니다."),
     GITHUB_TOKEN_DECRYPT_ERROR("500", "GitHub 토큰 복호화에 실패했습니다."),
     GITHUB_COMMIT_NOT_FOUND("404", "해당 커밋을 찾을 수 없습니다."),
-    GITHUB_INVALID_DATE_FORMAT("400", "날짜 형식이 올바르지 않습니다. YYYY-MM-DD 형식이어야 합니다.");
+    GITHUB_INVALID_DATE_FORMAT("400", "날짜 형식이 올바르지 않습니다. YYYY-MM-DD 형식이어야 합니다."),
+    GITHUB_WEBHOOK_SIGNATURE_INVALID("401", "GitHub 웹훅 서명이 올바르지 않습니다."),
+    GITHUB_WEBHOOK_PAYLOAD_INVALID("400", "GitHub 웹훅 요청 본문 형식이 올바르지 않습니다."),
+    GITHUB_DATE_RANGE_INVALID("400", "조회 기간이 올바르지 않습니다. 시작일은 종료일 이전이어야 하며 최대 조회 일수를 넘을 수 없습니다.");
 
     private final String code;
     private final String message;
@@ -1,5 +1,6 @@
 package com.youtil.Config;
 
+import java.time.Duration;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -12,4 +13,7 @@ import org.springframework.context.annotation.Configuration;
 public class AppProperties {
 
     private String serverDomain;
+
+    // Mono를 반환하는 비동기 컨트롤러의 최대 응답 대기 시간 (AI 생성 시간 포함)
+    private Duration asyncRequestTimeout = Duration.ofMinutes(2);
 }
\ No newline at end of file
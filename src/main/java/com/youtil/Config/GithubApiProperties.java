@@ -0,0 +1,281 @@
+package com.youtil.Config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "github.api")
+@Component
+public class GithubApiProperties {
+
+    // GitHub REST API 주소 (GitHub Enterprise나 로컬 스텁 서버 사용 시 변경)
+    private String baseUrl = "https://api.github.com";
+
+    private CommitDetail commitDetail = new CommitDetail();
+    private ContentCache contentCache = new ContentCache();
+    private CommitCache commitCache = new CommitCache();
+    private ConditionalRequest conditionalRequest = new ConditionalRequest();
+    private RateLimit rateLimit = new RateLimit();
+    private Graphql graphql = new Graphql();
+    private Pagination pagination = new Pagination();
+    private RepositoryIndex repositoryIndex = new RepositoryIndex();
+    private IdentityCache identityCache = new IdentityCache();
+    private Coalescing coalescing = new Coalescing();
+    private OrgRepositories orgRepositories = new OrgRepositories();
+    private Prefetch prefetch = new Prefetch();
+    private Webhook webhook = new Webhook();
+    private Activity activity = new Activity();
+    private CommitSummary commitSummary = new CommitSummary();
+    private Hedging hedging = new Hedging();
+
+    @Getter
+    @Setter
+    public static class CommitDetail {
+
+        // 커밋/파일 조회 시 동시에 진행할 최대 GitHub 요청 수 (1이면 순차 조회)
+        private int concurrency = 8;
+
+        // 파일별 패치 최대 길이 (문자 수, 초과분은 잘라냄. 0 이하이면 제한 없음)
+        private int maxPatchLength = 64 * 1024;
+    }
+
+    @Getter
+    @Setter
+    public static class ContentCache {
+
+        private boolean enabled = true;
+
+        // 힙 메모리 캐시 최대 크기 (문자 수 기준 근사치)
+        private long memoryMaxBytes = 64L * 1024 * 1024;
+
+        // 디스크 캐시 최대 크기
+        private long diskMaxBytes = 512L * 1024 * 1024;
+
+        private String diskDirectory =
+                System.getProperty("java.io.tmpdir") + "/youtil/github-content";
+    }
+
+    @Getter
+    @Setter
+    public static class CommitCache {
+
+        private boolean enabled = true;
+
+        // 커밋 메타데이터 캐시 최대 크기 (패치 문자 수 기준 근사치)
+        private long maxWeight = 32L * 1024 * 1024;
+
+        // 존재하지 않는 커밋(404/422) 응답을 기억하는 시간
+        private Duration negativeTtl = Duration.ofMinutes(5);
+
+        private long negativeMaxSize = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class ConditionalRequest {
+
+        private boolean enabled = true;
+
+        // ETag/Last-Modified와 함께 보관할 응답 본문의 최대 크기 (문자 수 기준 근사치)
+        private long maxBytes = 32L * 1024 * 1024;
+
+        // 마지막 사용 이후 보관 기간
+        private Duration expireAfterAccess = Duration.ofHours(6);
+    }
+
+    @Getter
+    @Setter
+    public static class RateLimit {
+
+        private boolean enabled = true;
+
+        // 남은 호출 수가 전체 한도의 이 비율 아래로 내려가면 초기화 시각까지 요청 간격을 벌림
+        private double slowdownRatio = 0.1;
+
+        // 백그라운드 요청은 남은 호출 수가 이 비율 아래면 실행하지 않음
+        private double backgroundReserveRatio = 0.2;
+
+        // 사용자 요청이 호출 한도 때문에 대기할 수 있는 최대 시간 (초과 시 즉시 실패)
+        private Duration maxInteractiveWait = Duration.ofSeconds(10);
+
+        // 백그라운드 요청이 진행 중인 사용자 요청을 기다리는 최대 시간
+        private Duration maxBackgroundWait = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Graphql {
+
+        // true이면 커밋 시점 파일 내용을 GraphQL로 여러 개씩 묶어서 조회
+        private boolean enabled = false;
+
+        // GraphQL 엔드포인트 (지정하지 않으면 baseUrl + /graphql, 로컬 스텁 서버 사용 시 변경)
+        private String url;
+
+        // 쿼리 하나에 담을 최대 파일 수
+        private int batchSize = 50;
+
+        // 동시에 보낼 최대 쿼리 수
+        private int concurrency = 2;
+    }
+
+    @Getter
+    @Setter
+    public static class Pagination {
+
+        // 마지막 페이지를 알 때 동시에 조회할 최대 페이지 수
+        private int concurrency = 4;
+
+        // 목록 하나에서 조회할 최대 페이지 수 (페이지당 100개)
+        private int maxPages = 30;
+    }
+
+    @Getter
+    @Setter
+    public static class RepositoryIndex {
+
+        // 기억할 최대 (토큰, 레포지토리) 항목 수
+        private long maxSize = 100_000;
+
+        // 레포지토리 이름/소유자 변경 반영 주기
+        private Duration ttl = Duration.ofHours(1);
+    }
+
+    @Getter
+    @Setter
+    public static class IdentityCache {
+
+        private boolean enabled = true;
+
+        // 토큰 소유자 정보 보관 시간
+        private Duration ttl = Duration.ofMinutes(30);
+
+        private long maxSize = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Coalescing {
+
+        // 동시에 진행 중인 동일 GET 요청을 하나로 합칠지 여부
+        private boolean enabled = true;
+    }
+
+    @Getter
+    @Setter
+    public static class OrgRepositories {
+
+        // 팀별 레포 목록을 동시에 조회할 최대 팀 수
+        private int teamConcurrency = 6;
+
+        private boolean cacheEnabled = true;
+
+        // 병합한 접근 가능 레포 목록 보관 시간 (권한 변경 반영을 위해 짧게 유지)
+        private Duration cacheTtl = Duration.ofMinutes(2);
+
+        private long cacheMaxSize = 1_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Prefetch {
+
+        // 로그인 직후 조직/레포 목록을 백그라운드로 미리 조회할지 여부
+        private boolean enabled = true;
+
+        // 접근 가능 레포를 미리 조회할 최대 조직 수
+        private int maxOrganizations = 5;
+
+        // 미리 조회 작업 전체 제한 시간
+        private Duration timeout = Duration.ofMinutes(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Webhook {
+
+        // push 웹훅 서명(X-Hub-Signature-256) 검증용 시크릿 (비어 있으면 모든 요청 거부)
+        private String secret;
+
+        // 커밋 인덱스로 커밋 요약을 조회할지 여부 (false면 항상 GitHub API 조회)
+        private boolean indexEnabled = true;
+
+        // 마지막 웹훅 전달 이후 이 시간이 지나면 그 이후 날짜는 인덱스 대신 GitHub API로 조회
+        // (웹훅 삭제나 전달 누락 대비)
+        private Duration maxDeliveryGap = Duration.ofDays(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Activity {
+
+        // 레포지토리별 커밋 목록을 동시에 조회할 최대 레포 수
+        private int concurrency = 6;
+
+        // 한 번에 조회할 수 있는 최대 일수
+        private int maxDays = 31;
+
+        // 조회 기간에 push된 레포 중 커밋을 조회할 최대 레포 수 (최근 push 순)
+        private int maxRepositories = 100;
+
+        private boolean cacheEnabled = true;
+
+        // 지난 날짜의 (사용자, 날짜)별 커밋 목록 보관 시간
+        private Duration cacheTtl = Duration.ofDays(1);
+
+        // 늦게 push된 커밋이 추가될 수 있어 짧게 보관할 최근 일수 (1이면 어제까지)
+        private int recentDays = 2;
+
+        // 최근 날짜의 커밋 목록 보관 시간
+        private Duration recentCacheTtl = Duration.ofMinutes(10);
+
+        private long cacheMaxSize = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class CommitSummary {
+
+        // 기간 커밋 요약에서 한 번에 조회할 수 있는 최대 일수
+        private int maxRangeDays = 31;
+
+        private boolean cacheEnabled = true;
+
+        // 지난 날짜의 (레포, 브랜치, 작성자, 날짜)별 커밋 요약 보관 시간
+        private Duration cacheTtl = Duration.ofDays(1);
+
+        private long cacheMaxSize = 50_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Hedging {
+
+        // 응답이 늦은 GET 요청을 한 번 더 보내 먼저 온 응답을 사용할지 여부
+        private boolean enabled = false;
+
+        // 최근 응답 시간의 이 분위수를 넘기면 추가 요청을 보냄
+        private double percentile = 0.95;
+
+        // 분위수를 계산할 최근 응답 수
+        private int sampleSize = 500;
+
+        // 분위수 계산에 필요한 최소 응답 수 (그 전에는 initialDelay 사용)
+        private int minSamples = 50;
+
+        private Duration initialDelay = Duration.ofSeconds(1);
+
+        // 추가 요청을 보내기까지의 최소 대기 시간
+        private Duration minDelay = Duration.ofMillis(200);
+
+        // 추가 요청 수 상한 (원 요청 수 대비 비율, 예산은 0에서 시작해 원 요청마다 이만큼 쌓임)
+        private double budgetRatio = 0.05;
+
+        // 토큰의 남은 호출 수가 전체 한도의 이 비율 아래면 추가 요청을 보내지 않음
+        private double minRemainingRatio = 0.5;
+    }
+}
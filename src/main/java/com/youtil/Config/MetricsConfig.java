@@ -0,0 +1,37 @@
+package com.youtil.Config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import java.util.List;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    // p95 등 지연시간 분위수를 Prometheus에서 계산할 수 있도록 히스토그램을 노출할 메트릭
+    private static final List<String> LATENCY_HISTOGRAM_PREFIXES = List.of(
+            "http.server.requests",
+            "github."
+    );
+
+    @Bean
+    public MeterFilter latencyHistogramMeterFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id,
+                    DistributionStatisticConfig config) {
+                boolean matched = LATENCY_HISTOGRAM_PREFIXES.stream()
+                        .anyMatch(prefix -> id.getName().startsWith(prefix));
+                if (!matched) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package com.youtil.Config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 HTTP 호출용 커넥션 풀 설정
+ * <p>
+ * 호출 대상(GitHub, AI 서버, newsdata.io, Google 번역)마다 별도의 풀을 사용하여 한 대상의 지연이 다른
+ * 대상의 커넥션을 점유하지 않도록 합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "outbound.http")
+@Component
+public class OutboundHttpProperties {
+
+    private Pool github = new Pool(100, Duration.ofSeconds(30));
+
+    // TIL 생성은 응답까지 오래 걸리므로 응답 대기 시간을 길게 둠
+    private Pool ai = new Pool(20, Duration.ofSeconds(90));
+
+    private Pool news = new Pool(10, Duration.ofSeconds(20));
+
+    private Pool translation = new Pool(10, Duration.ofSeconds(15));
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        // 풀의 최대 커넥션 수
+        private int maxConnections;
+
+        // 커넥션을 기다리는 요청의 최대 개수 (지정하지 않으면 maxConnections의 2배, -1이면 제한 없음)
+        private Integer pendingAcquireMaxCount;
+
+        // 커넥션을 얻기까지 기다리는 최대 시간
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(10);
+
+        // 사용하지 않는 커넥션을 닫기까지의 시간 (상대 서버의 keep-alive 시간보다 짧게)
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+
+        // 커넥션 최대 수명 (DNS 변경 반영)
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+
+        // 유휴/만료 커넥션 정리 주기
+        private Duration evictInBackground = Duration.ofSeconds(30);
+
+        private Duration connectTimeout = Duration.ofSeconds(5);
+
+        // 요청 전송 이후 응답을 받기까지의 최대 시간
+        private Duration responseTimeout;
+
+        public Pool() {
+            this(50, Duration.ofSeconds(30));
+        }
+
+        public Pool(int maxConnections, Duration responseTimeout) {
+            this.maxConnections = maxConnections;
+            this.responseTimeout = responseTimeout;
+        }
+    }
+}
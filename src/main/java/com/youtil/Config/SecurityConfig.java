@@ -64,6 +64,7 @@ public class SecurityConfig {
                                 , "/swagger-ui.html"
                                 , "/api/v1/users/github"
                                 , "/api/v1/news/image-proxy"
+                                , "/api/v1/github/webhook"
                                 , "/actuator/prometheus").permitAll()
                         .anyRequest().authenticated()
                 )
@@ -78,6 +79,7 @@ public class SecurityConfig {
                         , "/swagger-ui.html"
                         , "/api/v1/users/github"
                         , "/api/v1/news/image-proxy"
+                        , "/api/v1/github/webhook"
                         , "/actuator/prometheus")), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
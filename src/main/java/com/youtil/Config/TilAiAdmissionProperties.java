@@ -0,0 +1,31 @@
+package com.youtil.Config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 서버 호출 대기열 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "til.ai-admission")
+@Component
+public class TilAiAdmissionProperties {
+
+    private boolean enabled = true;
+
+    // AI 서버로 동시에 보낼 수 있는 최대 요청 수
+    private int maxConcurrency = 8;
+
+    // 실행을 기다릴 수 있는 최대 요청 수 (초과하면 바로 거절)
+    private int maxQueueSize = 100;
+
+    // 대기열에서 기다리는 최대 시간 (초과하면 거절)
+    private Duration maxWait = Duration.ofSeconds(30);
+
+    // 거절 시 Retry-After로 안내하는 최소 대기 시간
+    private Duration minRetryAfter = Duration.ofSeconds(1);
+}
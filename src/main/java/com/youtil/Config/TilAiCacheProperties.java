@@ -0,0 +1,25 @@
+package com.youtil.Config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI TIL 생성 결과 캐시 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "til.ai-cache")
+@Component
+public class TilAiCacheProperties {
+
+    private boolean enabled = true;
+
+    // 저장할 최대 결과 수 (초과하면 가장 오래 사용하지 않은 결과부터 삭제)
+    private int maxEntries = 10000;
+
+    // 생성 후 결과를 사용할 수 있는 기간
+    private Duration ttl = Duration.ofDays(30);
+}
@@ -0,0 +1,46 @@
+package com.youtil.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 요청 크기 조정 설정
+ * <p>
+ * 토큰 수는 글자 수를 charsPerToken으로 나누어 추정합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "til.ai-payload")
+@Component
+public class TilAiPayloadProperties {
+
+    private boolean enabled = true;
+
+    // AI 요청 전체(파일 내용 + 패치)의 최대 토큰 수
+    private int maxTokens = 24000;
+
+    // 이보다 큰 파일은 변경된 부분 주변만 남김
+    private int fullFileMaxTokens = 2000;
+
+    // 변경된 부분 앞뒤로 남길 줄 수
+    private int contextLines = 20;
+
+    // 토큰 하나당 평균 글자 수 (추정용)
+    private double charsPerToken = 4.0;
+
+    // AI 요청에서 제외할 경로 (Ant 패턴, 잠금 파일/외부 라이브러리/생성 파일/바이너리)
+    // 빌드 결과물 디렉터리는 소스 패키지 이름(예: com/example/build)과 겹치지 않도록 저장소 루트 기준
+    private List<String> excludedPaths = new ArrayList<>(List.of(
+            "**/package-lock.json", "**/yarn.lock", "**/pnpm-lock.yaml", "**/*.lock",
+            "**/gradle/wrapper/**", "**/gradlew", "**/gradlew.bat",
+            "**/node_modules/**", "vendor/**", "third_party/**",
+            "dist/**", "build/**", "target/**", "out/**", "generated/**",
+            "**/*.min.js", "**/*.min.css", "**/*.map", "**/*.pb.go", "**/*_pb2.py",
+            "**/*.png", "**/*.jpg", "**/*.jpeg", "**/*.gif", "**/*.ico", "**/*.webp",
+            "**/*.pdf", "**/*.zip", "**/*.jar", "**/*.class", "**/*.woff", "**/*.woff2",
+            "**/*.ttf", "**/*.eot", "**/*.mp3", "**/*.mp4", "**/*.so", "**/*.dll", "**/*.exe"));
+}
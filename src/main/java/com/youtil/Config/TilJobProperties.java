@@ -0,0 +1,54 @@
+package com.youtil.Config;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 TIL 생성 작업 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "til.job")
+@Component
+public class TilJobProperties {
+
+    // 동시에 실행할 최대 작업 수
+    private int workers = 4;
+
+    // 실행을 기다릴 수 있는 최대 작업 수 (초과하면 등록 거절)
+    private int queueCapacity = 100;
+
+    // 단계(커밋 조회, AI 생성)별 최대 대기 시간
+    private Duration stepTimeout = Duration.ofMinutes(2);
+
+    // 서버 시작 시 끝나지 않은 작업(이 인스턴스가 점유했던 작업 포함)을 다시 실행할지 여부
+    private boolean resumeOnStartup = true;
+
+    // 실행 중 멈춘 인스턴스의 작업을 점유 만료 후 주기적으로 가져와 다시 실행할지 여부
+    private boolean recoveryEnabled = true;
+
+    // 작업을 점유하는 인스턴스 ID (기본값은 호스트 이름)
+    // 재시작 후에도 같은 값이어야 점유 만료를 기다리지 않고 자신의 작업을 바로 가져오므로, 같은 호스트에서
+    // 여러 인스턴스를 실행하면 인스턴스마다 다른 값을 지정해야 함
+    private String instanceId = defaultInstanceId();
+
+    // 작업 점유 기간 (상태가 바뀔 때마다 연장, 단계별 최대 대기 시간보다 길어야 함)
+    private Duration leaseDuration = Duration.ofMinutes(10);
+
+    // 점유가 만료된 작업을 찾아 다시 실행하는 주기
+    private Duration recoveryInterval = Duration.ofMinutes(1);
+
+    private static String defaultInstanceId() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return UUID.randomUUID().toString();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.youtil.Config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * 외부 호출 대상별 서킷 브레이커와 벌크헤드
+ * <p>
+ * WebClient 필터로 등록하여 대상 서버 호출마다 적용합니다. 연결 실패/응답 시간 초과 같은 오류, 5xx 응답,
+ * 본문 수신 중 오류를 실패로 기록하며, 서킷이 열려 있으면 CallNotPermittedException, 동시 호출 수가 가득 차면
+ * BulkheadFullException으로 실패합니다. 벌크헤드 대기 시간(maxWaitDuration)이 있으면 호출 스레드를 막지 않고
+ * 짧은 간격으로 다시 시도하며, 그 시간 안에 자리가 나지 않으면 실패합니다. 상태와 호출 결과는 resilience4j.circuitbreaker.* /
+ * resilience4j.bulkhead.* 지표로, 상태 전이는 outbound.circuitbreaker.transitions 지표로 노출됩니다.
+ * <p>
+ * WebClient 교환은 응답 헤더를 받으면 끝나므로, 벌크헤드 허가와 호출 결과 기록은 응답 본문을 끝까지 읽을
+ * 때까지(스트리밍 응답이면 스트림이 끝날 때까지) 유지합니다. 느린 호출 여부는 응답 헤더를 받기까지 걸린
+ * 시간으로 판단하여 스트리밍 응답이 길다는 이유로 서킷이 열리지 않게 합니다.
+ */
+@Component
+@Slf4j
+public class UpstreamResilience {
+
+    public static final String GITHUB = "github";
+    public static final String AI = "ai";
+
+    // 벌크헤드 자리가 날 때까지 다시 시도하는 간격
+    private static final Duration BULKHEAD_RETRY_INTERVAL = Duration.ofMillis(10);
+
+    private final UpstreamResilienceProperties properties;
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+    private final MeterRegistry meterRegistry;
+
+    public UpstreamResilience(UpstreamResilienceProperties properties,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry)
+                .bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    }
+
+    /**
+     * 대상 서버 호출에 서킷 브레이커와 벌크헤드를 적용하는 WebClient 필터를 만듭니다.
+     */
+    private ExchangeFilterFunction filter(String name, UpstreamResilienceProperties.Policy policy) {
+        if (!policy.isEnabled()) {
+            return (request, next) -> next.exchange(request);
+        }
+
+        CircuitBreaker circuitBreaker = circuitBreaker(name, policy);
+        // 세마포어에서 기다리면 이벤트 루프 스레드가 멈추므로 벌크헤드 자체는 기다리지 않게 두고,
+        // 대기 시간은 acquire에서 비동기로 다시 시도하여 처리
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(name, BulkheadConfig.custom()
+                .maxConcurrentCalls(policy.getMaxConcurrentCalls())
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        Duration maxWait = policy.getMaxWaitDuration() != null ? policy.getMaxWaitDuration()
+                : Duration.ZERO;
+
+        return (request, next) -> Mono.defer(() -> acquire(circuitBreaker, bulkhead,
+                        System.nanoTime() + maxWait.toNanos()))
+                .flatMap(acquired -> {
+                    if (!acquired) {
+                        return Mono.error(
+                                BulkheadFullException.createBulkheadFullException(bulkhead));
+                    }
+                    UpstreamCall call = new UpstreamCall(circuitBreaker, bulkhead);
+                    return next.exchange(request)
+                            .map(call::holdUntilBodyCompletes)
+                            .doOnError(call::failBeforeResponse)
+                            .doOnCancel(call::cancelBeforeResponse);
+                });
+    }
+
+    /**
+     * 서킷 브레이커와 벌크헤드 허가를 함께 얻습니다. 벌크헤드가 가득 차면 허가를 돌려주고 deadline까지
+     * 일정 간격으로 다시 시도하며, 끝내 얻지 못하면 false를 반환합니다.
+     */
+    private static Mono<Boolean> acquire(CircuitBreaker circuitBreaker, Bulkhead bulkhead,
+            long deadline) {
+        return Mono.defer(() -> {
+            // 서킷이 열려 있으면 CallNotPermittedException으로 바로 실패
+            circuitBreaker.acquirePermission();
+            if (bulkhead.tryAcquirePermission()) {
+                return Mono.just(true);
+            }
+            // 벌크헤드에서 거절된 호출은 서킷 브레이커 실패로 기록하지 않음
+            circuitBreaker.releasePermission();
+            if (System.nanoTime() >= deadline) {
+                return Mono.just(false);
+            }
+            return Mono.delay(BULKHEAD_RETRY_INTERVAL)
+                    .then(acquire(circuitBreaker, bulkhead, deadline));
+        });
+    }
+
+    public ExchangeFilterFunction githubFilter() {
+        return filter(GITHUB, properties.getGithub());
+    }
+
+    public ExchangeFilterFunction aiFilter() {
+        return filter(AI, properties.getAi());
+    }
+
+    /**
+     * 서킷이 열려 있거나 동시 호출 수가 가득 차 호출하지 않고 실패한 경우인지 확인합니다.
+     */
+    public static boolean isRejected(Throwable e) {
+        return e instanceof CallNotPermittedException || e instanceof BulkheadFullException;
+    }
+
+    private CircuitBreaker circuitBreaker(String name, UpstreamResilienceProperties.Policy policy) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name,
+                CircuitBreakerConfig.custom()
+                        .failureRateThreshold(policy.getFailureRateThreshold())
+                        .slowCallRateThreshold(policy.getSlowCallRateThreshold())
+                        .slowCallDurationThreshold(policy.getSlowCallDurationThreshold())
+                        .slidingWindowSize(policy.getSlidingWindowSize())
+                        .minimumNumberOfCalls(policy.getMinimumNumberOfCalls())
+                        .waitDurationInOpenState(policy.getWaitDurationInOpenState())
+                        .permittedNumberOfCallsInHalfOpenState(
+                                policy.getPermittedNumberOfCallsInHalfOpenState())
+                        .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                        // 응답을 받았더라도 5xx면 대상 서버 장애로 봄 (4xx는 요청 문제이므로 제외)
+                        .recordResult(result -> result instanceof ClientResponse response
+                                && response.statusCode().is5xxServerError())
+                        .build());
+
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            CircuitBreaker.StateTransition transition = event.getStateTransition();
+            log.warn("서킷 브레이커 상태 변경: {} {} -> {}", name, transition.getFromState(),
+                    transition.getToState());
+            Counter.builder("outbound.circuitbreaker.transitions")
+                    .description("외부 호출 대상별 서킷 브레이커 상태 전이 횟수")
+                    .tag("name", name)
+                    .tag("from", transition.getFromState().name())
+                    .tag("to", transition.getToState().name())
+                    .register(meterRegistry)
+                    .increment();
+        });
+        return circuitBreaker;
+    }
+
+    /**
+     * 호출 하나의 서킷 브레이커 결과 기록과 벌크헤드 허가 반환을 한 번씩만 하도록 관리합니다.
+     */
+    private static class UpstreamCall {
+
+        private final CircuitBreaker circuitBreaker;
+        private final Bulkhead bulkhead;
+        private final long startedAt = System.nanoTime();
+        private final AtomicBoolean recorded = new AtomicBoolean();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        // 응답 헤더를 받은 뒤에는 본문 구독이 허가 반환을 맡음
+        private volatile boolean responded;
+
+        private UpstreamCall(CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+            this.circuitBreaker = circuitBreaker;
+            this.bulkhead = bulkhead;
+        }
+
+        /**
+         * 응답 본문이 끝날 때(완료, 오류, 취소) 결과를 기록하고 벌크헤드 허가를 반환하도록 본문을 감쌉니다.
+         */
+        private ClientResponse holdUntilBodyCompletes(ClientResponse response) {
+            responded = true;
+            long elapsed = System.nanoTime() - startedAt;
+            return response.mutate()
+                    .body(body -> body
+                            .doOnComplete(() -> record(() -> circuitBreaker.onResult(elapsed,
+                                    TimeUnit.NANOSECONDS, response)))
+                            .doOnError(e -> record(() -> circuitBreaker.onError(elapsed,
+                                    TimeUnit.NANOSECONDS, e)))
+                            .doOnCancel(() -> record(circuitBreaker::releasePermission))
+                            .doFinally(signal -> release()))
+                    .build();
+        }
+
+        private void failBeforeResponse(Throwable e) {
+            record(() -> circuitBreaker.onError(System.nanoTime() - startedAt,
+                    TimeUnit.NANOSECONDS, e));
+            release();
+        }
+
+        private void cancelBeforeResponse() {
+            if (!responded) {
+                record(circuitBreaker::releasePermission);
+                release();
+            }
+        }
+
+        private void record(Runnable outcome) {
+            if (recorded.compareAndSet(false, true)) {
+                outcome.run();
+            }
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.onComplete();
+            }
+        }
+    }
+}
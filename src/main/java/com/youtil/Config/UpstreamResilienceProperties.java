@@ -0,0 +1,71 @@
+package com.youtil.Config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 호출 대상별 서킷 브레이커/벌크헤드 설정
+ * <p>
+ * 대상 서버가 느려지거나 오류를 반환하면 서킷을 열어 응답 대기 시간까지 기다리지 않고 바로 실패시키고,
+ * 동시에 진행할 수 있는 호출 수를 제한하여 한 대상의 장애가 다른 요청 처리에 번지지 않도록 합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "outbound.resilience")
+@Component
+public class UpstreamResilienceProperties {
+
+    private Policy github = new Policy(64, Duration.ZERO, Duration.ofSeconds(10));
+
+    // TIL 생성은 정상 응답도 오래 걸리므로 느린 호출 기준을 길게 둠
+    private Policy ai = new Policy(16, Duration.ZERO, Duration.ofSeconds(60));
+
+    @Getter
+    @Setter
+    public static class Policy {
+
+        private boolean enabled = true;
+
+        // 서킷을 여는 실패율 (%)
+        private float failureRateThreshold = 50;
+
+        // 서킷을 여는 느린 호출 비율 (%)
+        private float slowCallRateThreshold = 80;
+
+        // 이 시간보다 오래 걸린 호출을 느린 호출로 봄
+        private Duration slowCallDurationThreshold;
+
+        // 실패율을 계산할 최근 호출 수
+        private int slidingWindowSize = 50;
+
+        // 실패율을 계산하기 시작하는 최소 호출 수
+        private int minimumNumberOfCalls = 20;
+
+        // 서킷이 열린 뒤 시험 호출을 허용하기까지의 시간
+        private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+
+        // 반열림 상태에서 허용할 시험 호출 수
+        private int permittedNumberOfCallsInHalfOpenState = 5;
+
+        // 동시에 진행할 수 있는 최대 호출 수
+        private int maxConcurrentCalls;
+
+        // 동시 호출 수가 가득 찼을 때 기다리는 최대 시간 (0이면 바로 실패, 0보다 크면 호출 스레드를 막지 않고
+        // 짧은 간격으로 다시 시도하므로 그만큼 지연과 재시도가 늘어남)
+        private Duration maxWaitDuration;
+
+        public Policy() {
+            this(32, Duration.ZERO, Duration.ofSeconds(10));
+        }
+
+        public Policy(int maxConcurrentCalls, Duration maxWaitDuration,
+                Duration slowCallDurationThreshold) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+            this.maxWaitDuration = maxWaitDuration;
+            this.slowCallDurationThreshold = slowCallDurationThreshold;
+        }
+    }
+}
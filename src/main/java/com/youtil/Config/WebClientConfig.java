@@ -1,18 +1,101 @@
 package com.youtil.Config;
 
+import com.youtil.Api.Github.Client.GithubConditionalRequestFilter;
+import com.youtil.Api.Github.Client.GithubRateLimitScheduler;
+import com.youtil.Api.Github.Client.GithubRequestCoalescer;
+import com.youtil.Api.Github.Client.GithubRequestHedger;
+import io.netty.channel.ChannelOption;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+/**
+ * 외부 호출 대상별 WebClient 설정
+ * <p>
+ * 대상마다 이름 있는 커넥션 풀을 사용하며, 풀 상태(active/pending/idle/total 커넥션 수)는
+ * reactor.netty.connection.provider.* 지표로 Micrometer 전역 레지스트리에 노출됩니다. 같은 타입의
+ * 빈이 여러 개이므로 주입받는 쪽은 필드/파라미터 이름을 빈 이름과 맞춥니다.
+ */
 @Configuration
-public class WebClientConfig {
+@RequiredArgsConstructor
+public class WebClientConfig implements DisposableBean {
+
+    private static final int MAX_IN_MEMORY_SIZE = 5 * 1024 * 1024; // 5MB 제한으로 확장
+
+    private final OutboundHttpProperties outboundHttpProperties;
+    private final UpstreamResilience upstreamResilience;
+    private final List<ConnectionProvider> connectionProviders = new ArrayList<>();
+
+    @Bean
+    public WebClient webClient(GithubRequestCoalescer githubRequestCoalescer,
+            GithubRateLimitScheduler githubRateLimitScheduler,
+            GithubConditionalRequestFilter githubConditionalRequestFilter,
+            GithubRequestHedger githubRequestHedger) {
+        return builder("github", outboundHttpProperties.getGithub())
+                .filter(githubRequestCoalescer) // 동시에 진행 중인 동일 GET 요청 합치기
+                .filter(githubRateLimitScheduler) // GitHub 호출 한도 기반 요청 간격 조절
+                .filter(githubConditionalRequestFilter) // GitHub GET 요청 ETag 캐시
+                .filter(githubRequestHedger) // 응답이 늦은 GET 요청 추가 전송 (설정 시)
+                .filter(upstreamResilience.githubFilter()) // 서킷 브레이커/벌크헤드 (실제 전송 직전)
+                .build();
+    }
 
     @Bean
-    public WebClient webClient() {
+    public WebClient aiWebClient() {
+        return builder("ai", outboundHttpProperties.getAi())
+                .filter(upstreamResilience.aiFilter())
+                .build();
+    }
+
+    @Bean
+    public WebClient newsWebClient() {
+        return builder("news", outboundHttpProperties.getNews()).build();
+    }
+
+    @Bean
+    public WebClient translationWebClient() {
+        return builder("translation", outboundHttpProperties.getTranslation())
+                .baseUrl("https://translation.googleapis.com/language/translate/v2")
+                .build();
+    }
+
+    private WebClient.Builder builder(String name, OutboundHttpProperties.Pool pool) {
+        ConnectionProvider.Builder providerBuilder = ConnectionProvider.builder(name)
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictInBackground())
+                .metrics(true);
+        if (pool.getPendingAcquireMaxCount() != null) {
+            providerBuilder.pendingAcquireMaxCount(pool.getPendingAcquireMaxCount());
+        }
+        ConnectionProvider provider = providerBuilder.build();
+        connectionProviders.add(provider);
+
+        HttpClient httpClient = HttpClient.create(provider)
+                .compress(true) // Accept-Encoding: gzip 요청 및 응답 압축 해제
+                .keepAlive(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS,
+                        (int) pool.getConnectTimeout().toMillis())
+                .responseTimeout(pool.getResponseTimeout());
+
         return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .codecs(configurer -> configurer
                         .defaultCodecs()
-                        .maxInMemorySize(5 * 1024 * 1024)) // 5MB 제한으로 확장
-                .build();
+                        .maxInMemorySize(MAX_IN_MEMORY_SIZE));
+    }
+
+    @Override
+    public void destroy() {
+        connectionProviders.forEach(ConnectionProvider::dispose);
     }
-}
\ No newline at end of file
+}
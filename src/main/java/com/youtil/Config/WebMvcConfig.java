@@ -0,0 +1,19 @@
+package com.youtil.Config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final AppProperties appProperties;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        // 서블릿 컨테이너 기본값(30초)은 TIL 생성처럼 AI 응답을 기다리는 요청에 부족함
+        configurer.setDefaultTimeout(appProperties.getAsyncRequestTimeout().toMillis());
+    }
+}
@@ -1,6 +1,12 @@
 package com.youtil.Exception.TilException;
 
 import com.youtil.Common.Enums.ErrorMessageCode;
+import com.youtil.Common.Enums.TilMessageCode;
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
 
 public class TilException {
 
@@ -12,4 +18,25 @@ public class TilException {
 
     }
 
+    /**
+     * AI 생성 대기열이 가득 찼거나 대기 시간을 넘긴 경우 (429, Retry-After 헤더 포함)
+     */
+    @Getter
+    public static class TilAiQueueFullException extends ResponseStatusException {
+
+        private final Duration retryAfter;
+
+        public TilAiQueueFullException(Duration retryAfter) {
+            super(HttpStatus.TOO_MANY_REQUESTS, TilMessageCode.TIL_AI_QUEUE_FULL.getMessage());
+            this.retryAfter = retryAfter;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter.toSeconds()));
+            return headers;
+        }
+    }
+
 }
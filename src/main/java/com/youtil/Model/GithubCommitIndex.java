@@ -0,0 +1,61 @@
+package com.youtil.Model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * push 웹훅으로 수집한 브랜치별 커밋 (커밋 요약 조회용 인덱스)
+ */
+@Entity
+@Table(name = "github_commit_index",
+        uniqueConstraints = @UniqueConstraint(name = "uk_github_commit_index_branch_sha",
+                columnNames = {"repository_id", "branch", "sha"}),
+        indexes = @Index(name = "idx_github_commit_index_author_date",
+                columnList = "repository_id, branch, author_login, committed_date"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Builder
+public class GithubCommitIndex {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "repository_id", nullable = false)
+    private Long repositoryId;
+
+    @Column(length = 255, nullable = false)
+    private String branch;
+
+    @Column(length = 40, nullable = false)
+    private String sha;
+
+    // GitHub 계정과 연결되지 않은 커밋이면 null
+    @Column(name = "author_login", length = 100)
+    private String authorLogin;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String message;
+
+    @Column(name = "committed_at", nullable = false)
+    private OffsetDateTime committedAt;
+
+    // committedAt의 UTC 기준 날짜 (GitHub API since/until 조회 기준과 동일)
+    @Column(name = "committed_date", nullable = false)
+    private LocalDate committedDate;
+}
@@ -0,0 +1,49 @@
+package com.youtil.Model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.OffsetDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * push 웹훅을 받고 있는 레포지토리 브랜치
+ * <p>
+ * indexedSince 이후의 커밋은 커밋 인덱스에 빠짐없이 있다고 보고, 그 이후 날짜의 커밋 요약은 인덱스로
+ * 조회합니다. 커밋 목록이 잘린 push나 강제 push를 받으면 indexedSince를 다시 뒤로 미룹니다.
+ */
+@Entity
+@Table(name = "github_indexed_branches",
+        uniqueConstraints = @UniqueConstraint(name = "uk_github_indexed_branches_repo_branch",
+                columnNames = {"repository_id", "branch"}))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Builder
+public class GithubIndexedBranch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "repository_id", nullable = false)
+    private Long repositoryId;
+
+    @Column(length = 255, nullable = false)
+    private String branch;
+
+    @Column(name = "indexed_since", nullable = false)
+    private OffsetDateTime indexedSince;
+
+    @Column(name = "last_delivery_at", nullable = false)
+    private OffsetDateTime lastDeliveryAt;
+}
@@ -0,0 +1,63 @@
+package com.youtil.Model;
+
+import com.youtil.Common.Converter.JsonListStringConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.OffsetDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * AI TIL 생성 결과 캐시
+ * <p>
+ * 정규화한 AI 요청의 SHA-256 지문별로 생성된 내용과 키워드를 저장합니다. 최대 개수를 넘으면 가장 오래 사용하지
+ * 않은 결과부터 삭제합니다.
+ */
+@Entity
+@Table(name = "til_ai_results",
+        uniqueConstraints = @UniqueConstraint(name = "uk_til_ai_results_fingerprint",
+                columnNames = "fingerprint"),
+        indexes = @Index(name = "idx_til_ai_results_last_used_at", columnList = "last_used_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TilAiResult extends BaseTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 정규화한 AI 요청의 SHA-256 (hex)
+    @Column(length = 64, nullable = false)
+    private String fingerprint;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String content;
+
+    @Convert(converter = JsonListStringConverter.class)
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private List<String> keywords;
+
+    // 결과를 생성(또는 다시 생성)한 시각, 사용 기간의 기준
+    @Column(name = "generated_at", nullable = false)
+    private OffsetDateTime generatedAt;
+
+    @Column(name = "hit_count", nullable = false)
+    private long hitCount;
+
+    @Column(name = "last_used_at", nullable = false)
+    private OffsetDateTime lastUsedAt;
+}
@@ -0,0 +1,64 @@
+package com.youtil.Model;
+
+import com.youtil.Common.Enums.TilJobStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 비동기 TIL 생성 작업
+ * <p>
+ * 요청 본문을 그대로 저장해 두어 서버가 재시작되면 끝나지 않은 작업을 처음부터 다시 실행합니다. 작업을 실행하는
+ * 인스턴스는 임대 기간 동안 작업을 점유하며, 임대가 끝난 작업만 다른 인스턴스가 가져가 다시 실행합니다.
+ */
+@Entity
+@Table(name = "til_jobs", indexes = @Index(name = "idx_til_jobs_status", columnList = "status"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TilJob extends BaseTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private TilJobStatus status;
+
+    // TilRequestDTO.CreateWithAiRequest JSON
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String request;
+
+    // 생성된 TIL ID (완료 시)
+    @Column(name = "til_id")
+    private Long tilId;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    // 작업을 실행 중인 인스턴스 ID
+    @Column(name = "owner_id", length = 100)
+    private String ownerId;
+
+    // 점유 만료 시각 (지나면 다른 인스턴스가 다시 실행할 수 있음)
+    @Column(name = "lease_until")
+    private OffsetDateTime leaseUntil;
+}
@@ -0,0 +1,17 @@
+package com.youtil.Repository;
+
+import com.youtil.Model.GithubCommitIndex;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface GithubCommitIndexRepository extends JpaRepository<GithubCommitIndex, Long> {
+
+    List<GithubCommitIndex> findAllByRepositoryIdAndBranchAndAuthorLoginAndCommittedDateOrderByCommittedAtDesc(
+            Long repositoryId, String branch, String authorLogin, LocalDate committedDate);
+
+    boolean existsByRepositoryIdAndBranchAndSha(Long repositoryId, String branch, String sha);
+
+    void deleteAllByRepositoryIdAndBranch(Long repositoryId, String branch);
+
+}
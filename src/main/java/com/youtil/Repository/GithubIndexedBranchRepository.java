@@ -0,0 +1,13 @@
+package com.youtil.Repository;
+
+import com.youtil.Model.GithubIndexedBranch;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface GithubIndexedBranchRepository extends JpaRepository<GithubIndexedBranch, Long> {
+
+    Optional<GithubIndexedBranch> findByRepositoryIdAndBranch(Long repositoryId, String branch);
+
+    void deleteByRepositoryIdAndBranch(Long repositoryId, String branch);
+
+}
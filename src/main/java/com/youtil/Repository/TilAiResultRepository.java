@@ -0,0 +1,17 @@
+package com.youtil.Repository;
+
+import com.youtil.Model.TilAiResult;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface TilAiResultRepository extends JpaRepository<TilAiResult, Long> {
+
+    Optional<TilAiResult> findByFingerprint(String fingerprint);
+
+    @Query("select r.id from TilAiResult r order by r.lastUsedAt asc")
+    List<Long> findLeastRecentlyUsedIds(Pageable pageable);
+
+}
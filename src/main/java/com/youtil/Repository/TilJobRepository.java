@@ -0,0 +1,42 @@
+package com.youtil.Repository;
+
+import com.youtil.Common.Enums.TilJobStatus;
+import com.youtil.Model.TilJob;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TilJobRepository extends JpaRepository<TilJob, Long> {
+
+    Optional<TilJob> findByIdAndUserId(Long id, Long userId);
+
+    // previousOwnerId가 있으면 해당 인스턴스가 점유한 작업은 점유 기간과 관계없이 포함 (재시작한 자신의 작업)
+    @Query("select j from TilJob j where j.status in :statuses and (j.leaseUntil is null"
+            + " or j.leaseUntil < :now or j.ownerId = :previousOwnerId) order by j.id asc")
+    List<TilJob> findAllClaimable(@Param("statuses") Collection<TilJobStatus> statuses,
+            @Param("now") OffsetDateTime now, @Param("previousOwnerId") String previousOwnerId);
+
+    // 끝나지 않았고 점유가 만료된 작업만 가져감 (동시에 여러 인스턴스가 시도해도 한 곳만 성공)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update TilJob j set j.ownerId = :ownerId, j.leaseUntil = :leaseUntil,"
+            + " j.status = :queued where j.id = :id and j.status in :statuses"
+            + " and (j.leaseUntil is null or j.leaseUntil < :now"
+            + " or j.ownerId = :previousOwnerId)")
+    int claim(@Param("id") Long id, @Param("ownerId") String ownerId,
+            @Param("leaseUntil") OffsetDateTime leaseUntil, @Param("queued") TilJobStatus queued,
+            @Param("statuses") Collection<TilJobStatus> statuses,
+            @Param("now") OffsetDateTime now, @Param("previousOwnerId") String previousOwnerId);
+
+    // 점유를 풀어 다른 인스턴스가 바로 가져갈 수 있게 함
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update TilJob j set j.ownerId = null, j.leaseUntil = null"
+            + " where j.ownerId = :ownerId and j.status in :statuses")
+    int releaseAll(@Param("ownerId") String ownerId,
+            @Param("statuses") Collection<TilJobStatus> statuses);
+
+}
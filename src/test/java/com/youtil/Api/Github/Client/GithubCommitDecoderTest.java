@@ -0,0 +1,122 @@
+package com.youtil.Api.Github.Client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.youtil.Api.Github.Dto.GithubApiDTO;
+import com.youtil.Config.GithubApiProperties;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class GithubCommitDecoderTest {
+
+    private static final String COMMIT_JSON = """
+            {
+              "sha": "6dcb09b5b57875f334f61aebed695e2e4193db5e",
+              "commit": {
+                "author": {"name": "dev", "date": "2025-05-01T00:00:00Z"},
+                "committer": {"name": "dev", "date": "2025-05-02T09:30:00Z"},
+                "message": "커밋 메시지 \\"escaped\\""
+              },
+              "author": {"login": "octocat", "id": 1},
+              "committer": {"login": "web-flow"},
+              "parents": [{"sha": "abc"}],
+              "files": [
+                {
+                  "filename": "src/Main.java",
+                  "status": "modified",
+                  "additions": 1,
+                  "patch": "@@ -1 +1 @@\\n-안녕\\n+하세요"
+                },
+                {
+                  "filename": "image.png",
+                  "status": "added"
+                }
+              ]
+            }
+            """;
+
+    private final DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+    @Test
+    void decodesFieldsWhenChunkBoundariesFallInsideTokens() {
+        byte[] bytes = COMMIT_JSON.getBytes(StandardCharsets.UTF_8);
+        GithubCommitDecoder decoder = new GithubCommitDecoder(new GithubApiProperties());
+
+        // 1~7바이트 단위로 잘라 필드명, 문자열, 이스케이프, 멀티바이트 문자 중간에서 버퍼가 끊기게 함
+        for (int chunkSize = 1; chunkSize <= 7; chunkSize++) {
+            StepVerifier.create(decoder.decode(chunks(bytes, chunkSize)))
+                    .assertNext(commit -> {
+                        assertThat(commit.getSha())
+                                .isEqualTo("6dcb09b5b57875f334f61aebed695e2e4193db5e");
+                        assertThat(commit.getAuthorLogin()).isEqualTo("octocat");
+                        assertThat(commit.getCommittedAt()).isEqualTo("2025-05-02T09:30:00Z");
+                        assertThat(commit.getFiles())
+                                .extracting(GithubApiDTO.CommitFile::getFilename,
+                                        GithubApiDTO.CommitFile::getStatus,
+                                        GithubApiDTO.CommitFile::getPatch)
+                                .containsExactly(
+                                        tuple("src/Main.java", "modified",
+                                                "@@ -1 +1 @@\n-안녕\n+하세요"),
+                                        tuple("image.png", "added", ""));
+                    })
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void truncatesOversizedPatch() {
+        GithubApiProperties properties = new GithubApiProperties();
+        properties.getCommitDetail().setMaxPatchLength(16);
+        GithubCommitDecoder decoder = new GithubCommitDecoder(properties);
+
+        char[] longLine = new char[100_000];
+        Arrays.fill(longLine, 'a');
+        String json = "{\"sha\":\"abc\",\"files\":[{\"filename\":\"big.txt\",\"status\":\"added\","
+                + "\"patch\":\"+" + new String(longLine) + "\"}]}";
+
+        StepVerifier.create(decoder.decode(chunks(json.getBytes(StandardCharsets.UTF_8), 4096)))
+                .assertNext(commit -> {
+                    assertThat(commit.getFiles()).hasSize(1);
+                    String patch = commit.getFiles().get(0).getPatch();
+                    assertThat(patch).startsWith("+" + "a".repeat(15));
+                    assertThat(patch).contains("생략");
+                    assertThat(patch.length()).isLessThan(100);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void returnsEmptyFilesWhenFilesFieldIsMissing() {
+        GithubCommitDecoder decoder = new GithubCommitDecoder(new GithubApiProperties());
+        String json = "{\"sha\":\"abc\",\"author\":null,"
+                + "\"commit\":{\"committer\":{\"date\":\"2025-05-02T09:30:00Z\"}}}";
+
+        StepVerifier.create(decoder.decode(chunks(json.getBytes(StandardCharsets.UTF_8), 3)))
+                .assertNext(commit -> {
+                    assertThat(commit.getSha()).isEqualTo("abc");
+                    assertThat(commit.getAuthorLogin()).isNull();
+                    assertThat(commit.getCommittedAt()).isEqualTo("2025-05-02T09:30:00Z");
+                    assertThat(commit.getFiles()).isEmpty();
+                })
+                .verifyComplete();
+    }
+
+    private Flux<DataBuffer> chunks(byte[] bytes, int chunkSize) {
+        return Flux.defer(() -> {
+            List<DataBuffer> buffers = new ArrayList<>();
+            for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+                int end = Math.min(bytes.length, offset + chunkSize);
+                buffers.add(bufferFactory.wrap(Arrays.copyOfRange(bytes, offset, end)));
+            }
+            return Flux.fromIterable(buffers);
+        });
+    }
+}
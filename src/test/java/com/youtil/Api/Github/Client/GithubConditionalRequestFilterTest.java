@@ -0,0 +1,127 @@
+package com.youtil.Api.Github.Client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.youtil.Config.GithubApiProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class GithubConditionalRequestFilterTest {
+
+    private static final String ETAG = "\"abc123\"";
+
+    private GithubConditionalRequestFilter filter;
+    private SimpleMeterRegistry meterRegistry;
+    private final List<ClientRequest> sentRequests = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new GithubConditionalRequestFilter(new GithubApiProperties(), meterRegistry);
+    }
+
+    @Test
+    void replaysCachedBodyWhenGithubAnswersNotModified() {
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction github = request -> {
+            sentRequests.add(request);
+            if (calls.getAndIncrement() == 0) {
+                return Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.ETAG, ETAG)
+                        .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                        .header("X-RateLimit-Remaining", "4999")
+                        .body("[{\"id\":1}]")
+                        .build());
+            }
+            return Mono.just(ClientResponse.create(HttpStatus.NOT_MODIFIED)
+                    .header(HttpHeaders.ETAG, ETAG)
+                    .header("X-RateLimit-Remaining", "4998")
+                    .build());
+        };
+
+        StepVerifier.create(filter.filter(repositoriesRequest(), github)
+                        .flatMap(response -> response.bodyToMono(String.class)))
+                .expectNext("[{\"id\":1}]")
+                .verifyComplete();
+
+        StepVerifier.create(filter.filter(repositoriesRequest(), github))
+                .assertNext(response -> {
+                    assertThat(response.statusCode().value()).isEqualTo(200);
+                    // 304 응답의 최신 호출 제한 정보가 보관된 헤더보다 우선
+                    assertThat(response.headers().header("X-RateLimit-Remaining"))
+                            .containsExactly("4998");
+                    assertThat(response.headers().contentType()).isPresent();
+                    assertThat(response.bodyToMono(String.class).block())
+                            .isEqualTo("[{\"id\":1}]");
+                })
+                .verifyComplete();
+
+        assertThat(sentRequests).hasSize(2);
+        assertThat(sentRequests.get(0).headers().getFirst(HttpHeaders.IF_NONE_MATCH)).isNull();
+        assertThat(sentRequests.get(1).headers().getFirst(HttpHeaders.IF_NONE_MATCH))
+                .isEqualTo(ETAG);
+        assertThat(meterRegistry.get("github.conditional.requests")
+                .tag("result", "not_modified").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void replacesCachedBodyWhenResourceChanged() {
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction github = request -> {
+            sentRequests.add(request);
+            String body = calls.getAndIncrement() == 0 ? "[1]" : "[2]";
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.ETAG, "\"" + body + "\"")
+                    .body(body)
+                    .build());
+        };
+
+        assertThat(filter.filter(repositoriesRequest(), github)
+                .flatMap(response -> response.bodyToMono(String.class)).block()).isEqualTo("[1]");
+        assertThat(filter.filter(repositoriesRequest(), github)
+                .flatMap(response -> response.bodyToMono(String.class)).block()).isEqualTo("[2]");
+        assertThat(meterRegistry.get("github.conditional.requests")
+                .tag("result", "modified").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotCacheShaAddressedPaths() {
+        ExchangeFunction github = request -> {
+            sentRequests.add(request);
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.ETAG, ETAG)
+                    .body("{}")
+                    .build());
+        };
+        ClientRequest commitRequest = ClientRequest.create(HttpMethod.GET,
+                        URI.create("https://api.github.com/repos/owner/repo/commits/abc"))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer token")
+                .build();
+
+        filter.filter(commitRequest, github).block();
+        filter.filter(commitRequest, github).block();
+
+        assertThat(sentRequests).allSatisfy(request ->
+                assertThat(request.headers().containsKey(HttpHeaders.IF_NONE_MATCH)).isFalse());
+    }
+
+    private static ClientRequest repositoriesRequest() {
+        return ClientRequest.create(HttpMethod.GET,
+                        URI.create("https://api.github.com/user/repos?per_page=100"))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer token")
+                .build();
+    }
+}
@@ -0,0 +1,135 @@
+package com.youtil.Api.Github.Client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.youtil.Api.Github.Cache.GithubContentCache;
+import com.youtil.Config.GithubApiProperties;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class GithubGraphqlFileContentFetcherTest {
+
+    private static final String STUB_URL = "http://github-stub.local";
+
+    private static final String GRAPHQL_RESPONSE = """
+            {
+              "data": {
+                "repository": {
+                  "f0": {"text": "class Small {}", "isBinary": false, "isTruncated": false},
+                  "f1": {"text": "class Big { // 잘린", "isBinary": false, "isTruncated": true},
+                  "f2": {"text": null, "isBinary": true, "isTruncated": false}
+                }
+              }
+            }
+            """;
+
+    private static final String FULL_BIG_CONTENT = "class Big { // 전체 내용 }";
+
+    private final List<ClientRequest> sentRequests = new ArrayList<>();
+    private GithubContentCache githubContentCache;
+    private GithubGraphqlFileContentFetcher fetcher;
+
+    @BeforeEach
+    void setUp() {
+        // GitHub GraphQL/REST API 대신 응답하는 로컬 스텁
+        ExchangeFunction githubStub = request -> {
+            sentRequests.add(request);
+            if (request.method() == HttpMethod.POST
+                    && request.url().getPath().equals("/graphql")) {
+                return Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(GRAPHQL_RESPONSE)
+                        .build());
+            }
+            if (request.url().getPath().equals("/repos/octo/repo/contents/src/Big.java")) {
+                return Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_PLAIN_VALUE)
+                        .body(FULL_BIG_CONTENT)
+                        .build());
+            }
+            return Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build());
+        };
+        WebClient webClient = WebClient.builder().exchangeFunction(githubStub).build();
+
+        GithubApiProperties properties = new GithubApiProperties();
+        properties.setBaseUrl(STUB_URL);
+        properties.getGraphql().setUrl(STUB_URL + "/graphql");
+
+        githubContentCache = mock(GithubContentCache.class);
+        when(githubContentCache.get(anyLong(), anyString(), anyString())).thenReturn(Mono.empty());
+        when(githubContentCache.getOrLoad(anyLong(), anyString(), anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<Mono<String>>>getArgument(3).get());
+
+        fetcher = new GithubGraphqlFileContentFetcher(webClient,
+                new GithubApiClient(webClient, properties), githubContentCache, properties);
+    }
+
+    @Test
+    void refetchesTruncatedBlobsOverRestWithoutCachingTruncatedText() {
+        StepVerifier.create(fetcher.fetchContents(1L, "octo", "repo", contentRefs(), "token"))
+                .assertNext(contents -> {
+                    assertThat(contents).containsEntry("src/Small.java", "class Small {}");
+                    assertThat(contents).containsEntry("src/Big.java", FULL_BIG_CONTENT);
+                    assertThat(contents).containsEntry("logo.png", "");
+                })
+                .verifyComplete();
+
+        assertThat(sentRequests)
+                .extracting(request -> request.method() + " " + request.url().getPath())
+                .containsExactly("POST /graphql", "GET /repos/octo/repo/contents/src/Big.java");
+        assertThat(sentRequests.get(1).url().getQuery()).isEqualTo("ref=sha2");
+
+        // 잘린 text는 캐시에 넣지 않고, 전체 내용은 REST 조회(getOrLoad)를 통해서만 저장
+        verify(githubContentCache).put(1L, "sha1", "src/Small.java", "class Small {}");
+        verify(githubContentCache, never()).put(anyLong(), anyString(), eq("src/Big.java"),
+                anyString());
+        verify(githubContentCache).getOrLoad(eq(1L), eq("sha2"), eq("src/Big.java"), any());
+    }
+
+    @Test
+    void fillsEmptyContentWhenRestFallbackFails() {
+        // 기본 스텁(loader 호출)을 거치지 않도록 doReturn으로 다시 설정
+        doReturn(Mono.error(new RuntimeException("not found"))).when(githubContentCache)
+                .getOrLoad(anyLong(), anyString(), anyString(), any());
+
+        StepVerifier.create(fetcher.fetchContents(1L, "octo", "repo", contentRefs(), "token"))
+                .assertNext(contents -> {
+                    assertThat(contents).containsEntry("src/Small.java", "class Small {}");
+                    assertThat(contents).containsEntry("src/Big.java", "");
+                })
+                .verifyComplete();
+    }
+
+    // GRAPHQL_RESPONSE의 f0, f1, f2 별칭 순서와 같은 순서의 파일 목록
+    private static Map<String, String> contentRefs() {
+        Map<String, String> contentRefs = new LinkedHashMap<>();
+        contentRefs.put("src/Small.java", "sha1");
+        contentRefs.put("src/Big.java", "sha2");
+        contentRefs.put("logo.png", "sha3");
+        return contentRefs;
+    }
+}
@@ -0,0 +1,163 @@
+package com.youtil.Api.Github.Client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.youtil.Config.GithubApiProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class GithubPaginatorTest {
+
+    private static final String STUB_URL = "http://github-stub.local";
+
+    private final List<ClientRequest> sentRequests = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void fetchesRemainingPagesInOrderWhenLastPageIsKnown() {
+        GithubPaginator paginator = paginator(new GithubApiProperties(), page -> page == 1
+                ? "<" + STUB_URL + "/user/repos?per_page=100&page=2>; rel=\"next\", "
+                + "<" + STUB_URL + "/user/repos?per_page=100&page=3>; rel=\"last\""
+                : null);
+
+        StepVerifier.create(paginator.getAll("token", "레포지토리 목록 조회", "/user/repos")
+                        .map(item -> item.get("id")))
+                .expectNext(11, 12, 21, 22, 31, 32)
+                .verifyComplete();
+
+        assertThat(sentRequests).hasSize(3);
+        assertThat(queryParam(sentRequests.get(0), "per_page")).isEqualTo("100");
+        assertThat(sentRequests.stream().map(request -> queryParam(request, "page")))
+                .containsExactlyInAnyOrder(null, "2", "3");
+    }
+
+    @Test
+    void followsNextLinksWhenLastPageIsUnknown() {
+        GithubPaginator paginator = paginator(new GithubApiProperties(), page -> page < 3
+                ? "<" + STUB_URL + "/user/repos?per_page=100&cursor=c" + page + "&page="
+                + (page + 1) + ">; rel=\"next\""
+                : null);
+
+        StepVerifier.create(paginator.getAll("token", "레포지토리 목록 조회", "/user/repos")
+                        .map(item -> item.get("id")))
+                .expectNext(11, 12, 21, 22, 31, 32)
+                .verifyComplete();
+
+        assertThat(sentRequests).extracting(request -> queryParam(request, "cursor"))
+                .containsExactly(null, "c1", "c2");
+    }
+
+    @Test
+    void stopsAtMaxPages() {
+        GithubApiProperties properties = new GithubApiProperties();
+        properties.getPagination().setMaxPages(2);
+        GithubPaginator paginator = paginator(properties, page -> page == 1
+                ? "<" + STUB_URL + "/user/repos?per_page=100&page=50>; rel=\"last\""
+                : null);
+
+        StepVerifier.create(paginator.getAll("token", "레포지토리 목록 조회", "/user/repos")
+                        .map(item -> item.get("id")))
+                .expectNext(11, 12, 21, 22)
+                .verifyComplete();
+
+        assertThat(sentRequests).hasSize(2);
+        assertThat(truncated()).isEqualTo(1.0);
+    }
+
+    @Test
+    void recordsTruncationWhenNextLinkRemainsAtMaxPages() {
+        GithubApiProperties properties = new GithubApiProperties();
+        properties.getPagination().setMaxPages(2);
+        GithubPaginator paginator = paginator(properties, page ->
+                "<" + STUB_URL + "/user/repos?per_page=100&cursor=c" + page + "&page="
+                        + (page + 1) + ">; rel=\"next\"");
+
+        StepVerifier.create(paginator.getAll("token", "레포지토리 목록 조회", "/user/repos"))
+                .expectNextCount(4)
+                .verifyComplete();
+
+        assertThat(sentRequests).hasSize(2);
+        assertThat(truncated()).isEqualTo(1.0);
+    }
+
+    @Test
+    void doesNotRecordTruncationWhenAllPagesFit() {
+        GithubPaginator paginator = paginator(new GithubApiProperties(), page -> page < 3
+                ? "<" + STUB_URL + "/user/repos?per_page=100&page=" + (page + 1) + ">; rel=\"next\""
+                : null);
+
+        StepVerifier.create(paginator.getAll("token", "레포지토리 목록 조회", "/user/repos"))
+                .expectNextCount(6)
+                .verifyComplete();
+
+        assertThat(meterRegistry.find("github.pagination.truncated").counter()).isNull();
+    }
+
+    @Test
+    void doesNotFetchMorePagesAfterSubscriberCancels() {
+        GithubPaginator paginator = paginator(new GithubApiProperties(), page -> page == 1
+                ? "<" + STUB_URL + "/user/repos?per_page=100&page=2>; rel=\"next\""
+                : null);
+
+        StepVerifier.create(paginator.getAll("token", "레포지토리 목록 조회", "/user/repos")
+                        .take(2))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        assertThat(sentRequests).hasSize(1);
+    }
+
+    /**
+     * 페이지 번호 p마다 id가 p1, p2인 원소 두 개를 반환하는 스텁으로 페이지네이터를 만듭니다.
+     *
+     * @param linkHeader 페이지 번호 -> Link 헤더 (없으면 null)
+     */
+    private GithubPaginator paginator(GithubApiProperties properties,
+            Function<Integer, String> linkHeader) {
+        properties.setBaseUrl(STUB_URL);
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    sentRequests.add(request);
+                    String pageParam = queryParam(request, "page");
+                    int page = pageParam != null ? Integer.parseInt(pageParam) : 1;
+
+                    ClientResponse.Builder response = ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body("[{\"id\":" + page + "1},{\"id\":" + page + "2}]");
+                    String link = linkHeader.apply(page);
+                    if (link != null) {
+                        response.header(HttpHeaders.LINK, link);
+                    }
+                    return Mono.just(response.build());
+                })
+                .build();
+        return new GithubPaginator(webClient, new GithubApiClient(webClient, properties),
+                properties, meterRegistry);
+    }
+
+    private double truncated() {
+        return meterRegistry.get("github.pagination.truncated")
+                .tag("api", "레포지토리 목록 조회")
+                .counter()
+                .count();
+    }
+
+    private static String queryParam(ClientRequest request, String name) {
+        Map<String, List<String>> params = UriComponentsBuilder.fromUri(request.url()).build()
+                .getQueryParams();
+        return params.containsKey(name) ? params.get(name).get(0) : null;
+    }
+}
@@ -0,0 +1,135 @@
+package com.youtil.Api.Github.Client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.youtil.Config.GithubApiProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class GithubRateLimitSchedulerTest {
+
+    private static final String TOKEN = "Bearer test-token";
+
+    private GithubRateLimitScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new GithubRateLimitScheduler(new GithubApiProperties(),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void concurrentReservationsAreSpacedOut() {
+        long now = System.currentTimeMillis();
+        GithubRateLimitScheduler.TokenBudget budget = budget(now, 10, 10_000);
+
+        long first = budget.reserve(now, 0.1, 60_000);
+        long second = budget.reserve(now, 0.1, 60_000);
+        long third = budget.reserve(now, 0.1, 60_000);
+
+        // 남은 10회를 10초 동안 분배하므로 요청마다 1초 이상씩 밀려야 함
+        assertThat(first).isZero();
+        assertThat(second).isBetween(1000L, 1100L);
+        assertThat(third).isBetween(2000L, 2200L);
+    }
+
+    @Test
+    void rejectedReservationDoesNotConsumeSlot() {
+        long now = System.currentTimeMillis();
+        GithubRateLimitScheduler.TokenBudget budget = budget(now, 2, 10_000);
+
+        assertThat(budget.reserve(now, 0.1, 60_000)).isZero();
+        assertThat(budget.reserve(now, 0.1, 1_000)).isEqualTo(-1);
+        assertThat(budget.reserve(now, 0.1, 60_000)).isBetween(5000L, 5500L);
+    }
+
+    @Test
+    void reservationIsImmediateWhileBudgetIsHealthy() {
+        long now = System.currentTimeMillis();
+        GithubRateLimitScheduler.TokenBudget budget = budget(now, 4000, 3_600_000);
+
+        assertThat(budget.reserve(now, 0.1, 60_000)).isZero();
+        assertThat(budget.reserve(now, 0.1, 60_000)).isZero();
+    }
+
+    @Test
+    void graphqlResponsesDoNotOverwriteCoreBudget() {
+        long resetAt = System.currentTimeMillis() / 1000 + 3600;
+        ExchangeFunction github = request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header("X-RateLimit-Limit", "5000")
+                .header("X-RateLimit-Remaining", "10")
+                .header("X-RateLimit-Reset", String.valueOf(resetAt))
+                .header("X-RateLimit-Resource", "graphql")
+                .build());
+
+        StepVerifier.create(scheduler.filter(graphqlRequest(), github))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(scheduler.hasHeadroom(graphqlRequest(), 0.2)).isFalse();
+        assertThat(scheduler.hasHeadroom(coreRequest(), 0.2)).isTrue();
+    }
+
+    @Test
+    void extraRequestsReserveTheirOwnSlots() {
+        long resetAt = System.currentTimeMillis() / 1000 + 3600;
+        ExchangeFunction github = request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header("X-RateLimit-Limit", "5000")
+                .header("X-RateLimit-Remaining", "10")
+                .header("X-RateLimit-Reset", String.valueOf(resetAt))
+                .build());
+        StepVerifier.create(scheduler.filter(coreRequest(), github))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // 첫 추가 요청이 다음 전송 시각을 예약하므로 두 번째는 기다려야 해서 보내지 않음
+        assertThat(scheduler.tryReserveNow(coreRequest(), 0)).isTrue();
+        assertThat(scheduler.tryReserveNow(coreRequest(), 0)).isFalse();
+        assertThat(scheduler.tryReserveNow(graphqlRequest(), 0.5)).isTrue();
+        assertThat(scheduler.tryReserveNow(coreRequest(), 0.5)).isFalse();
+    }
+
+    @Test
+    void resolvesResourceFromRequestPath() {
+        assertThat(GithubRateLimitScheduler.resourceOf(graphqlRequest())).isEqualTo("graphql");
+        assertThat(GithubRateLimitScheduler.resourceOf(coreRequest())).isEqualTo("core");
+        assertThat(GithubRateLimitScheduler.resourceOf(ClientRequest.create(HttpMethod.GET,
+                        URI.create("https://api.github.com/search/commits?q=a")).build()))
+                .isEqualTo("search");
+    }
+
+    private static GithubRateLimitScheduler.TokenBudget budget(long now, long remaining,
+            long untilResetMillis) {
+        GithubRateLimitScheduler.TokenBudget budget =
+                new GithubRateLimitScheduler.TokenBudget("core");
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("X-RateLimit-Limit", "5000");
+        headers.add("X-RateLimit-Remaining", String.valueOf(remaining));
+        // Reset 헤더는 초 단위이므로 올림해서 기대 간격이 줄어들지 않게 함
+        headers.add("X-RateLimit-Reset", String.valueOf((now + untilResetMillis + 999) / 1000));
+        budget.update(headers, 200);
+        return budget;
+    }
+
+    private static ClientRequest graphqlRequest() {
+        return ClientRequest.create(HttpMethod.POST, URI.create("https://api.github.com/graphql"))
+                .header(HttpHeaders.AUTHORIZATION, TOKEN)
+                .build();
+    }
+
+    private static ClientRequest coreRequest() {
+        return ClientRequest.create(HttpMethod.GET, URI.create("https://api.github.com/user/repos"))
+                .header(HttpHeaders.AUTHORIZATION, TOKEN)
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.youtil.Api.Github.Client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.youtil.Config.GithubApiProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class GithubRequestCoalescerTest {
+
+    private GithubRequestCoalescer coalescer;
+    private final AtomicInteger exchanges = new AtomicInteger();
+    private final Sinks.One<ClientResponse> upstream = Sinks.one();
+
+    // 응답을 직접 내보내기 전까지 진행 중 상태로 남는 GitHub 스텁
+    private final ExchangeFunction github = request -> {
+        exchanges.incrementAndGet();
+        return upstream.asMono();
+    };
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new GithubRequestCoalescer(new GithubApiProperties(),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void sharesResponseOfIdenticalInFlightRequest() {
+        Mono<String> first = coalescer.filter(request("/user/repos"), github)
+                .flatMap(response -> response.bodyToMono(String.class))
+                .cache();
+        Mono<String> second = coalescer.filter(request("/user/repos"), github)
+                .flatMap(response -> response.bodyToMono(String.class))
+                .cache();
+        first.subscribe();
+        second.subscribe();
+
+        upstream.tryEmitValue(ClientResponse.create(HttpStatus.OK).body("[]").build());
+
+        StepVerifier.create(first).expectNext("[]").verifyComplete();
+        StepVerifier.create(second).expectNext("[]").verifyComplete();
+        assertThat(exchanges).hasValue(1);
+    }
+
+    @Test
+    void doesNotBufferCommitOrContentsResponses() {
+        coalescer.filter(request("/repos/octo/repo/commits/6dcb09b"), github).subscribe();
+        coalescer.filter(request("/repos/octo/repo/commits/6dcb09b"), github).subscribe();
+        coalescer.filter(request("/repos/octo/repo/contents/src/Main.java"), github).subscribe();
+        coalescer.filter(request("/repos/octo/repo/contents/src/Main.java"), github).subscribe();
+
+        assertThat(exchanges).hasValue(4);
+    }
+
+    private static ClientRequest request(String path) {
+        return ClientRequest.create(HttpMethod.GET, URI.create("https://api.github.com" + path))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer test-token")
+                .build();
+    }
+}
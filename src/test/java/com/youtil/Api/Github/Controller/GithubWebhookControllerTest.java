@@ -0,0 +1,127 @@
+package com.youtil.Api.Github.Controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.youtil.Api.Github.Service.GithubCommitIndexService;
+import com.youtil.Common.Enums.TilMessageCode;
+import com.youtil.Config.GithubApiProperties;
+import com.youtil.Repository.GithubCommitIndexRepository;
+import com.youtil.Repository.GithubIndexedBranchRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+class GithubWebhookControllerTest {
+
+    private static final String SECRET = "webhook-secret";
+
+    private static final byte[] PUSH_PAYLOAD = """
+            {
+              "ref": "refs/heads/main",
+              "repository": {"id": 42},
+              "commits": [
+                {
+                  "id": "6dcb09b5b57875f334f61aebed695e2e4193db5e",
+                  "message": "웹훅 수신 테스트",
+                  "timestamp": "2025-05-02T09:30:00Z",
+                  "author": {"username": "octocat"}
+                }
+              ]
+            }
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private GithubApiProperties properties;
+    private GithubIndexedBranchRepository githubIndexedBranchRepository;
+    private GithubCommitIndexRepository githubCommitIndexRepository;
+    private GithubWebhookController controller;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GithubApiProperties();
+        properties.getWebhook().setSecret(SECRET);
+        githubIndexedBranchRepository = mock(GithubIndexedBranchRepository.class);
+        githubCommitIndexRepository = mock(GithubCommitIndexRepository.class);
+        when(githubIndexedBranchRepository.findByRepositoryIdAndBranch(any(), any()))
+                .thenReturn(Optional.empty());
+
+        controller = new GithubWebhookController(new GithubCommitIndexService(
+                githubCommitIndexRepository, githubIndexedBranchRepository, properties,
+                new ObjectMapper(), new TransactionTemplate(mock(PlatformTransactionManager.class))));
+    }
+
+    @Test
+    void indexesPushWithValidSignature() {
+        controller.receiveWebhook("push", "delivery-1", sign(SECRET, PUSH_PAYLOAD), PUSH_PAYLOAD);
+
+        verify(githubIndexedBranchRepository).save(any());
+        verify(githubCommitIndexRepository).save(any());
+    }
+
+    @Test
+    void rejectsTamperedBodyWithUnauthorized() {
+        String signature = sign(SECRET, PUSH_PAYLOAD);
+        byte[] tampered = new String(PUSH_PAYLOAD, StandardCharsets.UTF_8)
+                .replace("refs/heads/main", "refs/heads/release")
+                .getBytes(StandardCharsets.UTF_8);
+
+        assertUnauthorized(() -> controller.receiveWebhook("push", "delivery-2", signature,
+                tampered));
+        verify(githubIndexedBranchRepository, never()).save(any());
+        verify(githubCommitIndexRepository, never()).save(any());
+    }
+
+    @Test
+    void rejectsMissingSignatureWithUnauthorized() {
+        assertUnauthorized(() -> controller.receiveWebhook("push", "delivery-3", null,
+                PUSH_PAYLOAD));
+        verify(githubCommitIndexRepository, never()).save(any());
+    }
+
+    @Test
+    void rejectsAllDeliveriesWhenSecretIsNotConfigured() {
+        String signature = sign(SECRET, PUSH_PAYLOAD);
+
+        properties.getWebhook().setSecret(null);
+        assertUnauthorized(() -> controller.receiveWebhook("push", "delivery-4", signature,
+                PUSH_PAYLOAD));
+
+        properties.getWebhook().setSecret("");
+        assertUnauthorized(() -> controller.receiveWebhook("push", "delivery-5", signature,
+                PUSH_PAYLOAD));
+        verify(githubCommitIndexRepository, never()).save(any());
+    }
+
+    private static void assertUnauthorized(Runnable call) {
+        assertThatThrownBy(call::run)
+                .isInstanceOfSatisfying(ResponseStatusException.class, e -> {
+                    assertThat(e.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+                    assertThat(e.getReason())
+                            .isEqualTo(TilMessageCode.GITHUB_WEBHOOK_SIGNATURE_INVALID.getMessage());
+                });
+    }
+
+    private static String sign(String secret, byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return "sha256=" + HexFormat.of().formatHex(mac.doFinal(payload));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
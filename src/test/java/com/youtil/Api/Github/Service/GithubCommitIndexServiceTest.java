@@ -0,0 +1,208 @@
+package com.youtil.Api.Github.Service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.youtil.Config.GithubApiProperties;
+import com.youtil.Model.GithubCommitIndex;
+import com.youtil.Model.GithubIndexedBranch;
+import com.youtil.Repository.GithubCommitIndexRepository;
+import com.youtil.Repository.GithubIndexedBranchRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.test.StepVerifier;
+
+class GithubCommitIndexServiceTest {
+
+    private static final String SECRET = "webhook-secret";
+
+    private static final String PUSH_PAYLOAD = """
+            {
+              "ref": "refs/heads/main",
+              "repository": {"id": 42},
+              "commits": [
+                {
+                  "id": "6dcb09b5b57875f334f61aebed695e2e4193db5e",
+                  "message": "커밋 인덱스 테스트",
+                  "timestamp": "2025-05-02T18:30:00+09:00",
+                  "author": {"username": "octocat"}
+                }
+              ]
+            }
+            """;
+
+    private GithubApiProperties properties;
+    private GithubIndexedBranchRepository githubIndexedBranchRepository;
+    private GithubCommitIndexRepository githubCommitIndexRepository;
+    private GithubCommitIndexService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GithubApiProperties();
+        properties.getWebhook().setSecret(SECRET);
+        githubIndexedBranchRepository = mock(GithubIndexedBranchRepository.class);
+        githubCommitIndexRepository = mock(GithubCommitIndexRepository.class);
+        service = new GithubCommitIndexService(githubCommitIndexRepository,
+                githubIndexedBranchRepository, properties, new ObjectMapper(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    @Test
+    void acceptsValidSignature() {
+        byte[] payload = PUSH_PAYLOAD.getBytes(StandardCharsets.UTF_8);
+
+        assertThat(service.verifySignature(payload, sign(SECRET, payload))).isTrue();
+    }
+
+    @Test
+    void rejectsTamperedBody() {
+        byte[] payload = PUSH_PAYLOAD.getBytes(StandardCharsets.UTF_8);
+        String signature = sign(SECRET, payload);
+        byte[] tampered = PUSH_PAYLOAD.replace("octocat", "attacker")
+                .getBytes(StandardCharsets.UTF_8);
+
+        assertThat(service.verifySignature(tampered, signature)).isFalse();
+    }
+
+    @Test
+    void rejectsSignatureMadeWithAnotherSecret() {
+        byte[] payload = PUSH_PAYLOAD.getBytes(StandardCharsets.UTF_8);
+
+        assertThat(service.verifySignature(payload, sign("other-secret", payload))).isFalse();
+    }
+
+    @Test
+    void rejectsMissingOrMalformedSignatureHeader() {
+        byte[] payload = PUSH_PAYLOAD.getBytes(StandardCharsets.UTF_8);
+        String hex = sign(SECRET, payload).substring("sha256=".length());
+
+        assertThat(service.verifySignature(payload, null)).isFalse();
+        assertThat(service.verifySignature(payload, "")).isFalse();
+        assertThat(service.verifySignature(payload, hex)).isFalse();
+    }
+
+    @Test
+    void rejectsEverythingWhenSecretIsMissingOrEmpty() {
+        byte[] payload = PUSH_PAYLOAD.getBytes(StandardCharsets.UTF_8);
+        String signature = sign(SECRET, payload);
+
+        properties.getWebhook().setSecret(null);
+        assertThat(service.verifySignature(payload, signature)).isFalse();
+
+        properties.getWebhook().setSecret("");
+        assertThat(service.verifySignature(payload, signature)).isFalse();
+
+        properties.getWebhook().setSecret("  ");
+        assertThat(service.verifySignature(payload, sign("  ", payload))).isFalse();
+    }
+
+    @Test
+    void rereadsBranchWhenConcurrentFirstDeliveryWonTheInsert() {
+        GithubIndexedBranch registered = GithubIndexedBranch.builder()
+                .id(1L)
+                .repositoryId(42L)
+                .branch("main")
+                .indexedSince(OffsetDateTime.now(ZoneOffset.UTC).minusMinutes(1))
+                .lastDeliveryAt(OffsetDateTime.now(ZoneOffset.UTC).minusMinutes(1))
+                .build();
+        when(githubIndexedBranchRepository.findByRepositoryIdAndBranch(42L, "main"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(registered));
+        when(githubIndexedBranchRepository.save(any()))
+                .thenThrow(new DataIntegrityViolationException(
+                        "uk_github_indexed_branches_repo_branch"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.indexPush(PUSH_PAYLOAD.getBytes(StandardCharsets.UTF_8));
+
+        ArgumentCaptor<GithubIndexedBranch> savedBranches =
+                ArgumentCaptor.forClass(GithubIndexedBranch.class);
+        verify(githubIndexedBranchRepository, times(2)).save(savedBranches.capture());
+        assertThat(savedBranches.getAllValues().get(0).getId()).isNull();
+        assertThat(savedBranches.getAllValues().get(1)).isSameAs(registered);
+
+        ArgumentCaptor<GithubCommitIndex> savedCommits =
+                ArgumentCaptor.forClass(GithubCommitIndex.class);
+        verify(githubCommitIndexRepository).save(savedCommits.capture());
+        assertThat(savedCommits.getValue().getCommittedDate()).isEqualTo(LocalDate.of(2025, 5, 2));
+    }
+
+    @Test
+    void fallsBackToApiWhenNoDeliveryWasSeenForTooLong() {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        when(githubIndexedBranchRepository.findByRepositoryIdAndBranch(42L, "main"))
+                .thenReturn(Optional.of(GithubIndexedBranch.builder()
+                        .repositoryId(42L)
+                        .branch("main")
+                        .indexedSince(now.minusDays(30))
+                        .lastDeliveryAt(now.minusDays(3))
+                        .build()));
+        when(githubCommitIndexRepository
+                .findAllByRepositoryIdAndBranchAndAuthorLoginAndCommittedDateOrderByCommittedAtDesc(
+                        any(), any(), any(), any()))
+                .thenReturn(List.of());
+
+        // 마지막 전달 이후 날짜는 누락 가능성이 있으므로 인덱스를 사용하지 않음
+        StepVerifier.create(service.findCommitSummaries(42L, "main", "octocat",
+                        now.toLocalDate()))
+                .verifyComplete();
+
+        // 마지막 전달 이전 날짜는 인덱스로 조회
+        StepVerifier.create(service.findCommitSummaries(42L, "main", "octocat",
+                        now.minusDays(5).toLocalDate()))
+                .expectNext(List.of())
+                .verifyComplete();
+    }
+
+    @Test
+    void usesIndexWhileDeliveriesAreRecent() {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        when(githubIndexedBranchRepository.findByRepositoryIdAndBranch(42L, "main"))
+                .thenReturn(Optional.of(GithubIndexedBranch.builder()
+                        .repositoryId(42L)
+                        .branch("main")
+                        .indexedSince(now.minusDays(30))
+                        .lastDeliveryAt(now.minusHours(1))
+                        .build()));
+        when(githubCommitIndexRepository
+                .findAllByRepositoryIdAndBranchAndAuthorLoginAndCommittedDateOrderByCommittedAtDesc(
+                        42L, "main", "octocat", now.toLocalDate()))
+                .thenReturn(List.of(GithubCommitIndex.builder()
+                        .sha("abc")
+                        .message("오늘 커밋")
+                        .build()));
+
+        StepVerifier.create(service.findCommitSummaries(42L, "main", "octocat",
+                        now.toLocalDate()))
+                .assertNext(commits -> assertThat(commits).hasSize(1))
+                .verifyComplete();
+    }
+
+    private static String sign(String secret, byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return "sha256=" + HexFormat.of().formatHex(mac.doFinal(payload));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
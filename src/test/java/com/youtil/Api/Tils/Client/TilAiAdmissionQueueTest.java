@@ -0,0 +1,142 @@
+package com.youtil.Api.Tils.Client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.youtil.Config.TilAiAdmissionProperties;
+import com.youtil.Exception.TilException.TilException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class TilAiAdmissionQueueTest {
+
+    private TilAiAdmissionProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private TilAiAdmissionQueue queue;
+
+    // AI 서버 호출이 실제로 시작된 순서
+    private final List<String> started = new CopyOnWriteArrayList<>();
+
+    // 끝내기 전까지 유일한 자리를 차지하는 호출
+    private final Sinks.Empty<Void> blocker = Sinks.empty();
+
+    @BeforeEach
+    void setUp() {
+        properties = new TilAiAdmissionProperties();
+        properties.setMaxConcurrency(1);
+        properties.setMaxQueueSize(10);
+        meterRegistry = new SimpleMeterRegistry();
+        queue = new TilAiAdmissionQueue(properties, meterRegistry);
+    }
+
+    @Test
+    void alternatesBetweenUsersWithinSamePriority() {
+        occupy();
+        List.of(call("a1", 1L, TilAiAdmissionQueue.Priority.INTERACTIVE),
+                call("a2", 1L, TilAiAdmissionQueue.Priority.INTERACTIVE),
+                call("a3", 1L, TilAiAdmissionQueue.Priority.INTERACTIVE),
+                call("b1", 2L, TilAiAdmissionQueue.Priority.INTERACTIVE),
+                call("b2", 2L, TilAiAdmissionQueue.Priority.INTERACTIVE))
+                .forEach(Mono::subscribe);
+        assertThat(queued(TilAiAdmissionQueue.Priority.INTERACTIVE)).isEqualTo(5.0);
+
+        blocker.tryEmitEmpty();
+
+        // 한 사용자가 먼저 몰아 넣어도 다른 사용자와 번갈아 실행
+        assertThat(started).containsExactly("a1", "b1", "a2", "b2", "a3");
+        assertThat(running()).isZero();
+    }
+
+    @Test
+    void runsInteractiveRequestsBeforeBatchJobs() {
+        occupy();
+        call("batch-1", 1L, TilAiAdmissionQueue.Priority.BATCH).subscribe();
+        call("batch-2", 2L, TilAiAdmissionQueue.Priority.BATCH).subscribe();
+        call("interactive", 3L, TilAiAdmissionQueue.Priority.INTERACTIVE).subscribe();
+
+        blocker.tryEmitEmpty();
+
+        assertThat(started).containsExactly("interactive", "batch-1", "batch-2");
+    }
+
+    @Test
+    void rejectsWithRetryAfterWhenQueueIsFull() {
+        properties.setMaxQueueSize(1);
+        occupy();
+        call("queued", 1L, TilAiAdmissionQueue.Priority.INTERACTIVE).subscribe();
+
+        StepVerifier.create(call("rejected", 2L, TilAiAdmissionQueue.Priority.INTERACTIVE))
+                .expectErrorSatisfies(error -> {
+                    assertThat(error).isInstanceOf(TilException.TilAiQueueFullException.class);
+                    TilException.TilAiQueueFullException e =
+                            (TilException.TilAiQueueFullException) error;
+                    assertThat(e.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+                    // 대기 1건 + 본인 = 2회분 x 평균 처리 시간(초기값 1초)
+                    assertThat(e.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+                })
+                .verify();
+
+        assertThat(rejected("queue_full")).isEqualTo(1.0);
+        assertThat(started).isEmpty();
+    }
+
+    @Test
+    void rejectsAndLeavesQueueWhenMaxWaitElapses() {
+        properties.setMaxWait(Duration.ofMillis(50));
+        occupy();
+
+        StepVerifier.create(call("late", 1L, TilAiAdmissionQueue.Priority.BATCH))
+                .expectError(TilException.TilAiQueueFullException.class)
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(rejected("timeout")).isEqualTo(1.0);
+        assertThat(queued(TilAiAdmissionQueue.Priority.BATCH)).isZero();
+
+        // 시간이 지나 빠진 요청에는 자리를 넘기지 않음
+        blocker.tryEmitEmpty();
+        assertThat(started).isEmpty();
+        assertThat(running()).isZero();
+    }
+
+    private void occupy() {
+        queue.admit(blocker.asMono())
+                .contextWrite(TilAiAdmissionQueue.context(0L,
+                        TilAiAdmissionQueue.Priority.INTERACTIVE))
+                .subscribe();
+        assertThat(running()).isEqualTo(1.0);
+    }
+
+    private Mono<String> call(String label, Long userId, TilAiAdmissionQueue.Priority priority) {
+        return queue.admit(Mono.fromCallable(() -> {
+                    started.add(label);
+                    return label;
+                }))
+                .contextWrite(TilAiAdmissionQueue.context(userId, priority));
+    }
+
+    private double queued(TilAiAdmissionQueue.Priority priority) {
+        return meterRegistry.get("til.ai.admission.queue.depth")
+                .tag("priority", priority.name().toLowerCase())
+                .gauge()
+                .value();
+    }
+
+    private double running() {
+        return meterRegistry.get("til.ai.admission.running").gauge().value();
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("til.ai.admission.rejected")
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+}
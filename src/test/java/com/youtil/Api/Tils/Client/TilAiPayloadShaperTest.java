@@ -0,0 +1,148 @@
+package com.youtil.Api.Tils.Client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.youtil.Api.Tils.Dto.TilAiRequestDTO;
+import com.youtil.Config.TilAiPayloadProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TilAiPayloadShaperTest {
+
+    private TilAiPayloadProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private TilAiPayloadShaper shaper;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TilAiPayloadProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        shaper = new TilAiPayloadShaper(properties, meterRegistry);
+    }
+
+    @Test
+    void excludesBuildOutputOnlyAtRepositoryRoot() {
+        TilAiRequestDTO shaped = shaper.shape(request(
+                file("build/generated/QueryDsl.java", "class QueryDsl {}", "@@ -0,0 +1 @@"),
+                file("web/node_modules/react/index.js", "module.exports = {}", "@@ -0,0 +1 @@"),
+                file("package-lock.json", "{}", "@@ -1 +1 @@"),
+                file("src/main/java/com/example/build/BuildService.java", "class BuildService {}",
+                        "@@ -0,0 +1 @@"),
+                file("app/vendor/VendorController.java", "class VendorController {}",
+                        "@@ -0,0 +1 @@")));
+
+        // 소스 패키지 이름에 build, vendor가 들어 있어도 제외하지 않음
+        assertThat(shaped.getFiles()).extracting(TilAiRequestDTO.FileInfo::getFilepath)
+                .containsExactly("src/main/java/com/example/build/BuildService.java",
+                        "app/vendor/VendorController.java");
+        assertThat(filesCounter("excluded")).isEqualTo(3.0);
+    }
+
+    @Test
+    void excludesBinaryFileWithoutPatch() {
+        TilAiRequestDTO shaped = shaper.shape(request(
+                file("assets/logo.bin", "PNG\0\0data", null),
+                file("src/Main.java", "class Main {}", "@@ -0,0 +1 @@")));
+
+        assertThat(shaped.getFiles()).extracting(TilAiRequestDTO.FileInfo::getFilepath)
+                .containsExactly("src/Main.java");
+    }
+
+    @Test
+    void trimsLargeFileAroundHunksOfCommitItWasFetchedAt() {
+        properties.setFullFileMaxTokens(10);
+        properties.setContextLines(1);
+        String code = IntStream.rangeClosed(1, 100)
+                .mapToObj(i -> "line " + i)
+                .collect(Collectors.joining("\n"));
+
+        // 첫 번째 패치가 최신 코드를 조회한 커밋, 두 번째 패치의 줄 번호는 다른 시점 기준
+        TilAiRequestDTO shaped = shaper.shape(request(TilAiRequestDTO.FileInfo.builder()
+                .filepath("src/Main.java")
+                .latest_code(code)
+                .patches(List.of(patch("최신 커밋", "@@ -10,2 +10,3 @@\n+line 11"),
+                        patch("이전 커밋", "@@ -60,1 +60,1 @@\n-old\n+line 60")))
+                .build()));
+
+        assertThat(shaped.getFiles().get(0).getLatest_code()).isEqualTo("""
+                ... (8줄 생략) ...
+                line 9
+                line 10
+                line 11
+                line 12
+                line 13
+                ... (87줄 생략) ...
+                """);
+        assertThat(shaped.getFiles().get(0).getPatches()).hasSize(2);
+        assertThat(filesCounter("trimmed")).isEqualTo(1.0);
+    }
+
+    @Test
+    void keepsLargeFileWhenFetchedCommitHasNoPatch() {
+        properties.setFullFileMaxTokens(10);
+        String code = IntStream.rangeClosed(1, 100)
+                .mapToObj(i -> "line " + i)
+                .collect(Collectors.joining("\n"));
+
+        TilAiRequestDTO shaped = shaper.shape(request(TilAiRequestDTO.FileInfo.builder()
+                .filepath("src/Main.java")
+                .latest_code(code)
+                .patches(List.of(patch("패치가 너무 큰 커밋", null),
+                        patch("이전 커밋", "@@ -60,1 +60,1 @@\n-old\n+line 60")))
+                .build()));
+
+        assertThat(shaped.getFiles().get(0).getLatest_code()).isEqualTo(code);
+    }
+
+    @Test
+    void dropsLatestCodeOfLargestFilesBeforeDroppingPatches() {
+        properties.setMaxTokens(60);
+        TilAiRequestDTO shaped = shaper.shape(request(
+                file("A.java", "a".repeat(400), "+".repeat(40)),
+                file("B.java", "b".repeat(200), "+".repeat(40))));
+
+        assertThat(shaped.getFiles()).hasSize(2);
+        assertThat(shaped.getFiles()).allSatisfy(file -> {
+            assertThat(file.getLatest_code()).isEmpty();
+            assertThat(file.getPatches().get(0).getPatch()).hasSize(40);
+        });
+        assertThat(filesCounter("code_dropped")).isEqualTo(2.0);
+        assertThat(filesCounter("dropped")).isZero();
+    }
+
+    private double filesCounter(String decision) {
+        return meterRegistry.get("til.ai.payload.files")
+                .tag("decision", decision)
+                .counter()
+                .count();
+    }
+
+    private static TilAiRequestDTO request(TilAiRequestDTO.FileInfo... files) {
+        return TilAiRequestDTO.builder()
+                .username("octocat")
+                .date("2025-05-02")
+                .repo("youtil")
+                .title("크기 조정 테스트")
+                .files(List.of(files))
+                .build();
+    }
+
+    private static TilAiRequestDTO.FileInfo file(String path, String code, String patch) {
+        return TilAiRequestDTO.FileInfo.builder()
+                .filepath(path)
+                .latest_code(code)
+                .patches(List.of(patch("msg", patch)))
+                .build();
+    }
+
+    private static TilAiRequestDTO.PatchInfo patch(String message, String patch) {
+        return TilAiRequestDTO.PatchInfo.builder()
+                .commit_message(message)
+                .patch(patch)
+                .build();
+    }
+}
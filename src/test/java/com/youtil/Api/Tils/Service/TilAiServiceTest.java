@@ -0,0 +1,141 @@
+package com.youtil.Api.Tils.Service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.youtil.Api.Github.Dto.CommitDetailResponseDTO;
+import com.youtil.Api.Tils.Cache.TilAiResultCache;
+import com.youtil.Api.Tils.Client.TilAiAdmissionQueue;
+import com.youtil.Api.Tils.Client.TilAiPayloadShaper;
+import com.youtil.Api.Tils.Dto.TilAiRequestDTO;
+import com.youtil.Api.Tils.Dto.TilAiResponseDTO;
+import com.youtil.Config.TilAiAdmissionProperties;
+import com.youtil.Config.TilAiPayloadProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class TilAiServiceTest {
+
+    private static final TilAiResultCache.Key CACHE_KEY = new TilAiResultCache.Key("key", 100);
+
+    private static final String AI_STREAM = """
+            data:{"content":"오늘 배운","done":false}
+
+            data:{"content":" 내용","done":false}
+
+            data:{"keywords":["Reactor"],"done":true}
+
+            """;
+
+    private TilAiResultCache tilAiResultCache;
+    private final AtomicInteger aiCalls = new AtomicInteger();
+    private TilAiService tilAiService;
+
+    @BeforeEach
+    void setUp() {
+        tilAiResultCache = mock(TilAiResultCache.class);
+        when(tilAiResultCache.keyOf(any())).thenReturn(CACHE_KEY);
+        when(tilAiResultCache.get(CACHE_KEY)).thenReturn(Mono.empty());
+        when(tilAiResultCache.put(any(), any())).thenReturn(Mono.empty());
+
+        WebClient aiWebClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    aiCalls.incrementAndGet();
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+                            .body(AI_STREAM)
+                            .build());
+                })
+                .build();
+        tilAiService = new TilAiService(aiWebClient, tilAiResultCache,
+                new TilAiAdmissionQueue(new TilAiAdmissionProperties(), new SimpleMeterRegistry()),
+                new TilAiPayloadShaper(new TilAiPayloadProperties(), new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(tilAiService, "aiApiUrl", "http://ai.local");
+        ReflectionTestUtils.setField(tilAiService, "aiStreamPath", "/til/stream");
+    }
+
+    @Test
+    void streamsTokensThenDoneChunkWithFullContent() {
+        StepVerifier.create(tilAiService.streamTilContent(commitDetail(), 1L, "main", null, false))
+                .assertNext(chunk -> assertThat(chunk.getContent()).isEqualTo("오늘 배운"))
+                .assertNext(chunk -> assertThat(chunk.getContent()).isEqualTo(" 내용"))
+                .assertNext(chunk -> {
+                    assertThat(chunk.getDone()).isTrue();
+                    assertThat(chunk.getContent()).isEqualTo("오늘 배운 내용");
+                    assertThat(chunk.getKeywords()).containsExactly("Reactor");
+                })
+                .verifyComplete();
+
+        ArgumentCaptor<TilAiResponseDTO> cached = ArgumentCaptor.forClass(TilAiResponseDTO.class);
+        verify(tilAiResultCache).put(any(), cached.capture());
+        assertThat(cached.getValue().getContent()).isEqualTo("오늘 배운 내용");
+    }
+
+    @Test
+    void emitsCachedResultAsSingleDoneChunk() {
+        when(tilAiResultCache.get(CACHE_KEY)).thenReturn(Mono.just(TilAiResponseDTO.builder()
+                .content("캐시된 내용")
+                .keywords(List.of("Cache"))
+                .build()));
+
+        // 조각과 완료 이벤트에 같은 내용이 두 번 실리지 않아야 함
+        StepVerifier.create(tilAiService.streamTilContent(commitDetail(), 1L, "main", null, false))
+                .assertNext(chunk -> {
+                    assertThat(chunk.getDone()).isTrue();
+                    assertThat(chunk.getContent()).isEqualTo("캐시된 내용");
+                    assertThat(chunk.getKeywords()).containsExactly("Cache");
+                })
+                .verifyComplete();
+        assertThat(aiCalls).hasValue(0);
+    }
+
+    @Test
+    void streamAndNonStreamRequestsShareCacheKey() {
+        StepVerifier.create(tilAiService.streamTilContent(commitDetail(), 1L, "main", "", false)
+                        .then())
+                .verifyComplete();
+        StepVerifier.create(tilAiService.generateTilContent(commitDetail(), 1L, "main", "", false)
+                        .onErrorResume(e -> Mono.empty())
+                        .then())
+                .verifyComplete();
+
+        // 두 경로 모두 같은 방식으로 정리한 요청(기본 제목 포함)으로 캐시 키를 만듦
+        ArgumentCaptor<TilAiRequestDTO> requests = ArgumentCaptor.forClass(TilAiRequestDTO.class);
+        verify(tilAiResultCache, times(2)).keyOf(requests.capture());
+        assertThat(requests.getAllValues()).extracting("title")
+                .containsExactly("커밋 기반 TIL", "커밋 기반 TIL");
+        assertThat(requests.getAllValues().get(0)).isEqualTo(requests.getAllValues().get(1));
+    }
+
+    private static CommitDetailResponseDTO.CommitDetailResponse commitDetail() {
+        return CommitDetailResponseDTO.CommitDetailResponse.builder()
+                .username("octocat")
+                .date("2025-05-02")
+                .repo("youtil")
+                .files(List.of(CommitDetailResponseDTO.FileDetail.builder()
+                        .filepath("src/Main.java")
+                        .latest_code("class Main {}")
+                        .patches(List.of(CommitDetailResponseDTO.PatchDetail.builder()
+                                .commit_message("feat: 스트리밍")
+                                .patch("@@ -0,0 +1 @@\n+class Main {}")
+                                .build()))
+                        .build()))
+                .build();
+    }
+}
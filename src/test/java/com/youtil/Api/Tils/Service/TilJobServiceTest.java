@@ -0,0 +1,92 @@
+package com.youtil.Api.Tils.Service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.youtil.Api.Github.Service.GithubCommitDetailService;
+import com.youtil.Common.Enums.TilJobStatus;
+import com.youtil.Config.TilJobProperties;
+import com.youtil.Model.TilJob;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TilJobServiceTest {
+
+    private TilJobStore tilJobStore;
+    private TilJobProperties properties;
+    private TilJobService tilJobService;
+
+    @BeforeEach
+    void setUp() {
+        tilJobStore = mock(TilJobStore.class);
+        properties = new TilJobProperties();
+        tilJobService = new TilJobService(tilJobStore, mock(GithubCommitDetailService.class),
+                mock(TilAiService.class), new ObjectMapper(), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tilJobService.shutdown();
+    }
+
+    @Test
+    void reclaimsOwnJobsOnStartupWithoutWaitingForLease() {
+        when(tilJobStore.findClaimable(true)).thenReturn(List.of(job(1L)));
+        when(tilJobStore.claim(1L, true)).thenReturn(true);
+
+        tilJobService.resumeUnfinishedJobs();
+
+        // 재시작 전 자신이 점유한 작업은 바로 가져와 실행
+        verify(tilJobStore).claim(1L, true);
+        verify(tilJobStore, timeout(1000)).updateStatus(1L, TilJobStatus.fetching);
+    }
+
+    @Test
+    void periodicRecoveryOnlyTakesExpiredLeases() {
+        when(tilJobStore.findClaimable(false)).thenReturn(List.of(job(2L)));
+        when(tilJobStore.claim(2L, false)).thenReturn(false);
+
+        tilJobService.recoverExpiredJobs();
+
+        // 다른 인스턴스가 먼저 가져간 작업은 실행하지 않음
+        verify(tilJobStore).claim(2L, false);
+        verify(tilJobStore, never()).updateStatus(anyLong(), any());
+    }
+
+    @Test
+    void flagsDisableStartupResumeAndRecoverySeparately() {
+        properties.setResumeOnStartup(false);
+        tilJobService.resumeUnfinishedJobs();
+        verify(tilJobStore, never()).findClaimable(anyBoolean());
+
+        properties.setRecoveryEnabled(true);
+        tilJobService.recoverExpiredJobs();
+        verify(tilJobStore).findClaimable(false);
+    }
+
+    @Test
+    void releasesLeasesOnShutdown() {
+        tilJobService.shutdown();
+
+        // 종료 시 점유를 풀어 다른 인스턴스가 점유 만료를 기다리지 않고 이어서 실행
+        verify(tilJobStore).releaseAll();
+    }
+
+    private static TilJob job(Long id) {
+        return TilJob.builder()
+                .id(id)
+                .userId(10L)
+                .status(TilJobStatus.generating)
+                .request("{}")
+                .build();
+    }
+}
@@ -0,0 +1,164 @@
+package com.youtil.Config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class UpstreamResilienceTest {
+
+    private static final ClientRequest REQUEST = ClientRequest.create(HttpMethod.POST,
+            URI.create("http://ai.local/til/stream")).build();
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExchangeFilterFunction aiFilter;
+
+    @BeforeEach
+    void setUp() {
+        UpstreamResilienceProperties properties = new UpstreamResilienceProperties();
+        properties.setAi(new UpstreamResilienceProperties.Policy(1, Duration.ZERO,
+                Duration.ofSeconds(60)));
+        meterRegistry = new SimpleMeterRegistry();
+        aiFilter = new UpstreamResilience(properties, meterRegistry).aiFilter();
+    }
+
+    @Test
+    void holdsBulkheadPermitUntilStreamingBodyCompletes() {
+        Sinks.Many<DataBuffer> stream = Sinks.many().unicast().onBackpressureBuffer();
+        ExchangeFunction streaming = request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                .body(stream.asFlux())
+                .build());
+
+        // 응답 헤더를 받은 뒤 본문 스트림이 진행 중이면 다음 호출은 벌크헤드에서 거절됨
+        Flux<DataBuffer> body = aiFilter.filter(REQUEST, streaming)
+                .flatMapMany(response -> response.bodyToFlux(DataBuffer.class));
+        StepVerifier.create(body)
+                .then(() -> stream.tryEmitNext(buffer("data: 첫 토큰\n\n")))
+                .expectNextCount(1)
+                .then(() -> StepVerifier.create(aiFilter.filter(REQUEST, streaming))
+                        .expectError(BulkheadFullException.class)
+                        .verify())
+                .then(stream::tryEmitComplete)
+                .verifyComplete();
+
+        // 스트림이 끝나면 허가를 반환하여 다시 호출할 수 있음
+        StepVerifier.create(aiFilter.filter(REQUEST, request -> Mono.just(
+                        ClientResponse.create(HttpStatus.OK).body("{}").build()))
+                        .flatMap(response -> response.bodyToMono(String.class)))
+                .expectNext("{}")
+                .verifyComplete();
+    }
+
+    @Test
+    void releasesPermitAndSkipsOutcomeWhenStreamIsCancelled() {
+        ExchangeFunction endless = request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                .body(Flux.<DataBuffer>never().startWith(buffer("data: 토큰\n\n")))
+                .build());
+
+        StepVerifier.create(aiFilter.filter(REQUEST, endless)
+                        .flatMapMany(response -> response.bodyToFlux(DataBuffer.class)))
+                .expectNextCount(1)
+                .thenCancel()
+                .verify();
+
+        assertThat(availableCalls()).isEqualTo(1.0);
+        assertThat(calls("successful") + calls("failed")).isZero();
+    }
+
+    @Test
+    void recordsFailureWhenBodyFailsMidStream() {
+        ExchangeFunction broken = request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                .body(Flux.concat(Flux.just(buffer("data: 토큰\n\n")),
+                        Flux.error(new IllegalStateException("connection reset"))))
+                .build());
+
+        StepVerifier.create(aiFilter.filter(REQUEST, broken)
+                        .flatMapMany(response -> response.bodyToFlux(DataBuffer.class)))
+                .expectNextCount(1)
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        assertThat(calls("failed")).isEqualTo(1.0);
+        assertThat(availableCalls()).isEqualTo(1.0);
+    }
+
+    @Test
+    void recordsServerErrorAfterBodyIsRead() {
+        StepVerifier.create(aiFilter.filter(REQUEST, request -> Mono.just(
+                                ClientResponse.create(HttpStatus.BAD_GATEWAY).body("bad gateway")
+                                        .build()))
+                        .flatMap(response -> response.bodyToMono(String.class)))
+                .expectNext("bad gateway")
+                .verifyComplete();
+
+        assertThat(calls("failed")).isEqualTo(1.0);
+        assertThat(availableCalls()).isEqualTo(1.0);
+    }
+
+    @Test
+    void waitsForFreedPermitWithoutBlockingSubscriber() {
+        UpstreamResilienceProperties properties = new UpstreamResilienceProperties();
+        properties.setAi(new UpstreamResilienceProperties.Policy(1, Duration.ofSeconds(5),
+                Duration.ofSeconds(60)));
+        ExchangeFilterFunction waitingFilter = new UpstreamResilience(properties,
+                new SimpleMeterRegistry()).aiFilter();
+        Sinks.Many<DataBuffer> stream = Sinks.many().unicast().onBackpressureBuffer();
+        waitingFilter.filter(REQUEST, request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .body(stream.asFlux())
+                        .build()))
+                .flatMapMany(response -> response.bodyToFlux(DataBuffer.class))
+                .subscribe();
+
+        // 자리가 없어도 구독한 스레드를 막지 않고 바로 반환
+        long subscribedAt = System.nanoTime();
+        Mono<String> waiting = waitingFilter.filter(REQUEST, request -> Mono.just(
+                        ClientResponse.create(HttpStatus.OK).body("{}").build()))
+                .flatMap(response -> response.bodyToMono(String.class))
+                .cache();
+        waiting.subscribe();
+        assertThat(Duration.ofNanos(System.nanoTime() - subscribedAt))
+                .isLessThan(Duration.ofMillis(100));
+
+        // 앞선 스트림이 끝나 자리가 나면 대기 중인 호출이 이어서 실행됨
+        stream.tryEmitComplete();
+        StepVerifier.create(waiting)
+                .expectNext("{}")
+                .verifyComplete();
+    }
+
+    private double availableCalls() {
+        return meterRegistry.get("resilience4j.bulkhead.available.concurrent.calls")
+                .tag("name", UpstreamResilience.AI)
+                .gauge()
+                .value();
+    }
+
+    private double calls(String kind) {
+        return meterRegistry.get("resilience4j.circuitbreaker.calls")
+                .tag("name", UpstreamResilience.AI)
+                .tag("kind", kind)
+                .timer()
+                .count();
+    }
+
+    private static DataBuffer buffer(String text) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+}